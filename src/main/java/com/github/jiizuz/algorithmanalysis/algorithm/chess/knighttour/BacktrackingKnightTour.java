@@ -0,0 +1,528 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.chess.knighttour;
+
+import com.github.jiizuz.algorithmanalysis.algorithm.chess.util.KnightMoves;
+import com.github.jiizuz.algorithmanalysis.algorithm.chess.util.KnightUtils;
+import com.github.jiizuz.algorithmanalysis.util.ImmutablePoint;
+import com.github.jiizuz.algorithmanalysis.util.Point;
+import com.google.common.collect.ImmutableList;
+import lombok.Builder;
+import lombok.NonNull;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Depth-first search of knight's tours that backtracks on dead ends, so
+ * unlike the heuristics it finds a tour whenever one exists, and it can
+ * enumerate every tour from a start square on small boards.
+ *
+ * <p>The recursion is replaced by an explicit stack of the candidate moves
+ * of each depth. The candidates are tried in the order of the Warnsdorff's
+ * rule, fewest onward moves first, which finds a first tour almost without
+ * backtracking. A branch is pruned as soon as an unvisited square becomes
+ * a dead end before the last move, or some unvisited square can no longer
+ * be reached from the knight.
+ *
+ * <p>When {@link #closed} the tour must be re-entrant, its last square must
+ * be a knight's move away from the first one, so a branch is also pruned
+ * when the start square has no unvisited neighbors left to return from.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @see com.github.jiizuz.algorithmanalysis.algorithm.chess.knighttour.KnightTour
+ * @since 1.7
+ */
+@Builder
+public class BacktrackingKnightTour implements KnightTour {
+
+    /**
+     * Default size of a chessboard.
+     */
+    public static final int DEFAULT_SIZE = 8;
+
+    /**
+     * Width of the table. (squares)
+     */
+    @Builder.Default
+    private int width = DEFAULT_SIZE;
+
+    /**
+     * Height of the table. (squares)
+     */
+    @Builder.Default
+    private int height = DEFAULT_SIZE;
+
+    /**
+     * Whether the tours must be closed, ending a knight's move away from the start.
+     */
+    @Builder.Default
+    private boolean closed = false;
+
+    /**
+     * Amount of nodes, squares moved to, of the last search.
+     */
+    private final AtomicLong lastNodes = new AtomicLong();
+
+    /**
+     * Nanoseconds spent by the last search.
+     */
+    private final AtomicLong lastNanos = new AtomicLong();
+
+    /**
+     * Creates a new {@link BacktrackingKnightTour} with the specified configuration.
+     *
+     * @param width  width of the table
+     * @param height height of the table
+     * @param closed whether the tours must be closed
+     * @throws IllegalArgumentException if either the width or height are negative or zero
+     */
+    public BacktrackingKnightTour(final int width, final int height, final boolean closed) {
+        checkArgument(width > 0, "width <= 0", width);
+        checkArgument(height > 0, "height <= 0", height);
+
+        this.width = width;
+        this.height = height;
+        this.closed = closed;
+    }
+
+    /**
+     * Creates a new {@link BacktrackingKnightTour} with the specified configuration.
+     *
+     * @param width  width of the table
+     * @param height height of the table
+     * @throws IllegalArgumentException if either the width or height are negative or zero
+     * @apiNote The tours will not be forced to be closed.
+     */
+    public BacktrackingKnightTour(final int width, final int height) {
+        this(width, height, false);
+    }
+
+    /**
+     * Creates a new {@link BacktrackingKnightTour} with the specified configuration.
+     *
+     * @param size size of the table a.k.a. <i>n</i>
+     * @throws IllegalArgumentException if the size is negative or zero
+     * @apiNote The tours will not be forced to be closed.
+     */
+    public BacktrackingKnightTour(final int size) {
+        this(size, size);
+    }
+
+    /**
+     * Creates a new {@link BacktrackingKnightTour} with the default configuration.
+     *
+     * <p>The size of the board will be {@link #DEFAULT_SIZE}.
+     *
+     * @see #DEFAULT_SIZE
+     */
+    public BacktrackingKnightTour() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the starting point is not on the board
+     * @throws IllegalStateException    if there is no tour from the starting point
+     */
+    @NonNull
+    @Override
+    public List<Point> findTour(final @NonNull Point from) {
+        checkArgument(isOnBoard(from.getX(), from.getY()), "start point is not on the board", from);
+
+        final int[] tour = findTour(from.getY() * width + from.getX());
+
+        final ImmutableList.Builder<Point> points = ImmutableList.builderWithExpectedSize(tour.length);
+        for (final int square : tour) {
+            points.add(ImmutablePoint.of(square % width, square / width));
+        }
+        return points.build();
+    }
+
+    /**
+     * Finds a knight's tour using the specified square as the start of the knight.
+     *
+     * @param start square index, {@code y * width + x}, of the knight
+     * @return the square indices of the tour, in order
+     * @throws IllegalArgumentException if the start is not on the board
+     * @throws IllegalStateException    if there is no tour from the start
+     */
+    public int @NonNull [] findTour(final int start) {
+        final int[][] found = new int[1][];
+        search(start, tour -> found[0] = tour.clone(), false);
+
+        if (found[0] == null) {
+            throw new IllegalStateException("there is no tour from the start square");
+        }
+        return found[0];
+    }
+
+    /**
+     * Enumerates every tour from the specified start square, passing each one to the consumer.
+     *
+     * <p>The amount of tours grows very fast with the board, this is only
+     * feasible on small boards. (e.g. 304 open tours from a corner of a 5x5 board)
+     *
+     * @param start    square index, {@code y * width + x}, of the knight
+     * @param consumer to accept the square indices of each tour, the array is
+     *                 reused by the search so it must be copied to be kept
+     * @return the amount of tours found
+     * @throws NullPointerException     if the consumer is <tt>null</tt>
+     * @throws IllegalArgumentException if the start is not on the board
+     */
+    public long enumerateTours(final int start, final @NonNull Consumer<int[]> consumer) {
+        return search(start, consumer, true);
+    }
+
+    /**
+     * Amount of nodes, squares moved to, visited by the last search.
+     *
+     * @return the nodes of the last search
+     */
+    public long getNodes() {
+        return lastNodes.get();
+    }
+
+    /**
+     * Throughput of the last search, in nodes per second.
+     *
+     * @return the nodes per second of the last search
+     */
+    public double getNodesPerSecond() {
+        final long nanos = lastNanos.get();
+        return nanos == 0L ? 0.0D : lastNodes.get() * 1.0E9D / nanos;
+    }
+
+    /**
+     * Searches the tours from the specified start square.
+     *
+     * @param start    square of the knight
+     * @param consumer to accept each tour found
+     * @param all      whether to keep searching after the first tour
+     * @return the amount of tours found
+     */
+    private long search(final int start, final Consumer<int[]> consumer, final boolean all) {
+        final int squares = width * height;
+        checkArgument(start >= 0 && start < squares, "start square is not on the board", start);
+
+        final long begin = System.nanoTime();
+        final Search search = new Search(start);
+        try {
+            return search.run(consumer, all);
+        } finally {
+            lastNanos.set(System.nanoTime() - begin);
+            lastNodes.set(search.nodes);
+        }
+    }
+
+    /**
+     * Squared distance, doubled on each axis, from the specified square to the center of the board.
+     *
+     * @param square to compute the distance from
+     * @return the distance to the center
+     */
+    private long distanceToCenter(final int square) {
+        final long dx = 2L * (square % width) - (width - 1);
+        final long dy = 2L * (square / width) - (height - 1);
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Returns whether the specified point is in bounds of the chess board.
+     *
+     * @param x value on the X axis of the point
+     * @param y value on the Y axis of the point
+     * @return <tt>true</tt> if the point is in bounds of the board
+     */
+    private boolean isOnBoard(final int x, final int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    /**
+     * State of a single search: the board, the path and the explicit stack.
+     *
+     * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+     * @since 1.7
+     */
+    private final class Search {
+
+        /**
+         * Maximum amount of moves from a square.
+         */
+        private static final int MOVES = 8;
+
+        /**
+         * Square the tours start from.
+         */
+        private final int start;
+
+        /**
+         * Amount of squares of the board.
+         */
+        private final int squares;
+
+        /**
+         * Valid moves of each square.
+         */
+        private final KnightMoves moves;
+
+        /**
+         * Whether each square was visited by the current path.
+         */
+        private final boolean[] visited;
+
+        /**
+         * Unvisited neighbors of each square, visited or not.
+         */
+        private final byte[] free;
+
+        /**
+         * Whether each square is a knight's move away from the start.
+         */
+        private final boolean[] returns;
+
+        /**
+         * Squares of the current path, by depth.
+         */
+        private final int[] path;
+
+        /**
+         * Candidate moves of each depth, the ones of the depth {@code d} start at {@code d * MOVES}.
+         */
+        private final int[] candidates;
+
+        /**
+         * Amount of candidate moves of each depth.
+         */
+        private final int[] counts;
+
+        /**
+         * Next candidate move to try of each depth.
+         */
+        private final int[] next;
+
+        /**
+         * Queue of the flood fill of the connectivity check.
+         */
+        private final int[] queue;
+
+        /**
+         * Stamp of the last flood fill that reached each square, to avoid clearing.
+         */
+        private final int[] reached;
+
+        /**
+         * Stamp of the current flood fill.
+         */
+        private int stamp;
+
+        /**
+         * Amount of nodes, squares moved to, of this search.
+         */
+        private long nodes;
+
+        /**
+         * Creates the state of a search from the specified square.
+         *
+         * @param start square of the knight
+         */
+        private Search(final int start) {
+            this.start = start;
+            this.squares = width * height;
+
+            moves = KnightUtils.getMoves(width, height);
+
+            visited = new boolean[squares];
+            free = new byte[squares];
+            returns = new boolean[squares];
+            for (int square = 0; square < squares; ++square) {
+                free[square] = (byte) moves.getDegree(square);
+            }
+            for (int k = moves.getStart(start), end = moves.getEnd(start); k < end; ++k) {
+                returns[moves.getNeighbor(k)] = true;
+            }
+
+            path = new int[squares];
+            candidates = new int[squares * MOVES];
+            counts = new int[squares];
+            next = new int[squares];
+            queue = new int[squares];
+            reached = new int[squares];
+        }
+
+        /**
+         * Runs the depth-first search.
+         *
+         * @param consumer to accept each tour found
+         * @param all      whether to keep searching after the first tour
+         * @return the amount of tours found
+         */
+        private long run(final Consumer<int[]> consumer, final boolean all) {
+            long tours = 0L;
+
+            int depth = 0;
+            path[0] = start;
+            visit(start);
+            ++nodes;
+            expand(0);
+
+            while (depth >= 0) {
+                if (depth == squares - 1) { // complete path
+                    if (!closed || returns[path[depth]]) {
+                        ++tours;
+                        consumer.accept(path);
+                        if (!all) {
+                            return tours;
+                        }
+                    }
+                    leave(path[depth--]);
+                    continue;
+                }
+
+                if (next[depth] == counts[depth]) { // exhausted, backtrack
+                    leave(path[depth--]);
+                    continue;
+                }
+
+                final int to = candidates[depth * MOVES + next[depth]++];
+                path[++depth] = to;
+                visit(to);
+                ++nodes;
+
+                if (isDeadEnd(depth)) {
+                    leave(path[depth--]);
+                    continue;
+                }
+
+                expand(depth);
+            }
+
+            return tours;
+        }
+
+        /**
+         * Marks the specified square as visited.
+         *
+         * @param square to visit
+         */
+        private void visit(final int square) {
+            visited[square] = true;
+            for (int k = moves.getStart(square), end = moves.getEnd(square); k < end; ++k) {
+                --free[moves.getNeighbor(k)];
+            }
+        }
+
+        /**
+         * Marks the specified square as unvisited again.
+         *
+         * @param square to leave
+         */
+        private void leave(final int square) {
+            visited[square] = false;
+            for (int k = moves.getStart(square), end = moves.getEnd(square); k < end; ++k) {
+                ++free[moves.getNeighbor(k)];
+            }
+        }
+
+        /**
+         * Fills the candidate moves of the specified depth, in the order of the Warnsdorff's rule.
+         *
+         * @param depth to fill the candidates of
+         */
+        private void expand(final int depth) {
+            final int at = path[depth];
+            final int base = depth * MOVES;
+            int count = 0;
+
+            for (int k = moves.getStart(at), end = moves.getEnd(at); k < end; ++k) {
+                final int candidate = moves.getNeighbor(k);
+                if (visited[candidate]) {
+                    continue;
+                }
+
+                // insertion sort, fewest onward moves first, then farthest from the center
+                int i = base + count++;
+                while (i > base && isBefore(candidate, candidates[i - 1])) {
+                    candidates[i] = candidates[i - 1];
+                    --i;
+                }
+                candidates[i] = candidate;
+            }
+
+            counts[depth] = count;
+            next[depth] = 0;
+        }
+
+        /**
+         * Returns whether the specified square should be tried before the other one.
+         *
+         * @param square to compare
+         * @param other  to compare against
+         * @return <tt>true</tt> if the square goes first
+         */
+        private boolean isBefore(final int square, final int other) {
+            return free[square] < free[other]
+                    || free[square] == free[other] && distanceToCenter(square) > distanceToCenter(other);
+        }
+
+        /**
+         * Returns whether the path up to the specified depth can not be completed.
+         *
+         * @param depth of the last square of the path
+         * @return <tt>true</tt> if the branch must be pruned
+         */
+        private boolean isDeadEnd(final int depth) {
+            final int remaining = squares - depth - 1;
+            if (remaining == 0) {
+                return false;
+            }
+
+            if (closed && free[start] == 0) { // no way back to the start
+                return true;
+            }
+
+            // an unvisited neighbor without onward moves can only be the last square
+            final int at = path[depth];
+            if (remaining > 1) {
+                for (int k = moves.getStart(at), end = moves.getEnd(at); k < end; ++k) {
+                    final int neighbor = moves.getNeighbor(k);
+                    if (!visited[neighbor] && free[neighbor] == 0) {
+                        return true;
+                    }
+                }
+            }
+
+            return countReachable(at) < remaining;
+        }
+
+        /**
+         * Counts the unvisited squares reachable from the specified square through unvisited squares.
+         *
+         * @param from square to flood fill from
+         * @return the amount of reachable unvisited squares
+         */
+        private int countReachable(final int from) {
+            ++stamp;
+
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = from;
+            reached[from] = stamp;
+
+            while (head < tail) {
+                final int square = queue[head++];
+                for (int k = moves.getStart(square), end = moves.getEnd(square); k < end; ++k) {
+                    final int neighbor = moves.getNeighbor(k);
+                    if (!visited[neighbor] && reached[neighbor] != stamp) {
+                        reached[neighbor] = stamp;
+                        queue[tail++] = neighbor;
+                    }
+                }
+            }
+
+            return tail - 1; // the square of the knight is not unvisited
+        }
+    }
+}
@@ -1,15 +1,25 @@
 package com.github.jiizuz.algorithmanalysis.algorithm.chess.knighttour;
 
+import com.github.jiizuz.algorithmanalysis.algorithm.chess.util.KnightMoves;
 import com.github.jiizuz.algorithmanalysis.algorithm.chess.util.KnightUtils;
+import com.github.jiizuz.algorithmanalysis.util.ImmutablePoint;
 import com.github.jiizuz.algorithmanalysis.util.Point;
 import com.google.common.collect.ImmutableList;
-import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import com.google.common.collect.Lists;
 import lombok.Builder;
 import lombok.NonNull;
 
 import java.util.List;
 import java.util.Random;
-import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
@@ -23,6 +33,10 @@ import static com.google.common.base.Preconditions.checkArgument;
  * the problem, which can be solved "by using human insight and
  * ingenuity... without much difficulty."
  *
+ * <p>Each restart is independent of the others, so they can run on many
+ * threads at once with {@link #parallelism}, the first complete tour wins.
+ * The restarts per second of the last search are exposed to see the scaling.
+ *
  * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
  * @see com.github.jiizuz.algorithmanalysis.algorithm.chess.knighttour.KnightTour
  * @since 1.5
@@ -35,6 +49,11 @@ public class BruteForceKnightTour implements KnightTour {
      */
     public static final int DEFAULT_SIZE = 8;
 
+    /**
+     * Default amount of threads running restarts.
+     */
+    public static final int DEFAULT_PARALLELISM = 1;
+
     /**
      * {@link Random} utility to generate pseudo-random numbers.
      */
@@ -60,24 +79,59 @@ public class BruteForceKnightTour implements KnightTour {
     @Builder.Default
     private int height = DEFAULT_SIZE;
 
+    /**
+     * Amount of threads running restarts at the same time, each one
+     * with its own {@link SplittableRandom} split from the {@link #random}.
+     */
+    @Builder.Default
+    private int parallelism = DEFAULT_PARALLELISM;
+
+    /**
+     * Amount of restarts done by the last search.
+     */
+    private final AtomicLong lastRestarts = new AtomicLong();
+
+    /**
+     * Nanoseconds spent by the last search.
+     */
+    private final AtomicLong lastNanos = new AtomicLong();
+
     /**
      * Creates a new {@link BruteForceKnightTour} with the specified configuration.
      *
-     * @param random     utility to generate pseudo-random numbers
-     * @param forceStart whether force start point on the tours
-     * @param width      width of the table
-     * @param height     height of the table
+     * @param random      utility to generate pseudo-random numbers
+     * @param forceStart  whether force start point on the tours
+     * @param width       width of the table
+     * @param height      height of the table
+     * @param parallelism amount of threads running restarts
      * @throws NullPointerException     if the random is <tt>null</tt>
-     * @throws IllegalArgumentException if either the width or height are negative or zero
+     * @throws IllegalArgumentException if either the width, height or parallelism are negative or zero
      */
-    public BruteForceKnightTour(final @NonNull Random random, final boolean forceStart, final int width, final int height) {
+    public BruteForceKnightTour(final @NonNull Random random, final boolean forceStart, final int width, final int height, final int parallelism) {
         checkArgument(width > 0, "width <= 0", width);
-        checkArgument(height > 0, "width <= 0", height);
+        checkArgument(height > 0, "height <= 0", height);
+        checkArgument(parallelism > 0, "parallelism <= 0", parallelism);
 
         this.random = random;
         this.forceStart = forceStart;
         this.width = width;
         this.height = height;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Creates a new {@link BruteForceKnightTour} with the specified configuration.
+     *
+     * @param random     utility to generate pseudo-random numbers
+     * @param forceStart whether force start point on the tours
+     * @param width      width of the table
+     * @param height     height of the table
+     * @throws NullPointerException     if the random is <tt>null</tt>
+     * @throws IllegalArgumentException if either the width or height are negative or zero
+     * @apiNote The restarts will run on a single thread.
+     */
+    public BruteForceKnightTour(final @NonNull Random random, final boolean forceStart, final int width, final int height) {
+        this(random, forceStart, width, height, DEFAULT_PARALLELISM);
     }
 
     /**
@@ -221,49 +275,246 @@ public class BruteForceKnightTour implements KnightTour {
 
     /**
      * {@inheritDoc}
+     *
+     * <p>The visited squares are kept in a {@code long} bitboard when the board has
+     * at most 64 squares, or in a {@code long[]} bitset otherwise, and the squares
+     * are handled as {@code int} indices, {@code y * width + x}, with the legal moves
+     * of each square precomputed, so a walk allocates nothing and a restart only
+     * clears the visited words.
+     *
+     * @throws IllegalArgumentException if the starting point is not on the board
      */
     @NonNull
     @Override
     public List<Point> findTour(final @NonNull Point start) {
-        final Set<Point> tour = new ObjectLinkedOpenHashSet<>(width * height);
+        checkArgument(isOnBoard(start), "start point is not on the board", start);
+
+        final int[] tour = findTour(start.getY() * width + start.getX());
+
+        final ImmutableList.Builder<Point> points = ImmutableList.builderWithExpectedSize(tour.length);
+        for (final int square : tour) {
+            points.add(ImmutablePoint.of(square % width, square / width));
+        }
+        return points.build();
+    }
+
+    /**
+     * Finds a knight's tour using the specified square as the start of the knight.
+     *
+     * <p>When the {@link #parallelism} is bigger than one, the restarts run on that
+     * many threads, the first thread to complete a tour raises a flag that cancels
+     * the others at their next restart.
+     *
+     * @param start square index, {@code y * width + x}, of the knight
+     * @return the square indices of the tour, in order
+     * @throws IllegalArgumentException if the start is not on the board
+     * @throws IllegalStateException    if interrupted while waiting the threads
+     */
+    public int @NonNull [] findTour(final int start) {
+        final int squares = width * height;
+        checkArgument(start >= 0 && start < squares, "start square is not on the board", start);
+
+        final KnightMoves moves = KnightUtils.getMoves(width, height);
+
+        final SplittableRandom seed = new SplittableRandom(random.nextLong());
+        final AtomicBoolean found = new AtomicBoolean();
+        final LongAdder restarts = new LongAdder();
 
-        final Point at = new Point();
-        at.copy(start);
+        final long begin = System.nanoTime();
+        try {
+            if (parallelism == 1) {
+                return walk(start, moves, seed, found, restarts);
+            }
+
+            final AtomicReference<int[]> winner = new AtomicReference<>();
+            final ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+            try {
+                final List<Future<?>> futures = Lists.newArrayListWithCapacity(parallelism);
+                for (int k = 0; k < parallelism; ++k) {
+                    final SplittableRandom workerRandom = seed.split();
+                    futures.add(executor.submit(() -> {
+                        try {
+                            final int[] tour = walk(start, moves, workerRandom, found, restarts);
+                            if (tour != null && found.compareAndSet(false, true)) {
+                                winner.set(tour);
+                            }
+                        } catch (final RuntimeException e) {
+                            found.set(true); // release the other threads
+                            throw e;
+                        }
+                    }));
+                }
+                for (final Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("interrupted while searching the tour", e);
+            } catch (final ExecutionException e) {
+                throw new IllegalStateException("a search thread failed", e.getCause());
+            } finally {
+                found.set(true);
+                executor.shutdownNow();
+            }
 
-        // first point
-        tour.add(at.clone());
+            return winner.get();
+        } finally {
+            lastNanos.set(System.nanoTime() - begin);
+            lastRestarts.set(restarts.sum());
+        }
+    }
+
+    /**
+     * Amount of restarts, failed random walks, done by the last search.
+     *
+     * @return the restarts of the last search
+     */
+    public long getRestarts() {
+        return lastRestarts.get();
+    }
+
+    /**
+     * Throughput of the last search, in restarts per second among all its threads.
+     *
+     * @return the restarts per second of the last search
+     */
+    public double getRestartsPerSecond() {
+        final long nanos = lastNanos.get();
+        return nanos == 0L ? 0.0D : lastRestarts.get() * 1.0E9D / nanos;
+    }
+
+    /**
+     * Walks randomly from the specified start until a tour is completed, or
+     * until another thread raises the specified flag.
+     *
+     * @param start    square of the knight
+     * @param moves    valid moves of each square
+     * @param random   to generate the pseudo-random moves of this thread
+     * @param found    flag raised when a tour was found
+     * @param restarts to add the restarts of this thread to
+     * @return the square indices of the tour, or {@code null} if cancelled
+     */
+    private int[] walk(final int start, final KnightMoves moves, final SplittableRandom random,
+                       final AtomicBoolean found, final LongAdder restarts) {
+        return moves.hasMasks()
+                ? findTourOnBitboard(start, moves, random, found, restarts)
+                : findTourOnBitset(start, moves, random, found, restarts);
+    }
+
+    /**
+     * Finds a knight's tour keeping the visited squares in a single {@code long},
+     * the board must have at most 64 squares.
+     *
+     * @param start    square of the knight
+     * @param moves    valid moves of each square, with bitboards
+     * @param random   to generate the pseudo-random moves
+     * @param found    flag raised when a tour was found
+     * @param restarts to add the restarts done to
+     * @return the square indices of the tour, or {@code null} if cancelled
+     */
+    private int[] findTourOnBitboard(final int start, final KnightMoves moves, final SplittableRandom random,
+                                     final AtomicBoolean found, final LongAdder restarts) {
+        final int squares = width * height;
+
+        final int[] tour = new int[squares];
+        int size = 0;
+        long attempts = 0L;
+
+        int at = start;
+        long visited = 0L;
+
+        while (true) { // infinite loop, recursion will throw StackOverflow
+            visited |= 1L << at;
+            tour[size++] = at;
+
+            long possible = moves.getMask(at) & ~visited;
+
+            if (possible == 0L) {
+                if (size == squares) { // successful tour
+                    restarts.add(attempts);
+                    return tour;
+                } // failed tour, reset
+
+                ++attempts;
+                if (found.get()) { // another thread won
+                    restarts.add(attempts);
+                    return null;
+                }
+
+                visited = 0L;
+                size = 0;
+
+                at = forceStart ? start : random.nextInt(squares); // reset start point
+            } else {
+                // random potential move, drop the lowest bits until the chosen one
+                for (int skip = random.nextInt(Long.bitCount(possible)); skip > 0; --skip) {
+                    possible &= possible - 1;
+                }
+                at = Long.numberOfTrailingZeros(possible);
+            }
+        }
+    }
+
+    /**
+     * Finds a knight's tour keeping the visited squares in a {@code long[]} bitset.
+     *
+     * @param start    square of the knight
+     * @param moves    valid moves of each square
+     * @param random   to generate the pseudo-random moves
+     * @param found    flag raised when a tour was found
+     * @param restarts to add the restarts done to
+     * @return the square indices of the tour, or {@code null} if cancelled
+     */
+    private int[] findTourOnBitset(final int start, final KnightMoves moves, final SplittableRandom random,
+                                   final AtomicBoolean found, final LongAdder restarts) {
+        final int squares = width * height;
+
+        final long[] visited = new long[(squares + Long.SIZE - 1) >>> 6];
+        final int[] tour = new int[squares];
+        int size = 0;
+        long attempts = 0L;
 
         // auxiliary data
         final int[] possible = new int[KnightUtils.POSSIBLE_MOVES.length];
-        final Point aux = new Point();
         int iPossible; // index of #possible
-        int i;
+
+        int at = start;
 
         while (true) { // infinite loop, recursion will throw StackOverflow
+            visited[at >>> 6] |= 1L << at;
+            tour[size++] = at;
 
             iPossible = 0;
-            for (i = 0; i < KnightUtils.POSSIBLE_MOVES.length; ++i) { // find potential moves
-                aux.copy(at).add(KnightUtils.POSSIBLE_MOVES[i]);
-
-                if (isOnBoard(aux) && !tour.contains(aux)) {
-                    possible[iPossible++] = i;
+            for (int k = moves.getStart(at), end = moves.getEnd(at); k < end; ++k) { // find potential moves
+                final int square = moves.getNeighbor(k);
+                if ((visited[square >>> 6] & (1L << square)) == 0L) {
+                    possible[iPossible++] = square;
                 }
             }
 
             if (iPossible == 0) {
-                if (tour.size() == width * height) { // successful tour
-                    return ImmutableList.copyOf(tour);
+                if (size == squares) { // successful tour
+                    restarts.add(attempts);
+                    return tour;
                 } // failed tour, reset
 
-                tour.clear(); // dump data
+                ++attempts;
+                if (found.get()) { // another thread won
+                    restarts.add(attempts);
+                    return null;
+                }
+
+                // only the words of the walked squares are dirty
+                for (int i = 0; i < size; ++i) {
+                    visited[tour[i] >>> 6] = 0L;
+                }
+                size = 0;
 
-                at.copy(forceStart ? start : generateRandomPoint(random)); // reset start point
+                at = forceStart ? start : random.nextInt(squares); // reset start point
             } else {
                 // add random potential move
-                at.add(KnightUtils.POSSIBLE_MOVES[possible[random.nextInt(iPossible)]]);
+                at = possible[random.nextInt(iPossible)];
             }
-
-            tour.add(at.clone());
         }
     }
 
@@ -289,25 +540,4 @@ public class BruteForceKnightTour implements KnightTour {
     private boolean isOnBoard(final int x, final int y) {
         return x >= 0 && x < width && y >= 0 && y < height;
     }
-
-    /**
-     * Generates a new valid pseudo-random point over the board.
-     *
-     * @param random to generate pseudo-random values
-     * @return the new generated {@link Point}
-     */
-    @NonNull
-    private Point generateRandomPoint(final @NonNull Random random) {
-        return new Point(random.nextInt(width), random.nextInt(height));
-    }
-
-    /**
-     * Generates a new valid pseudo-random point over the board.
-     *
-     * @return the new generated {@link Point}
-     */
-    @NonNull
-    private Point generateRandomPoint() {
-        return generateRandomPoint(new Random());
-    }
 }
@@ -0,0 +1,721 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.chess.knighttour;
+
+import com.github.jiizuz.algorithmanalysis.algorithm.chess.util.KnightUtils;
+import com.github.jiizuz.algorithmanalysis.util.ImmutablePoint;
+import com.github.jiizuz.algorithmanalysis.util.Point;
+import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import lombok.Builder;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Divide and conquer {@link KnightTour} for very large boards, made of closed
+ * tours of small blocks stitched together into a single closed tour.
+ *
+ * <p>The board is split in blocks from 6x6 up to 11x11 squares, each block is
+ * toured with a closed tour of its size, found once per size by the
+ * {@link BacktrackingKnightTour}. The blocks are chained in a snake order, row
+ * by row, and each block is merged into the tour of the previous ones with an
+ * exchange of two edges near their shared side: the edge {@code a1 -> a2} of
+ * the previous block and the edge {@code b1 -> b2} of the next one are removed,
+ * and the moves {@code a1 -> b2} and {@code b1 -> a2} are added, so the next
+ * block is traversed completely between {@code a1} and {@code a2}.
+ *
+ * <p>Only the stitches of each block are stored, so the successor of any square
+ * is computed locally from its block and the tour is streamed square by square,
+ * with {@code O(width + height + blocks)} memory instead of per square state.
+ * The closed tour exists when both sides are at least 6 and not both odd.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @see com.github.jiizuz.algorithmanalysis.algorithm.chess.knighttour.KnightTour
+ * @since 1.7
+ */
+@Builder
+public class StitchedKnightTour implements KnightTour {
+
+    /**
+     * Default size of a chessboard.
+     */
+    public static final int DEFAULT_SIZE = 8;
+
+    /**
+     * Smallest side of a block.
+     */
+    private static final int MIN_BLOCK = 6;
+
+    /**
+     * Biggest side of a block.
+     */
+    private static final int MAX_BLOCK = 11;
+
+    /**
+     * Side of the blocks of the bulk of the board.
+     */
+    private static final int BLOCK = 8;
+
+    /**
+     * Bytes written per mapped region of the file, a mapping is limited to {@link Integer#MAX_VALUE}.
+     */
+    private static final int REGION_BYTES = 1 << 28;
+
+    /**
+     * Width of the table. (squares)
+     */
+    @Builder.Default
+    private int width = DEFAULT_SIZE;
+
+    /**
+     * Height of the table. (squares)
+     */
+    @Builder.Default
+    private int height = DEFAULT_SIZE;
+
+    /**
+     * Closed tour of each block size, by {@code width * 16 + height}.
+     */
+    private final Map<Integer, Template> templates = new Int2ObjectOpenHashMap<>();
+
+    /**
+     * Creates a new {@link StitchedKnightTour} with the specified configuration.
+     *
+     * @param width  width of the table
+     * @param height height of the table
+     * @throws IllegalArgumentException if either the width or height are smaller than 6
+     * @throws IllegalArgumentException if both the width and height are odd
+     * @throws IllegalArgumentException if the board has more than {@link Integer#MAX_VALUE} squares
+     */
+    public StitchedKnightTour(final int width, final int height) {
+        checkArgument(width >= MIN_BLOCK, "width < 6", width);
+        checkArgument(height >= MIN_BLOCK, "height < 6", height);
+        checkArgument((width & height & 1) == 0, "there is no closed tour if both sides are odd", width, height);
+        checkArgument((long) width * height <= Integer.MAX_VALUE, "too many squares", width, height);
+
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Creates a new {@link StitchedKnightTour} with the specified configuration.
+     *
+     * @param size size of the table a.k.a. <i>n</i>
+     * @throws IllegalArgumentException if the size is smaller than 6
+     * @throws IllegalArgumentException if the size is odd
+     */
+    public StitchedKnightTour(final int size) {
+        this(size, size);
+    }
+
+    /**
+     * Creates a new {@link StitchedKnightTour} with the default configuration.
+     *
+     * <p>The size of the board will be {@link #DEFAULT_SIZE}.
+     *
+     * @see #DEFAULT_SIZE
+     */
+    public StitchedKnightTour() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The whole tour is materialized, prefer {@link #streamTour(int, IntConsumer)}
+     * or {@link #writeTour(int, Path)} for very large boards.
+     *
+     * @throws IllegalArgumentException if the starting point is not on the board
+     */
+    @NonNull
+    @Override
+    public List<Point> findTour(final @NonNull Point from) {
+        checkArgument(isOnBoard(from.getX(), from.getY()), "start point is not on the board", from);
+
+        final ImmutableList.Builder<Point> points = ImmutableList.builderWithExpectedSize(width * height);
+        streamTour(from.getY() * width + from.getX(), square -> points.add(ImmutablePoint.of(square % width, square / width)));
+        return points.build();
+    }
+
+    /**
+     * Finds a closed knight's tour using the specified square as the start of the knight.
+     *
+     * @param start square index, {@code y * width + x}, of the knight
+     * @return the square indices of the tour, in order
+     * @throws IllegalArgumentException if the start is not on the board
+     */
+    public int @NonNull [] findTour(final int start) {
+        final int[] tour = new int[width * height];
+        final int[] size = new int[1];
+        streamTour(start, square -> tour[size[0]++] = square);
+        return tour;
+    }
+
+    /**
+     * Streams a closed knight's tour from the specified square, passing the
+     * index, {@code y * width + x}, of each square to the consumer in order.
+     *
+     * <p>Time complexity - O(width * height)
+     * <p>Space complexity - O(width + height + blocks)
+     *
+     * @param start    square index, {@code y * width + x}, of the knight
+     * @param consumer to accept the squares of the tour
+     * @throws NullPointerException     if the consumer is <tt>null</tt>
+     * @throws IllegalArgumentException if the start is not on the board
+     */
+    public void streamTour(final int start, final @NonNull IntConsumer consumer) {
+        final long squares = (long) width * height;
+        checkArgument(start >= 0 && start < squares, "start square is not on the board", start);
+
+        final Layout layout = new Layout();
+
+        int x = start % width;
+        int y = start / width;
+        for (long i = 0; i < squares; ++i) {
+            consumer.accept(y * width + x);
+
+            final int next = layout.next(x, y);
+            x = next % width;
+            y = next / width;
+        }
+    }
+
+    /**
+     * Writes a closed knight's tour from the specified square into the specified
+     * file, as an {@code int[]} of square indices, {@code y * width + x}, in the
+     * big-endian order of the {@link java.nio.ByteBuffer}s.
+     *
+     * <p>The file is memory-mapped by regions, so the tour never lives on the heap.
+     *
+     * @param start square index, {@code y * width + x}, of the knight
+     * @param file  to write the tour into, created or truncated
+     * @throws NullPointerException     if the file is <tt>null</tt>
+     * @throws IllegalArgumentException if the start is not on the board
+     * @throws IOException              if the file can not be mapped
+     */
+    public void writeTour(final int start, final @NonNull Path file) throws IOException {
+        final long bytes = (long) width * height * Integer.BYTES;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            final IntBuffer[] region = new IntBuffer[1];
+            final long[] offset = {0L};
+
+            streamTour(start, square -> {
+                if (region[0] == null || !region[0].hasRemaining()) {
+                    region[0] = map(channel, offset[0], Math.min(REGION_BYTES, bytes - offset[0]));
+                    offset[0] += REGION_BYTES;
+                }
+                region[0].put(square);
+            });
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Maps the specified region of the channel for writing.
+     *
+     * @param channel  to map
+     * @param position of the region in the file
+     * @param size     of the region
+     * @return the int view of the mapped region
+     */
+    private static IntBuffer map(final FileChannel channel, final long position, final long size) {
+        try {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, position, size);
+            return buffer.asIntBuffer();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Splits the specified side in the block sides, only the last one can be odd.
+     *
+     * @param side to split
+     * @return the sides of the blocks
+     */
+    private static int @NonNull [] split(int side) {
+        final IntArrayList parts = new IntArrayList();
+        while (side > MAX_BLOCK + 2) {
+            parts.add(BLOCK);
+            side -= BLOCK;
+        }
+        if (side > MAX_BLOCK) {
+            parts.add(MIN_BLOCK);
+            side -= MIN_BLOCK;
+        }
+        parts.add(side);
+        return parts.toIntArray();
+    }
+
+    /**
+     * Retrieves the closed tour of the blocks of the specified size, finding it the first time.
+     *
+     * @param blockWidth  width of the block
+     * @param blockHeight height of the block
+     * @return the tour of the block
+     */
+    private Template getTemplate(final int blockWidth, final int blockHeight) {
+        return templates.computeIfAbsent(blockWidth * 16 + blockHeight, key -> new Template(blockWidth, blockHeight));
+    }
+
+    /**
+     * Returns whether the specified point is in bounds of the chess board.
+     *
+     * @param x value on the X axis of the point
+     * @param y value on the Y axis of the point
+     * @return <tt>true</tt> if the point is in bounds of the board
+     */
+    private boolean isOnBoard(final int x, final int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    /**
+     * Closed tour of a block, as the next and previous local square, {@code y * width + x}, of each square.
+     *
+     * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+     * @since 1.7
+     */
+    private static final class Template {
+
+        /**
+         * Width of the block.
+         */
+        private final int width;
+
+        /**
+         * Height of the block.
+         */
+        private final int height;
+
+        /**
+         * Next square of each square in the tour.
+         */
+        private final int[] next;
+
+        /**
+         * Previous square of each square in the tour.
+         */
+        private final int[] previous;
+
+        /**
+         * Finds the closed tour of a block of the specified size.
+         *
+         * @param width  of the block
+         * @param height of the block
+         */
+        private Template(final int width, final int height) {
+            this.width = width;
+            this.height = height;
+
+            final int[] tour = new BacktrackingKnightTour(width, height, true).findTour(0);
+            next = new int[tour.length];
+            previous = new int[tour.length];
+            for (int i = 0; i < tour.length; ++i) {
+                final int following = tour[(i + 1) % tour.length];
+                next[tour[i]] = following;
+                previous[following] = tour[i];
+            }
+        }
+
+        /**
+         * Next square of the specified one, following the tour in the specified direction.
+         *
+         * @param square   local square of the block
+         * @param reversed whether the tour is followed backwards
+         * @return the next local square
+         */
+        private int next(final int square, final boolean reversed) {
+            return reversed ? previous[square] : next[square];
+        }
+    }
+
+    /**
+     * Stitches of a block: the direction its tour is followed and the squares
+     * where the tour leaves to the previous and next blocks of the chain.
+     *
+     * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+     * @since 1.7
+     */
+    private static final class Stitch {
+
+        /**
+         * Tour of the block.
+         */
+        private final Template template;
+
+        /**
+         * Whether the tour of the block is followed backwards.
+         */
+        private final boolean reversed;
+
+        /**
+         * Local square, {@code b1}, that moves back to the previous block, {@code -1} on the first block.
+         */
+        private final int entryFrom;
+
+        /**
+         * Local square, {@code b2}, the previous block moves into, {@code -1} on the first block.
+         */
+        private final int entryTo;
+
+        /**
+         * Local square, {@code a1}, that moves into the next block, {@code -1} on the last block.
+         */
+        private final int exitFrom;
+
+        /**
+         * Local square, {@code a2}, the next block moves back into, {@code -1} on the last block.
+         */
+        private final int exitTo;
+
+        /**
+         * Whether the tour of the next block is followed backwards.
+         */
+        private final boolean nextReversed;
+
+        /**
+         * Local square of the next block, {@code b1}, that moves back to this block.
+         */
+        private final int nextEntryFrom;
+
+        /**
+         * Local square of the next block, {@code b2}, this block moves into.
+         */
+        private final int nextEntryTo;
+
+        /**
+         * Creates the stitches of a block.
+         *
+         * @param template      tour of the block
+         * @param reversed      whether the tour is followed backwards
+         * @param entryFrom     square that moves back to the previous block
+         * @param entryTo       square the previous block moves into
+         * @param exitFrom      square that moves into the next block
+         * @param exitTo        square the next block moves back into
+         * @param nextReversed  whether the tour of the next block is followed backwards
+         * @param nextEntryFrom square of the next block that moves back to this block
+         * @param nextEntryTo   square of the next block this block moves into
+         */
+        private Stitch(final Template template, final boolean reversed, final int entryFrom,
+                       final int entryTo, final int exitFrom, final int exitTo,
+                       final boolean nextReversed, final int nextEntryFrom, final int nextEntryTo) {
+            this.template = template;
+            this.reversed = reversed;
+            this.entryFrom = entryFrom;
+            this.entryTo = entryTo;
+            this.exitFrom = exitFrom;
+            this.exitTo = exitTo;
+            this.nextReversed = nextReversed;
+            this.nextEntryFrom = nextEntryFrom;
+            this.nextEntryTo = nextEntryTo;
+        }
+    }
+
+    /**
+     * Blocks of the board and the stitches of each one, in the snake order.
+     *
+     * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+     * @since 1.7
+     */
+    private final class Layout {
+
+        /**
+         * First column of each column of blocks, with the width as the last element.
+         */
+        private final int[] columnStarts;
+
+        /**
+         * First row of each row of blocks, with the height as the last element.
+         */
+        private final int[] rowStarts;
+
+        /**
+         * Column of blocks of each column of the board.
+         */
+        private final int[] columnOf;
+
+        /**
+         * Row of blocks of each row of the board.
+         */
+        private final int[] rowOf;
+
+        /**
+         * Index of the stitches, in the {@link #distinct}, of each block in the snake order.
+         */
+        private final int[] stitches;
+
+        /**
+         * Distinct stitches of the blocks, most blocks share the same ones.
+         */
+        private final List<Stitch> distinct = new ObjectArrayList<>();
+
+        /**
+         * Splits the board and stitches its blocks.
+         */
+        private Layout() {
+            final int[] columns = split(width);
+            final int[] rows = split(height);
+
+            columnStarts = starts(columns);
+            rowStarts = starts(rows);
+            columnOf = owners(columnStarts);
+            rowOf = owners(rowStarts);
+
+            final int blocks = columns.length * rows.length;
+            stitches = new int[blocks];
+
+            // stitches of the next block as decided by the previous one: reversed, entry from and to
+            boolean reversed = false;
+            int entryFrom = -1;
+            int entryTo = -1;
+
+            final Long2IntOpenHashMap cache = new Long2IntOpenHashMap();
+            cache.defaultReturnValue(-1);
+
+            for (int block = 0; block < blocks; ++block) {
+                final Template template = templateOf(block);
+                final Template nextTemplate = block + 1 < blocks ? templateOf(block + 1) : null;
+                final int direction = block + 1 < blocks ? directionTo(block) : 0;
+
+                final long key = ((long) (template.width * 16 + template.height) << 40)
+                        | ((long) (nextTemplate == null ? 0 : nextTemplate.width * 16 + nextTemplate.height) << 32)
+                        | ((long) direction << 30) | ((reversed ? 1L : 0L) << 29)
+                        | ((long) (entryFrom + 1) << 15) | (entryTo + 1);
+
+                int index = cache.get(key);
+                if (index < 0) {
+                    index = distinct.size();
+                    distinct.add(stitch(template, reversed, entryFrom, entryTo, nextTemplate, direction));
+                    cache.put(key, index);
+                }
+                stitches[block] = index;
+
+                final Stitch stitch = distinct.get(index);
+                reversed = stitch.nextReversed;
+                entryFrom = stitch.nextEntryFrom;
+                entryTo = stitch.nextEntryTo;
+            }
+        }
+
+        /**
+         * Finds the square of the specified block that moves into the next block
+         * and the stitches of the next block, near the side both blocks share.
+         *
+         * @param template     tour of the block
+         * @param reversed     whether the tour of the block is followed backwards
+         * @param entryFrom    square of the block that moves back to the previous block
+         * @param entryTo      square of the block the previous block moves into
+         * @param nextTemplate tour of the next block, <tt>null</tt> on the last block
+         * @param direction    to the next block: 0 right, 1 left, 2 down
+         * @return the stitches of the block
+         * @throws IllegalStateException if no pair of edges can be exchanged
+         */
+        private Stitch stitch(final Template template, final boolean reversed, final int entryFrom, final int entryTo,
+                              final Template nextTemplate, final int direction) {
+            if (nextTemplate == null) {
+                return new Stitch(template, reversed, entryFrom, entryTo, -1, -1, false, -1, -1);
+            }
+
+            // origin of the next block relative to the origin of this one
+            final int dx = direction == 0 ? template.width : direction == 1 ? -nextTemplate.width : 0;
+            final int dy = direction == 2 ? template.height : 0;
+
+            for (int a1 = 0; a1 < template.width * template.height; ++a1) {
+                if (a1 == entryFrom) {
+                    continue; // already moves back to the previous block
+                }
+                final int a2 = template.next(a1, reversed);
+
+                for (final Point move1 : KnightUtils.POSSIBLE_MOVES) {
+                    final int b2 = localOf(nextTemplate, a1 % template.width + move1.getX() - dx,
+                            a1 / template.width + move1.getY() - dy);
+                    if (b2 < 0) {
+                        continue;
+                    }
+
+                    for (final Point move2 : KnightUtils.POSSIBLE_MOVES) {
+                        final int b1 = localOf(nextTemplate, a2 % template.width + move2.getX() - dx,
+                                a2 / template.width + move2.getY() - dy);
+                        if (b1 < 0) {
+                            continue;
+                        }
+
+                        // the edge b1 -> b2 must be in the next block's tour, in any direction
+                        final boolean nextReversed;
+                        if (nextTemplate.next[b1] == b2) {
+                            nextReversed = false;
+                        } else if (nextTemplate.previous[b1] == b2) {
+                            nextReversed = true;
+                        } else {
+                            continue;
+                        }
+
+                        return new Stitch(template, reversed, entryFrom, entryTo, a1, a2, nextReversed, b1, b2);
+                    }
+                }
+            }
+
+            throw new IllegalStateException("no stitch between the blocks");
+        }
+
+        /**
+         * Next square of the tour after the specified one.
+         *
+         * @param x value on the X axis of the square
+         * @param y value on the Y axis of the square
+         * @return the index, {@code y * width + x}, of the next square
+         */
+        private int next(final int x, final int y) {
+            final int column = columnOf[x];
+            final int row = rowOf[y];
+            final int block = blockAt(column, row);
+
+            final Stitch stitch = distinct.get(stitches[block]);
+            final Template template = stitch.template;
+            final int local = (y - rowStarts[row]) * template.width + (x - columnStarts[column]);
+
+            if (local == stitch.exitFrom) {
+                return globalOf(block + 1, distinct.get(stitches[block + 1]).entryTo);
+            }
+            if (local == stitch.entryFrom) {
+                return globalOf(block - 1, distinct.get(stitches[block - 1]).exitTo);
+            }
+            return globalOf(column, row, template, template.next(local, stitch.reversed));
+        }
+
+        /**
+         * Tour of the block at the specified position of the snake order.
+         *
+         * @param block position in the snake order
+         * @return the tour of the block
+         */
+        private Template templateOf(final int block) {
+            final int columns = columnStarts.length - 1;
+            final int row = block / columns;
+            final int column = columnOf(block);
+            return getTemplate(columnStarts[column + 1] - columnStarts[column], rowStarts[row + 1] - rowStarts[row]);
+        }
+
+        /**
+         * Direction from the block at the specified position of the snake order to the next one.
+         *
+         * @param block position in the snake order
+         * @return 0 right, 1 left, 2 down
+         */
+        private int directionTo(final int block) {
+            final int columns = columnStarts.length - 1;
+            if ((block + 1) / columns != block / columns) {
+                return 2;
+            }
+            return (block / columns & 1) == 0 ? 0 : 1;
+        }
+
+        /**
+         * Column of blocks of the block at the specified position of the snake order.
+         *
+         * @param block position in the snake order
+         * @return the column of the block
+         */
+        private int columnOf(final int block) {
+            final int columns = columnStarts.length - 1;
+            final int offset = block % columns;
+            return (block / columns & 1) == 0 ? offset : columns - 1 - offset;
+        }
+
+        /**
+         * Position in the snake order of the block at the specified column and row of blocks.
+         *
+         * @param column of blocks
+         * @param row    of blocks
+         * @return the position of the block
+         */
+        private int blockAt(final int column, final int row) {
+            final int columns = columnStarts.length - 1;
+            return row * columns + ((row & 1) == 0 ? column : columns - 1 - column);
+        }
+
+        /**
+         * Index of the board of the specified local square of a block.
+         *
+         * @param block position in the snake order
+         * @param local square of the block
+         * @return the index, {@code y * width + x}, of the square
+         */
+        private int globalOf(final int block, final int local) {
+            final int column = columnOf(block);
+            final int row = block / (columnStarts.length - 1);
+            return globalOf(column, row, distinct.get(stitches[block]).template, local);
+        }
+
+        /**
+         * Index of the board of the specified local square of a block.
+         *
+         * @param column   of blocks of the block
+         * @param row      of blocks of the block
+         * @param template tour of the block
+         * @param local    square of the block
+         * @return the index, {@code y * width + x}, of the square
+         */
+        private int globalOf(final int column, final int row, final Template template, final int local) {
+            return (rowStarts[row] + local / template.width) * width + columnStarts[column] + local % template.width;
+        }
+
+        /**
+         * Local square of the specified coordinates relative to a block, if inside it.
+         *
+         * @param template tour of the block
+         * @param x        relative to the origin of the block
+         * @param y        relative to the origin of the block
+         * @return the local square, or {@code -1} if outside the block
+         */
+        private int localOf(final Template template, final int x, final int y) {
+            return x >= 0 && x < template.width && y >= 0 && y < template.height ? y * template.width + x : -1;
+        }
+
+        /**
+         * Computes the first index of each part, with the total as the last element.
+         *
+         * @param parts to compute the starts of
+         * @return the starts of the parts
+         */
+        private int[] starts(final int[] parts) {
+            final int[] starts = new int[parts.length + 1];
+            for (int i = 0; i < parts.length; ++i) {
+                starts[i + 1] = starts[i] + parts[i];
+            }
+            return starts;
+        }
+
+        /**
+         * Computes the part of each index.
+         *
+         * @param starts of the parts, with the total as the last element
+         * @return the part of each index
+         */
+        private int[] owners(final int[] starts) {
+            final int[] owners = new int[starts[starts.length - 1]];
+            for (int part = 0; part + 1 < starts.length; ++part) {
+                for (int i = starts[part]; i < starts[part + 1]; ++i) {
+                    owners[i] = part;
+                }
+            }
+            return owners;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.chess.knighttour;
+
+import com.github.jiizuz.algorithmanalysis.algorithm.chess.util.KnightMoves;
+import com.github.jiizuz.algorithmanalysis.algorithm.chess.util.KnightUtils;
+import com.github.jiizuz.algorithmanalysis.util.ImmutablePoint;
+import com.github.jiizuz.algorithmanalysis.util.Point;
+import com.google.common.collect.ImmutableList;
+import lombok.Builder;
+import lombok.NonNull;
+
+import java.util.List;
+import java.util.Random;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Warnsdorff's rule is a heuristic for finding a single knight's tour.
+ * The knight is moved so that it always proceeds to the square from
+ * which the knight will have the <i>fewest</i> onward moves. When
+ * calculating the number of onward moves for each candidate square,
+ * we do not count moves that revisit any square already visited.
+ *
+ * <p>The rule never backtracks, so a tour is built in linear time. Ties
+ * between candidates are broken by moving to the square farthest from
+ * the center of the board, which keeps the knight on the edges that are
+ * harder to reach later. If the rule gets stuck, the tour is built again
+ * breaking the ties pseudo-randomly, up to {@link #attempts} times.
+ *
+ * <p>The board is a flat array of squares with the index {@code y * width + x},
+ * and the squares reachable from each square are taken from the shared table
+ * of {@link KnightUtils#getMoves(int, int)}, so no {@link Point} is created
+ * while touring.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @see com.github.jiizuz.algorithmanalysis.algorithm.chess.knighttour.KnightTour
+ * @since 1.7
+ */
+@Builder
+public class WarnsdorffKnightTour implements KnightTour {
+
+    /**
+     * Default size of a chessboard.
+     */
+    public static final int DEFAULT_SIZE = 8;
+
+    /**
+     * Default amount of times to try to build a tour.
+     */
+    public static final int DEFAULT_ATTEMPTS = 64;
+
+    /**
+     * Degree of a square already visited.
+     */
+    private static final byte VISITED = -1;
+
+    /**
+     * Width of the table. (squares)
+     */
+    @Builder.Default
+    private int width = DEFAULT_SIZE;
+
+    /**
+     * Height of the table. (squares)
+     */
+    @Builder.Default
+    private int height = DEFAULT_SIZE;
+
+    /**
+     * {@link Random} utility to break the ties after the first attempt.
+     */
+    @Builder.Default
+    private Random random = new Random();
+
+    /**
+     * Amount of times to try to build a tour before giving up.
+     */
+    @Builder.Default
+    private int attempts = DEFAULT_ATTEMPTS;
+
+    /**
+     * Creates a new {@link WarnsdorffKnightTour} with the specified configuration.
+     *
+     * @param width    width of the table
+     * @param height   height of the table
+     * @param random   utility to break the ties after the first attempt
+     * @param attempts amount of times to try to build a tour
+     * @throws NullPointerException     if the random is <tt>null</tt>
+     * @throws IllegalArgumentException if either the width, height or attempts are negative or zero
+     */
+    public WarnsdorffKnightTour(final int width, final int height, final @NonNull Random random, final int attempts) {
+        checkArgument(width > 0, "width <= 0", width);
+        checkArgument(height > 0, "height <= 0", height);
+        checkArgument(attempts > 0, "attempts <= 0", attempts);
+
+        this.width = width;
+        this.height = height;
+        this.random = random;
+        this.attempts = attempts;
+    }
+
+    /**
+     * Creates a new {@link WarnsdorffKnightTour} with the specified configuration.
+     *
+     * @param width  width of the table
+     * @param height height of the table
+     * @throws IllegalArgumentException if either the width or height are negative or zero
+     */
+    public WarnsdorffKnightTour(final int width, final int height) {
+        this(width, height, new Random(), DEFAULT_ATTEMPTS);
+    }
+
+    /**
+     * Creates a new {@link WarnsdorffKnightTour} with the specified configuration.
+     *
+     * @param size size of the table a.k.a. <i>n</i>
+     * @throws IllegalArgumentException if the size is negative or zero
+     */
+    public WarnsdorffKnightTour(final int size) {
+        this(size, size);
+    }
+
+    /**
+     * Creates a new {@link WarnsdorffKnightTour} with the default configuration.
+     *
+     * <p>The size of the board will be {@link #DEFAULT_SIZE}.
+     *
+     * @see #DEFAULT_SIZE
+     */
+    public WarnsdorffKnightTour() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the starting point is not on the board
+     * @throws IllegalStateException    if no tour was found in the {@link #attempts}
+     */
+    @NonNull
+    @Override
+    public List<Point> findTour(final @NonNull Point from) {
+        checkArgument(isOnBoard(from.getX(), from.getY()), "start point is not on the board", from);
+
+        final int[] tour = findTour(from.getY() * width + from.getX());
+
+        final ImmutableList.Builder<Point> points = ImmutableList.builderWithExpectedSize(tour.length);
+        for (final int square : tour) {
+            points.add(ImmutablePoint.of(square % width, square / width));
+        }
+        return points.build();
+    }
+
+    /**
+     * Finds a knight's tour using the specified square as the start of the knight.
+     *
+     * <p>Time complexity - O(width * height) per attempt
+     *
+     * @param start square index, {@code y * width + x}, of the knight
+     * @return the square indices of the tour, in order
+     * @throws IllegalArgumentException if the start is not on the board
+     * @throws IllegalStateException    if no tour was found in the {@link #attempts}
+     */
+    public int @NonNull [] findTour(final int start) {
+        final int squares = width * height;
+        checkArgument(start >= 0 && start < squares, "start square is not on the board", start);
+
+        final KnightMoves moves = KnightUtils.getMoves(width, height);
+
+        final byte[] degrees = new byte[squares];
+        final int[] tour = new int[squares];
+
+        for (int attempt = 0; attempt < attempts; ++attempt) {
+            if (tryTour(start, moves, degrees, tour, attempt > 0)) {
+                return tour;
+            }
+        }
+
+        throw new IllegalStateException("no tour found after " + attempts + " attempts");
+    }
+
+    /**
+     * Tries to build a tour following the Warnsdorff's rule.
+     *
+     * @param start        square of the knight
+     * @param moves        valid moves of each square
+     * @param degrees      auxiliary array for the unvisited neighbors of each square
+     * @param tour         to store the squares of the tour on
+     * @param randomizeTie whether the ties are broken pseudo-randomly
+     * @return <tt>true</tt> if a complete tour was built
+     */
+    private boolean tryTour(final int start, final KnightMoves moves,
+                            final byte[] degrees, final int[] tour, final boolean randomizeTie) {
+        for (int square = 0; square < degrees.length; ++square) {
+            degrees[square] = (byte) moves.getDegree(square);
+        }
+
+        int at = start;
+        visit(at, moves, degrees);
+        tour[0] = at;
+
+        for (int step = 1; step < tour.length; ++step) {
+            int next = -1;
+            int ties = 0;
+
+            for (int k = moves.getStart(at), end = moves.getEnd(at); k < end; ++k) {
+                final int candidate = moves.getNeighbor(k);
+                if (degrees[candidate] == VISITED) {
+                    continue;
+                }
+
+                if (next < 0 || degrees[candidate] < degrees[next]) {
+                    next = candidate;
+                    ties = 1;
+                } else if (degrees[candidate] == degrees[next]) {
+                    if (randomizeTie) {
+                        // reservoir sampling among the tied candidates
+                        if (random.nextInt(++ties) == 0) {
+                            next = candidate;
+                        }
+                    } else if (distanceToCenter(candidate) > distanceToCenter(next)) {
+                        next = candidate;
+                    }
+                }
+            }
+
+            if (next < 0) {
+                return false; // stuck
+            }
+
+            at = next;
+            visit(at, moves, degrees);
+            tour[step] = at;
+        }
+
+        return true;
+    }
+
+    /**
+     * Marks the specified square as visited, decreasing the degree of its neighbors.
+     *
+     * @param square  to visit
+     * @param moves   valid moves of each square
+     * @param degrees unvisited neighbors of each square
+     */
+    private void visit(final int square, final KnightMoves moves, final byte[] degrees) {
+        degrees[square] = VISITED;
+        for (int k = moves.getStart(square), end = moves.getEnd(square); k < end; ++k) {
+            final int neighbor = moves.getNeighbor(k);
+            if (degrees[neighbor] != VISITED) {
+                --degrees[neighbor];
+            }
+        }
+    }
+
+    /**
+     * Squared distance, doubled on each axis, from the specified square to the center of the board.
+     *
+     * @param square to compute the distance from
+     * @return the distance to the center
+     */
+    private long distanceToCenter(final int square) {
+        final long dx = 2L * (square % width) - (width - 1);
+        final long dy = 2L * (square / width) - (height - 1);
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Returns whether the specified point is in bounds of the chess board.
+     *
+     * @param x value on the X axis of the point
+     * @param y value on the Y axis of the point
+     * @return <tt>true</tt> if the point is in bounds of the board
+     */
+    private boolean isOnBoard(final int x, final int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+}
@@ -0,0 +1,239 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.chess.util;
+
+import com.github.jiizuz.algorithmanalysis.util.Point;
+import com.google.common.base.MoreObjects;
+import lombok.NonNull;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Table of the valid knight's moves of every square of a board, in a compressed
+ * sparse row layout: the squares are indexed as {@code y * width + x} and the
+ * squares reachable from the square {@code s} are the neighbors from the index
+ * {@link #getStart(int)} (inclusive) to {@link #getEnd(int)} (exclusive).
+ *
+ * <p>The moves of each square are kept in the order of the {@link KnightUtils#POSSIBLE_MOVES}
+ * and the out of board moves are already dropped, so a solver expands the moves of a
+ * square with a plain scan of an {@code int[]} instead of adding and bounds checking
+ * {@link Point}s. Boards of up to 64 squares also have the moves of each square as a
+ * {@code long} bitboard.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @apiNote This class is immutable and Thread-Safe.
+ * @see KnightUtils#getMoves(int, int)
+ * @since 1.7
+ */
+public final class KnightMoves {
+
+    /**
+     * Width of the board. (squares)
+     */
+    private final int width;
+
+    /**
+     * Height of the board. (squares)
+     */
+    private final int height;
+
+    /**
+     * Where the neighbors of each square start, with the amount of neighbors as the last element.
+     */
+    private final int[] offsets;
+
+    /**
+     * Squares reachable from each square.
+     */
+    private final int[] neighbors;
+
+    /**
+     * Squares reachable from each square as a bitboard, {@code null} if the board has more than 64 squares.
+     */
+    private final long[] masks;
+
+    /**
+     * Computes the moves of every square of a board of the specified size.
+     *
+     * @param width  of the board
+     * @param height of the board
+     * @throws IllegalArgumentException if either the width or height are negative or zero
+     * @throws IllegalArgumentException if the board has more than {@link Integer#MAX_VALUE} squares
+     */
+    KnightMoves(final int width, final int height) {
+        checkArgument(width > 0, "width <= 0", width);
+        checkArgument(height > 0, "height <= 0", height);
+        checkArgument((long) width * height <= Integer.MAX_VALUE, "too many squares", width, height);
+
+        this.width = width;
+        this.height = height;
+
+        final int squares = width * height;
+        offsets = new int[squares + 1];
+
+        // first pass counts the moves of each square, second pass fills them
+        for (int y = 0; y < height; ++y) {
+            for (int x = 0; x < width; ++x) {
+                int degree = 0;
+                for (final Point move : KnightUtils.POSSIBLE_MOVES) {
+                    if (isOnBoard(x + move.getX(), y + move.getY())) {
+                        ++degree;
+                    }
+                }
+                offsets[y * width + x + 1] = offsets[y * width + x] + degree;
+            }
+        }
+
+        neighbors = new int[offsets[squares]];
+        for (int y = 0; y < height; ++y) {
+            for (int x = 0; x < width; ++x) {
+                int k = offsets[y * width + x];
+                for (final Point move : KnightUtils.POSSIBLE_MOVES) {
+                    final int nx = x + move.getX();
+                    final int ny = y + move.getY();
+                    if (isOnBoard(nx, ny)) {
+                        neighbors[k++] = ny * width + nx;
+                    }
+                }
+            }
+        }
+
+        if (squares <= Long.SIZE) {
+            masks = new long[squares];
+            for (int square = 0; square < squares; ++square) {
+                for (int k = offsets[square]; k < offsets[square + 1]; ++k) {
+                    masks[square] |= 1L << neighbors[k];
+                }
+            }
+        } else {
+            masks = null;
+        }
+    }
+
+    /**
+     * Width of the board. (squares)
+     *
+     * @return the width of the board
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Height of the board. (squares)
+     *
+     * @return the height of the board
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Amount of squares of the board.
+     *
+     * @return the squares of the board
+     */
+    public int getSquares() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * Index of the first neighbor of the specified square.
+     *
+     * @param square index, {@code y * width + x}, of the square
+     * @return the index of its first neighbor, inclusive
+     */
+    public int getStart(final int square) {
+        return offsets[square];
+    }
+
+    /**
+     * Index after the last neighbor of the specified square.
+     *
+     * @param square index, {@code y * width + x}, of the square
+     * @return the index after its last neighbor, exclusive
+     */
+    public int getEnd(final int square) {
+        return offsets[square + 1];
+    }
+
+    /**
+     * Square reachable at the specified index of the neighbors.
+     *
+     * @param index of the neighbor, between the start and end of a square
+     * @return the index, {@code y * width + x}, of the neighbor square
+     */
+    public int getNeighbor(final int index) {
+        return neighbors[index];
+    }
+
+    /**
+     * Amount of squares reachable from the specified square.
+     *
+     * @param square index, {@code y * width + x}, of the square
+     * @return the amount of valid moves of the square
+     */
+    public int getDegree(final int square) {
+        return offsets[square + 1] - offsets[square];
+    }
+
+    /**
+     * Returns whether the board is small enough to have the moves as bitboards.
+     *
+     * @return <tt>true</tt> if the board has at most 64 squares
+     */
+    public boolean hasMasks() {
+        return masks != null;
+    }
+
+    /**
+     * Squares reachable from the specified square as a bitboard, the bit {@code s}
+     * is set if the square {@code s} is reachable.
+     *
+     * @param square index, {@code y * width + x}, of the square
+     * @return the bitboard of the moves of the square
+     * @throws IllegalStateException if the board has more than 64 squares
+     */
+    public long getMask(final int square) {
+        checkState(masks != null, "the board has more than 64 squares");
+        return masks[square];
+    }
+
+    /**
+     * Returns whether the specified squares are a knight's move away.
+     *
+     * @param from index, {@code y * width + x}, of a square
+     * @param to   index, {@code y * width + x}, of the other square
+     * @return <tt>true</tt> if a knight moves from one square to the other
+     */
+    public boolean isMove(final int from, final int to) {
+        for (int k = offsets[from]; k < offsets[from + 1]; ++k) {
+            if (neighbors[k] == to) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether the specified point is in bounds of the board.
+     *
+     * @param x value on the X axis of the point
+     * @param y value on the Y axis of the point
+     * @return <tt>true</tt> if the point is in bounds of the board
+     */
+    public boolean isOnBoard(final int x, final int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("width", width)
+                .add("height", height)
+                .toString();
+    }
+}
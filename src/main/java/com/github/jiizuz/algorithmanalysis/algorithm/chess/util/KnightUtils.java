@@ -2,9 +2,14 @@ package com.github.jiizuz.algorithmanalysis.algorithm.chess.util;
 
 import com.github.jiizuz.algorithmanalysis.util.ImmutablePoint;
 import com.github.jiizuz.algorithmanalysis.util.Point;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import lombok.NonNull;
 import lombok.experimental.UtilityClass;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 /**
  * {@link UtilityClass} with methods related with the <b>Knight</b> piece.
  *
@@ -34,4 +39,35 @@ public class KnightUtils {
             ImmutablePoint.of(-2, -1),
             ImmutablePoint.of(-2, +1),
     };
+
+    /**
+     * Cache of the move tables of each board size, by {@code width << 32 | height}.
+     *
+     * <p>The tables of big boards are big too, so the values are soft
+     * referenced and reclaimed by the garbage collector when needed.
+     */
+    private final LoadingCache<Long, KnightMoves> MOVES = CacheBuilder.newBuilder()
+            .softValues()
+            .build(CacheLoader.from(key -> new KnightMoves((int) (key >>> 32), (int) (long) key)));
+
+    /**
+     * Retrieves the table of the valid moves of every square of a board of the
+     * specified size, computing it only the first time the size is asked.
+     *
+     * <p>The table is immutable, so it is shared among all the solvers and threads.
+     *
+     * @param width  of the board
+     * @param height of the board
+     * @return the move table of the board
+     * @throws IllegalArgumentException if either the width or height are negative or zero
+     * @throws IllegalArgumentException if the board has more than {@link Integer#MAX_VALUE} squares
+     */
+    @NonNull
+    public KnightMoves getMoves(final int width, final int height) {
+        checkArgument(width > 0, "width <= 0", width);
+        checkArgument(height > 0, "height <= 0", height);
+        checkArgument((long) width * height <= Integer.MAX_VALUE, "too many squares", width, height);
+
+        return MOVES.getUnchecked((long) width << 32 | height);
+    }
 }
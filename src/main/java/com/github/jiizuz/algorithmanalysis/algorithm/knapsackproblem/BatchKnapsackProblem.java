@@ -0,0 +1,212 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Solves the knapsack of the same items for many capacities at once.
+ *
+ * <p>The value at the index {@code j} of the last row of the matrix is the
+ * best value for the capacity {@code j}, so the rolling row is computed only
+ * once up to the biggest capacity, and every query is answered from it.
+ *
+ * <p>Unless the items are skipped, a bitset of decisions is kept as in
+ * {@link BitsetKnapsackProblem}; the decisions of a column do not depend on
+ * the capacity asked, so the items of any query are traced back on demand
+ * in {@code O(n)}.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @implSpec This class is Thread-Safe.
+ * @see com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem.KnapsackProblem
+ * @since 1.7
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchKnapsackProblem {
+
+    /**
+     * Default status about whether we should skip the reconstruction of the items.
+     *
+     * <p>This value is used when a NoArgsConstructor is used
+     */
+    private static final boolean SKIP_ITEMS = false;
+
+    /**
+     * Whether only the values must be computed, in such case the bitset
+     * of decisions is not allocated and {@link Batch#getResult(int)} fails.
+     */
+    @Builder.Default
+    private final boolean skipItems = SKIP_ITEMS;
+
+    /**
+     * Solves the knapsack of the specified items for each of the specified capacities.
+     *
+     * <p>Time complexity - O(n * max(capacities) + q)
+     * <p>Space complexity - O(n * max(capacities) / 64)
+     *
+     * @param mutableItems to solve the knapsack for
+     * @param capacities   to solve the knapsack with, the queries
+     * @return the answers to the queries
+     * @throws NullPointerException     if either the items or capacities are {@code null}
+     * @throws NullPointerException     if one of the items in the list is {@code null}
+     * @throws IllegalArgumentException if there are no capacities or one is {@code <= 0}
+     * @throws IllegalArgumentException if the list is {@code empty}
+     * @throws IllegalArgumentException if one of the items has invalid data
+     */
+    @NonNull
+    public Batch apply(final @NonNull List<Item> mutableItems, final int @NonNull ... capacities) {
+        checkArgument(capacities.length > 0, "no capacities to solve");
+
+        int maxCapacity = 0;
+        for (final int capacity : capacities) {
+            checkArgument(capacity > 0, "capacity is negative or zero", capacity);
+            maxCapacity = Math.max(maxCapacity, capacity);
+        }
+
+        final ImmutableList<ImmutableItem> items = KnapsackUtils.checkAndWrap(mutableItems, maxCapacity);
+        final int amount = items.size();
+
+        final long[] row = new long[maxCapacity + 1];
+        final long[][] decisions = skipItems ? null : new long[amount][];
+
+        for (int i = 0; i < amount; ++i) {
+            final ImmutableItem item = items.get(i);
+            final int weight = item.getWeight();
+            final int value = item.getValue();
+            final long[] taken = skipItems ? null : (decisions[i] = new long[(maxCapacity >>> 6) + 1]);
+
+            for (int j = maxCapacity; j >= weight; --j) {
+                final long candidate = row[j - weight] + value;
+                if (candidate > row[j]) {
+                    row[j] = candidate;
+                    if (taken != null) {
+                        taken[j >>> 6] |= 1L << j;
+                    }
+                }
+            }
+        }
+
+        final long[] values = new long[capacities.length];
+        for (int q = 0; q < capacities.length; ++q) {
+            values[q] = row[capacities[q]];
+        }
+
+        return new Batch(items, capacities.clone(), values, decisions);
+    }
+
+    /**
+     * Answers of a {@link BatchKnapsackProblem} for each capacity asked.
+     *
+     * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+     * @implSpec This class is Thread-Safe.
+     * @since 1.7
+     */
+    public static final class Batch {
+
+        /**
+         * Items the knapsack was solved for.
+         */
+        private final List<ImmutableItem> items;
+
+        /**
+         * Capacity of each query.
+         */
+        private final int[] capacities;
+
+        /**
+         * Best value of each query.
+         */
+        private final long[] values;
+
+        /**
+         * One bitset per item of whether it was taken at each capacity,
+         * {@code null} if the items are skipped.
+         */
+        private final long[][] decisions;
+
+        /**
+         * Creates the answers of a batch.
+         *
+         * @param items      the knapsack was solved for
+         * @param capacities of each query
+         * @param values     best value of each query
+         * @param decisions  per item, or {@code null} if the items are skipped
+         */
+        private Batch(final List<ImmutableItem> items, final int[] capacities,
+                      final long[] values, final long[][] decisions) {
+            this.items = items;
+            this.capacities = capacities;
+            this.values = values;
+            this.decisions = decisions;
+        }
+
+        /**
+         * Amount of queries answered.
+         *
+         * @return the amount of queries
+         */
+        public int size() {
+            return values.length;
+        }
+
+        /**
+         * Best value of each query, in the order of the capacities asked.
+         *
+         * @return a copy of the values of the queries
+         */
+        public long @NonNull [] getValues() {
+            return values.clone();
+        }
+
+        /**
+         * Best value of the specified query.
+         *
+         * @param query index of the capacity asked
+         * @return the best value of the query
+         * @throws IndexOutOfBoundsException if the query does not exist
+         */
+        public long getValue(final int query) {
+            checkElementIndex(query, size());
+            return values[query];
+        }
+
+        /**
+         * Traces back the items of the specified query.
+         *
+         * @param query index of the capacity asked
+         * @return the result of the query
+         * @throws IndexOutOfBoundsException if the query does not exist
+         * @throws IllegalStateException     if the items were skipped
+         */
+        @NonNull
+        public KnapsackProblem.Result getResult(final int query) {
+            checkElementIndex(query, size());
+            checkState(decisions != null, "the items were skipped");
+
+            int w = capacities[query];
+
+            final List<ImmutableItem> foundItems = Lists.newArrayList();
+
+            for (int i = items.size() - 1; i >= 0; --i) {
+                if ((decisions[i][w >>> 6] & (1L << w)) != 0) {
+                    final ImmutableItem item = items.get(i);
+                    foundItems.add(item);
+                    w -= item.getWeight();
+                }
+            }
+
+            return new ImmutableResult(ImmutableList.copyOf(foundItems), values[query], capacities[query]);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import lombok.NonNull;
+
+import java.util.List;
+
+/**
+ * {@link KnapsackProblem} implementation that keeps a single row of values
+ * and, instead of the whole matrix of values used by {@link MatrixKnapsackProblem},
+ * only a matrix of bits that tells whether the item {@code i} was taken at the
+ * capacity {@code j}, which is all the traceback needs.
+ *
+ * <p>Each row of decisions is a {@code long[]} bitset, so the matrix uses
+ * {@code 32} times less memory than the {@code int[][]} of values.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @see com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem.KnapsackProblem
+ * @since 1.7
+ */
+public class BitsetKnapsackProblem implements KnapsackProblem {
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Time complexity - O(n * capacity)
+     * <p>Space complexity - O(n * capacity / 64)
+     */
+    @NonNull
+    @Override
+    public Result apply(final @NonNull List<Item> mutableItems, final @NonNull Integer capacity) {
+        final ImmutableList<ImmutableItem> items = KnapsackUtils.checkAndWrap(mutableItems, capacity);
+
+        final int amount = items.size();
+
+        final long[] row = new long[capacity + 1];
+        // one row of bits per item, a row may not fit in a single array with the others
+        final long[][] decisions = new long[amount][];
+
+        for (int i = 0; i < amount; ++i) {
+            final ImmutableItem item = items.get(i);
+            final int weight = item.getWeight();
+            final int value = item.getValue();
+            final long[] taken = decisions[i] = new long[(capacity >>> 6) + 1];
+
+            for (int j = capacity; j >= weight; --j) {
+                final long candidate = row[j - weight] + value;
+                if (candidate > row[j]) {
+                    row[j] = candidate;
+                    taken[j >>> 6] |= 1L << j; // shift is implicitly mod 64
+                }
+            }
+        }
+
+        int w = capacity;
+
+        final List<ImmutableItem> foundItems = Lists.newArrayList();
+
+        for (int i = amount - 1; i >= 0; --i) {
+            if ((decisions[i][w >>> 6] & (1L << w)) != 0) {
+                final ImmutableItem item = items.get(i);
+                foundItems.add(item);
+                w -= item.getWeight();
+            }
+        }
+
+        return new ImmutableResult(ImmutableList.copyOf(foundItems), row[capacity], capacity);
+    }
+}
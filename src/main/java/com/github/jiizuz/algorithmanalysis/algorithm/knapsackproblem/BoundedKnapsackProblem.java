@@ -0,0 +1,106 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import lombok.NonNull;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Solves the <i>bounded</i> knapsack problem over an {@link ItemStore},
+ * where up to a given amount of copies of each item can be taken.
+ *
+ * <p>The copies of each item are split in binary parts of {@code 1, 2, 4, ...}
+ * copies and a rest, so any amount of copies is a sum of parts and the problem
+ * becomes a 0/1 knapsack over {@code O(n log bound)} parts. The parts are solved
+ * as {@link BitsetKnapsackProblem} does: a rolling row of values and a bitset of
+ * decisions per part for the traceback.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @implSpec This class is Thread-Safe.
+ * @see com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem.ItemStore
+ * @since 1.7
+ */
+public class BoundedKnapsackProblem {
+
+    /**
+     * Computes the amount of copies of each item of the specified store that
+     * give the maximum value within the specified capacity, using the weights
+     * of the first dimension.
+     *
+     * <p>Time complexity - O(n * log(bound) * capacity)
+     * <p>Space complexity - O(n * log(bound) * capacity / 64)
+     *
+     * @param store    to choose the items from
+     * @param capacity of the knapsack
+     * @param bounds   maximum amount of copies of each item of the store
+     * @return the chosen copies of the items
+     * @throws NullPointerException     if either the store or bounds are {@code null}
+     * @throws IllegalArgumentException if the capacity is {@code <= 0}
+     * @throws IllegalArgumentException if the bounds are not of the size of the store or negative
+     */
+    @NonNull
+    public Selection solve(final @NonNull ItemStore store, final int capacity, final int @NonNull [] bounds) {
+        checkArgument(capacity > 0, "capacity is negative or zero", capacity);
+        checkArgument(bounds.length == store.size(), "bounds are not of the size of the store", bounds.length);
+
+        final int[] values = store.values;
+        final int[] weights = store.weights[0];
+        final int[] counts = new int[store.size()];
+        long value = 0L;
+
+        // binary parts of the copies: item, amount of copies
+        final IntArrayList partItems = new IntArrayList();
+        final IntArrayList partCopies = new IntArrayList();
+
+        for (int i = 0; i < store.size(); ++i) {
+            checkArgument(bounds[i] >= 0, "bound is negative", i);
+            if (values[i] == 0 || bounds[i] == 0) {
+                continue;
+            }
+            if (weights[i] == 0) {
+                counts[i] = bounds[i];
+                value += (long) bounds[i] * values[i];
+                continue;
+            }
+
+            // more copies than the capacity allows are useless
+            int left = Math.min(bounds[i], capacity / weights[i]);
+            for (int copies = 1; left > 0; copies <<= 1) {
+                final int part = Math.min(copies, left);
+                partItems.add(i);
+                partCopies.add(part);
+                left -= part;
+            }
+        }
+
+        final int parts = partItems.size();
+        final long[] row = new long[capacity + 1];
+        final long[][] decisions = new long[parts][];
+
+        for (int k = 0; k < parts; ++k) {
+            final int item = partItems.getInt(k);
+            final int weight = weights[item] * partCopies.getInt(k); // <= capacity
+            final long partValue = (long) values[item] * partCopies.getInt(k);
+            final long[] taken = decisions[k] = new long[(capacity >>> 6) + 1];
+
+            for (int j = capacity; j >= weight; --j) {
+                final long candidate = row[j - weight] + partValue;
+                if (candidate > row[j]) {
+                    row[j] = candidate;
+                    taken[j >>> 6] |= 1L << j;
+                }
+            }
+        }
+
+        int w = capacity;
+        for (int k = parts - 1; k >= 0; --k) {
+            if ((decisions[k][w >>> 6] & (1L << w)) != 0) {
+                final int item = partItems.getInt(k);
+                counts[item] += partCopies.getInt(k);
+                w -= weights[item] * partCopies.getInt(k);
+            }
+        }
+
+        return new Selection(store, counts, value + row[capacity]);
+    }
+}
@@ -0,0 +1,442 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem;
+
+import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * {@link LongKnapsackProblem} implementation that solves the knapsack by a
+ * best-first <i>branch and bound</i>, so the time does not depend on the
+ * capacity as in the dynamic programming solvers.
+ *
+ * <p>The items are sorted by their value/weight ratio, so the upper bound of
+ * a node is the fractional knapsack of the items that are not decided yet:
+ * take them greedily and a fraction of the first one that does not fit.
+ *
+ * <p>On big instances most of the items far from the <i>break item</i> (the
+ * first item that does not fit greedily) are always or never taken, so only
+ * a <i>core</i> of items around it is searched, fixing the items before the
+ * core as taken and the items after it as not taken. Each fixed item is then
+ * checked with the <i>Dembo-Hammer</i> bound: the value of any solution that
+ * flips it is at most the fractional value minus the item's distance to the
+ * ratio of the break item. If some of the fixed items could improve the found
+ * value, the core is grown to include them and searched again, so the result
+ * is always optimal.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @see com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem.LongKnapsackProblem
+ * @since 1.7
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BranchAndBoundKnapsackProblem implements LongKnapsackProblem {
+
+    /**
+     * Default amount of items at each side of the break item to search first.
+     *
+     * <p>This value is used when a NoArgsConstructor is used
+     */
+    private static final int CORE_SIZE = 32;
+
+    /**
+     * Amount of items at each side of the break item to search first.
+     */
+    @Builder.Default
+    private final int coreSize = CORE_SIZE;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ArithmeticException if the sum of the weights or values overflows a {@code long}
+     */
+    @NonNull
+    @Override
+    public Result apply(final @NonNull List<LongItem> mutableItems, final @NonNull Long capacity) {
+        checkArgument(capacity > 0, "capacity is negative or zero", capacity);
+        checkArgument(coreSize > 0, "core size is negative or zero", coreSize);
+        checkArgument(!mutableItems.isEmpty(), "the items list is empty");
+        final ImmutableList<ImmutableLongItem> items = mutableItems.stream()
+                .peek(this::checkItem)
+                .map(ImmutableLongItem::wrap)
+                .collect(ImmutableList.toImmutableList());
+
+        final int amount = items.size();
+        final boolean[] taken = new boolean[amount];
+
+        // weightless items are always taken, and the too heavy or worthless are never
+        long value = 0L;
+        int eligible = 0;
+        final int[] order = new int[amount];
+        final double[] ratios = new double[amount];
+
+        for (int i = 0; i < amount; ++i) {
+            final ImmutableLongItem item = items.get(i);
+            if (item.getValue() == 0 || item.getWeight() > capacity) {
+                continue;
+            }
+            if (item.getWeight() == 0) {
+                taken[i] = true;
+                value = Math.addExact(value, item.getValue());
+                continue;
+            }
+            ratios[i] = (double) item.getValue() / item.getWeight();
+            order[eligible++] = i;
+        }
+
+        if (eligible > 0) {
+            IntArrays.quickSort(order, 0, eligible, (a, b) -> Double.compare(ratios[b], ratios[a]));
+
+            final Instance instance = new Instance(items, order, eligible, capacity);
+            final boolean[] solution = instance.solve();
+
+            for (int p = 0; p < eligible; ++p) {
+                if (solution[p]) {
+                    taken[order[p]] = true;
+                    value = Math.addExact(value, instance.values[p]);
+                }
+            }
+        }
+
+        final ImmutableList.Builder<LongItem> foundItems = ImmutableList.builder();
+        for (int i = 0; i < amount; ++i) {
+            if (taken[i]) {
+                foundItems.add(items.get(i));
+            }
+        }
+
+        return new ImmutableLongResult(foundItems.build(), value, capacity);
+    }
+
+    /**
+     * Checks the specified item for valid data.
+     *
+     * @param item to check
+     * @throws NullPointerException     if the item is {@code null}
+     * @throws IllegalArgumentException if the value or weight of the item is negative
+     */
+    private void checkItem(final @NonNull LongItem item) {
+        checkArgument(item.getValue() >= 0, "item value is negative", item);
+        checkArgument(item.getWeight() >= 0, "item weight is negative", item);
+    }
+
+    /**
+     * Items sorted by value/weight ratio of a single {@link #apply(List, Long)}.
+     *
+     * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+     * @since 1.7
+     */
+    private final class Instance {
+
+        /**
+         * Values of the items, by position in the ratio order.
+         */
+        private final long[] values;
+
+        /**
+         * Weights of the items, by position in the ratio order.
+         */
+        private final long[] weights;
+
+        /**
+         * Sum of the values of the positions {@code [0, p)} at the index {@code p}.
+         */
+        private final long[] prefixValues;
+
+        /**
+         * Sum of the weights of the positions {@code [0, p)} at the index {@code p}.
+         */
+        private final long[] prefixWeights;
+
+        /**
+         * Capacity of the knapsack.
+         */
+        private final long capacity;
+
+        /**
+         * Sorts the values and weights of the specified items by the specified order.
+         *
+         * @param items    to solve the knapsack for
+         * @param order    of the items by value/weight ratio
+         * @param amount   of items in the order
+         * @param capacity of the knapsack
+         */
+        private Instance(final List<ImmutableLongItem> items, final int[] order, final int amount, final long capacity) {
+            this.capacity = capacity;
+            values = new long[amount];
+            weights = new long[amount];
+            prefixValues = new long[amount + 1];
+            prefixWeights = new long[amount + 1];
+
+            for (int p = 0; p < amount; ++p) {
+                final ImmutableLongItem item = items.get(order[p]);
+                values[p] = item.getValue();
+                weights[p] = item.getWeight();
+                prefixValues[p + 1] = Math.addExact(prefixValues[p], values[p]);
+                prefixWeights[p + 1] = Math.addExact(prefixWeights[p], weights[p]);
+            }
+        }
+
+        /**
+         * Solves the knapsack growing the core until every fixed item is proven.
+         *
+         * @return whether each position is taken
+         */
+        private boolean[] solve() {
+            final int amount = values.length;
+            final boolean[] solution = new boolean[amount];
+
+            // break item, the first one that does not fit greedily
+            final int breakItem = limit(0, amount, capacity);
+            if (breakItem == amount) {
+                Arrays.fill(solution, true);
+                return solution;
+            }
+
+            final double ratio = (double) values[breakItem] / weights[breakItem];
+            final double fractional = prefixValues[breakItem] + (capacity - prefixWeights[breakItem]) * ratio;
+            // the bounds are computed with doubles, so only fix an item with some margin
+            final double tolerance = 1D + Math.abs(fractional) * 1e-12D;
+
+            int from = Math.max(0, breakItem - coreSize);
+            int to = (int) Math.min(amount, (long) breakItem + coreSize);
+
+            while (true) {
+                Arrays.fill(solution, false);
+                Arrays.fill(solution, 0, from, true);
+                final long best = prefixValues[from] + searchCore(from, to, capacity - prefixWeights[from], solution);
+
+                // grow the core up to the farthest items that could still improve
+                int first = from;
+                for (int p = 0; p < from; ++p) {
+                    if (!isFixed(p, fractional, ratio, tolerance, best)) {
+                        first = p;
+                        break;
+                    }
+                }
+                int last = to;
+                for (int p = amount - 1; p >= to; --p) {
+                    if (!isFixed(p, fractional, ratio, tolerance, best)) {
+                        last = p + 1;
+                        break;
+                    }
+                }
+
+                if (first == from && last == to) {
+                    return solution;
+                }
+                from = first;
+                to = last;
+            }
+        }
+
+        /**
+         * Checks that flipping the specified position cannot improve the
+         * specified value, using the Dembo-Hammer bound.
+         *
+         * @param position   to check
+         * @param fractional value of the fractional knapsack of all the positions
+         * @param ratio      value/weight ratio of the break item
+         * @param tolerance  for the rounding of the bound
+         * @param best       value found for the current core
+         * @return whether the position can be fixed
+         */
+        private boolean isFixed(final int position, final double fractional,
+                                final double ratio, final double tolerance, final long best) {
+            final double bound = fractional - Math.abs(values[position] - ratio * weights[position]);
+            return bound + tolerance < best + 1;
+        }
+
+        /**
+         * Searches the best subset of the positions {@code [from, to)} that fits in
+         * the specified capacity by a best-first branch and bound.
+         *
+         * @param from     first position of the core, inclusive
+         * @param to       last position of the core, exclusive
+         * @param capacity left for the core
+         * @param solution to mark the taken positions of the core on
+         * @return the value of the taken positions of the core
+         */
+        private long searchCore(final int from, final int to, final long capacity, final boolean[] solution) {
+            final Node root = new Node(from, 0L, 0L, bound(from, to, capacity, 0L, 0L), null, false);
+
+            // greedy completion of each node as the lower bound
+            Node bestNode = root;
+            long best = complete(root, to, capacity, null);
+
+            // on ties, deeper nodes first to reach the leaves sooner
+            final PriorityQueue<Node> queue = new PriorityQueue<>((a, b) -> a.bound != b.bound
+                    ? Long.compare(b.bound, a.bound)
+                    : Integer.compare(b.level, a.level));
+            queue.add(root);
+
+            while (!queue.isEmpty()) {
+                final Node node = queue.poll();
+                if (node.bound <= best) {
+                    break; // no node left can improve
+                }
+
+                final int p = node.level;
+                if (p == to) {
+                    continue;
+                }
+
+                if (node.weight + weights[p] <= capacity) {
+                    final long takenValue = node.value + values[p];
+                    final long takenWeight = node.weight + weights[p];
+                    final Node child = new Node(p + 1, takenValue, takenWeight,
+                            bound(p + 1, to, capacity, takenValue, takenWeight), node, true);
+
+                    final long completed = complete(child, to, capacity, null);
+                    if (completed > best) {
+                        best = completed;
+                        bestNode = child;
+                    }
+                    if (child.bound > best) {
+                        queue.add(child);
+                    }
+                }
+
+                final long skippedBound = bound(p + 1, to, capacity, node.value, node.weight);
+                if (skippedBound > best) {
+                    // the greedy completion of the skipped node is computed when expanded
+                    queue.add(new Node(p + 1, node.value, node.weight, skippedBound, node, false));
+                }
+            }
+
+            for (Node node = bestNode; node.parent != null; node = node.parent) {
+                solution[node.level - 1] = node.taken;
+            }
+            complete(bestNode, to, capacity, solution);
+
+            return best;
+        }
+
+        /**
+         * Completes the specified node taking greedily the positions that still fit.
+         *
+         * @param node     to complete
+         * @param to       last position of the core, exclusive
+         * @param capacity left for the core
+         * @param solution to mark the taken positions on, or {@code null}
+         * @return the value of the completed node
+         */
+        private long complete(final Node node, final int to, final long capacity, final boolean[] solution) {
+            long value = node.value;
+            long weight = node.weight;
+
+            for (int p = node.level; p < to; ++p) {
+                final boolean fits = weight + weights[p] <= capacity;
+                if (fits) {
+                    weight += weights[p];
+                    value += values[p];
+                }
+                if (solution != null) {
+                    solution[p] = fits;
+                }
+            }
+
+            return value;
+        }
+
+        /**
+         * Computes the fractional knapsack upper bound of a node.
+         *
+         * @param level    first position not decided yet
+         * @param to       last position of the core, exclusive
+         * @param capacity left for the core
+         * @param value    of the taken positions
+         * @param weight   of the taken positions
+         * @return the upper bound of the value reachable from the node
+         */
+        private long bound(final int level, final int to, final long capacity, final long value, final long weight) {
+            final long left = capacity - weight;
+            final int limit = limit(level, to, left);
+            final long bound = value + prefixValues[limit] - prefixValues[level];
+
+            if (limit == to) {
+                return bound;
+            }
+
+            final long rest = left - (prefixWeights[limit] - prefixWeights[level]);
+            // ceil keeps the bound an upper bound of the integral values despite the rounding
+            return bound + (long) Math.ceil((double) rest * values[limit] / weights[limit]);
+        }
+
+        /**
+         * Finds the first position in {@code [from, to)} that does not fit when taking
+         * greedily from {@code from} with the specified capacity.
+         *
+         * @param from     first position, inclusive
+         * @param to       last position, exclusive
+         * @param capacity to take the positions with
+         * @return the first position that does not fit, or {@code to} if all fit
+         */
+        private int limit(final int from, final int to, final long capacity) {
+            // last index of the prefix weights in [from, to] that fits in the capacity
+            int low = from;
+            int high = to;
+            while (low < high) {
+                final int mid = (low + high + 1) >>> 1;
+                if (prefixWeights[mid] - prefixWeights[from] <= capacity) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+
+            return low;
+        }
+    }
+
+    /**
+     * Node of the branch and bound, where the positions before the
+     * level are decided.
+     *
+     * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+     * @since 1.7
+     */
+    @RequiredArgsConstructor
+    private static final class Node {
+
+        /**
+         * Next position to decide.
+         */
+        private final int level;
+
+        /**
+         * Value of the taken positions.
+         */
+        private final long value;
+
+        /**
+         * Weight of the taken positions.
+         */
+        private final long weight;
+
+        /**
+         * Upper bound of the value reachable from this node.
+         */
+        private final long bound;
+
+        /**
+         * Node that decided the previous position, {@code null} on the root.
+         */
+        private final Node parent;
+
+        /**
+         * Whether the position {@code level - 1} was taken.
+         */
+        private final boolean taken;
+    }
+}
@@ -0,0 +1,156 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem;
+
+import lombok.NonNull;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Solves the <i>fractional</i> knapsack problem over an {@link ItemStore},
+ * where any fraction of an item can be taken.
+ *
+ * <p>The optimal solution takes the items by value/weight ratio, but instead
+ * of sorting them the <i>critical ratio</i> (the ratio of the item that only
+ * fits partially) is found by selection: a random pivot partitions the items
+ * into greater, equal and lesser ratios, and only the part that holds the
+ * critical ratio is partitioned again, in expected linear time.
+ *
+ * <p>The ratios are compared by cross multiplication, so no precision is
+ * lost on the comparisons.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @implSpec This class is Thread-Safe.
+ * @see com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem.ItemStore
+ * @since 1.7
+ */
+public class FractionalKnapsackProblem {
+
+    /**
+     * Computes the fractions of the items of the specified store that give
+     * the maximum value within the specified capacity, using the weights
+     * of the first dimension.
+     *
+     * <p>Time complexity - O(n) expected
+     * <p>Space complexity - O(n)
+     *
+     * @param store    to choose the items from
+     * @param capacity of the knapsack
+     * @return the chosen fractions of the items
+     * @throws NullPointerException     if the store is {@code null}
+     * @throws IllegalArgumentException if the capacity is {@code <= 0}
+     */
+    @NonNull
+    public FractionalSelection solve(final @NonNull ItemStore store, final int capacity) {
+        checkArgument(capacity > 0, "capacity is negative or zero", capacity);
+
+        final int[] values = store.values;
+        final int[] weights = store.weights[0];
+        final double[] fractions = new double[store.size()];
+
+        double value = 0D;
+        long remaining = capacity;
+
+        // weightless items are always taken, worthless items never
+        final int[] candidates = new int[store.size()];
+        int size = 0;
+        for (int i = 0; i < store.size(); ++i) {
+            if (values[i] == 0) {
+                continue;
+            }
+            if (weights[i] == 0) {
+                fractions[i] = 1D;
+                value += values[i];
+            } else {
+                candidates[size++] = i;
+            }
+        }
+
+        int low = 0;
+        int high = size;
+
+        while (low < high && remaining > 0) {
+            final int pivot = candidates[ThreadLocalRandom.current().nextInt(low, high)];
+
+            // three-way partition: [low, greater) > pivot, [greater, lesser) == pivot, [lesser, high) < pivot
+            int greater = low;
+            int lesser = high;
+            int i = low;
+            long greaterWeight = 0L;
+            long equalWeight = 0L;
+            while (i < lesser) {
+                final int item = candidates[i];
+                final int comparison = compareRatios(values, weights, item, pivot);
+                if (comparison > 0) {
+                    greaterWeight += weights[item];
+                    swap(candidates, i++, greater++);
+                } else if (comparison < 0) {
+                    swap(candidates, i, --lesser);
+                } else {
+                    equalWeight += weights[item];
+                    ++i;
+                }
+            }
+
+            if (greaterWeight > remaining) {
+                // the critical ratio is among the greater ones
+                high = greater;
+                continue;
+            }
+
+            for (int p = low; p < greater; ++p) {
+                fractions[candidates[p]] = 1D;
+                value += values[candidates[p]];
+            }
+            remaining -= greaterWeight;
+
+            if (equalWeight >= remaining) {
+                // the critical ratio is the pivot's one
+                for (int p = greater; p < lesser && remaining > 0; ++p) {
+                    final int item = candidates[p];
+                    final double fraction = Math.min(1D, (double) remaining / weights[item]);
+                    fractions[item] = fraction;
+                    value += fraction * values[item];
+                    remaining -= weights[item];
+                }
+                break;
+            }
+
+            for (int p = greater; p < lesser; ++p) {
+                fractions[candidates[p]] = 1D;
+                value += values[candidates[p]];
+            }
+            remaining -= equalWeight;
+            low = lesser;
+        }
+
+        return new FractionalSelection(store, fractions, value);
+    }
+
+    /**
+     * Compares the value/weight ratios of the specified items.
+     *
+     * @param values  of the items
+     * @param weights of the items, all positive
+     * @param a       first item to compare
+     * @param b       second item to compare
+     * @return a negative, zero or positive number if the ratio of {@code a} is
+     * lower, equal or greater than the ratio of {@code b}
+     */
+    private int compareRatios(final int[] values, final int[] weights, final int a, final int b) {
+        return Long.compare((long) values[a] * weights[b], (long) values[b] * weights[a]);
+    }
+
+    /**
+     * Swaps the element at the position i and j in the array.
+     *
+     * @param arr to swap on the elements
+     * @param i   to swap from
+     * @param j   to swap to
+     */
+    private void swap(final int[] arr, final int i, final int j) {
+        final int aux = arr[i];
+        arr[i] = arr[j];
+        arr[j] = aux;
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem;
+
+import lombok.Data;
+import lombok.NonNull;
+
+/**
+ * Items chosen from an {@link ItemStore} by a {@link FractionalKnapsackProblem},
+ * as the fraction taken of each item of the store.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @see com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem.ItemStore
+ * @since 1.7
+ */
+@Data
+public final class FractionalSelection {
+
+    /**
+     * Store the items were chosen from.
+     */
+    @NonNull
+    private final ItemStore store;
+
+    /**
+     * Fraction in {@code [0, 1]} taken of each item of the store, by index.
+     *
+     * @implSpec The array is not copied, it must not be modified.
+     */
+    private final double @NonNull [] fractions;
+
+    /**
+     * Total value of the chosen fractions.
+     */
+    private final double value;
+}
@@ -0,0 +1,92 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * {@link LongItem} implementation that promises to be {@code immutable}.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @see com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem.LongItem
+ * @since 1.7
+ */
+@Builder
+@ToString
+@AllArgsConstructor
+public final class ImmutableLongItem implements LongItem {
+
+    /**
+     * Name of the {@link LongItem}.
+     */
+    private final String name;
+
+    /**
+     * Value of the {@link LongItem}.
+     */
+    private final long value;
+
+    /**
+     * Weight of the {@link LongItem}.
+     */
+    private final long weight;
+
+    /**
+     * Wraps the specified {@link LongItem} into an {@link ImmutableLongItem}.
+     *
+     * @param item to wrap over
+     * @return the immutable wrapped item
+     */
+    @NonNull
+    public static ImmutableLongItem wrap(final @NonNull LongItem item) {
+        if (item instanceof ImmutableLongItem) {
+            return (ImmutableLongItem) item;
+        }
+
+        return builder()
+                .name(item.getName())
+                .value(item.getValue())
+                .weight(item.getWeight())
+                .build();
+    }
+
+    /**
+     * Widens the specified {@link Item} into an {@link ImmutableLongItem}.
+     *
+     * @param item to widen
+     * @return the immutable widened item
+     */
+    @NonNull
+    public static ImmutableLongItem widen(final @NonNull Item item) {
+        return builder()
+                .name(item.getName())
+                .value(item.getValue())
+                .weight(item.getWeight())
+                .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getValue() {
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getWeight() {
+        return weight;
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem;
+
+import lombok.Data;
+import lombok.NonNull;
+
+import java.util.List;
+
+/**
+ * Simple {@link LongKnapsackProblem.Result} with {@code Lombok} data.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @see com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem.LongKnapsackProblem.Result
+ * @since 1.7
+ */
+@Data
+final class ImmutableLongResult implements LongKnapsackProblem.Result {
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    private final List<LongItem> items;
+
+    /**
+     * {@inheritDoc}
+     */
+    private final long value;
+
+    /**
+     * {@inheritDoc}
+     */
+    private final long capacity;
+}
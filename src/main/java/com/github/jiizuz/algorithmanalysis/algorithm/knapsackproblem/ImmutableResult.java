@@ -0,0 +1,33 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem;
+
+import lombok.Data;
+import lombok.NonNull;
+
+import java.util.List;
+
+/**
+ * Simple {@link KnapsackProblem.Result} with {@code Lombok} data.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @see com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem.KnapsackProblem.Result
+ * @since 1.4
+ */
+@Data
+final class ImmutableResult implements KnapsackProblem.Result {
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    private final List<Item> items;
+
+    /**
+     * {@inheritDoc}
+     */
+    private final long value;
+
+    /**
+     * {@inheritDoc}
+     */
+    private final int capacity;
+}
@@ -0,0 +1,285 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import lombok.NonNull;
+
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+
+/**
+ * Knapsack of a fixed capacity whose items change over time, that keeps
+ * the rows of the dynamic programming instead of solving again from
+ * scratch on every change.
+ *
+ * <p>The items are a queue kept in two stacks of rows: the <i>back</i> has
+ * the newest items in order of addition and the <i>front</i> the oldest ones
+ * in reverse order, so the oldest item is on its top. The row at each level
+ * of a stack is the one of the items up to that level, then adding an item
+ * pushes a single row over the top of the back, in {@code O(capacity)}.
+ *
+ * <p>The rows are not invertible (they are made of maximums), but the top
+ * of each stack can be popped. Removing the oldest item pops the front, and
+ * when the front is empty the back is moved into it in reverse order first.
+ * Every item is moved at most once, so removing the items oldest-first costs
+ * an amortized {@code O(capacity)} each. Removing an item in the middle of a
+ * stack pops the levels above it and pushes them again, in
+ * {@code O(k * capacity)} for the {@code k} items above it.
+ *
+ * <p>The value combines the tops of both stacks, in {@code O(capacity)}.
+ * Each item keeps its row, in {@code O(n * capacity)} space.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @implSpec This class is not Thread-Safe.
+ * @see com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem.RollingKnapsackProblem
+ * @since 1.7
+ */
+public class IncrementalKnapsack {
+
+    /**
+     * Capacity of the knapsack.
+     */
+    private final int capacity;
+
+    /**
+     * Row without items, the base of both stacks.
+     */
+    private final long[] empty;
+
+    /**
+     * Oldest items, the oldest one on the top.
+     */
+    private final RowStack front;
+
+    /**
+     * Newest items, in order of addition.
+     */
+    private final RowStack back;
+
+    /**
+     * Creates a new empty {@link IncrementalKnapsack}.
+     *
+     * @param capacity of the knapsack
+     * @throws IllegalArgumentException if the capacity is {@code <= 0}
+     */
+    public IncrementalKnapsack(final int capacity) {
+        checkArgument(capacity > 0, "capacity is negative or zero", capacity);
+        this.capacity = capacity;
+
+        empty = new long[capacity + 1];
+        front = new RowStack();
+        back = new RowStack();
+    }
+
+    /**
+     * Adds the specified item to the knapsack.
+     *
+     * <p>Time complexity - O(capacity)
+     *
+     * @param item to add
+     * @throws NullPointerException     if the item is {@code null}
+     * @throws IllegalArgumentException if the item has invalid data
+     */
+    public void add(final @NonNull Item item) {
+        KnapsackUtils.checkItem(item);
+        back.push(ImmutableItem.wrap(item));
+    }
+
+    /**
+     * Removes the item at the specified index, in order of addition.
+     *
+     * <p>Time complexity - amortized O(capacity) for the oldest or newest item,
+     * otherwise O(k * capacity) for the {@code k} items above it in its stack
+     *
+     * @param index of the item to remove
+     * @return the removed item
+     * @throws IndexOutOfBoundsException if there is no item at the index
+     */
+    @NonNull
+    public Item remove(final int index) {
+        checkElementIndex(index, size());
+
+        // the front is empty and the item is closer to the oldest: move the back there
+        if (front.size() == 0 && index < (back.size() + 1) / 2) {
+            final List<ImmutableItem> moved = Lists.reverse(ImmutableList.copyOf(back.items));
+            back.clear();
+            for (final ImmutableItem item : moved) {
+                front.push(item);
+            }
+        }
+
+        if (index < front.size()) {
+            return front.remove(front.size() - 1 - index);
+        }
+        return back.remove(index - front.size());
+    }
+
+    /**
+     * Amount of items in the knapsack.
+     *
+     * @return the amount of items
+     */
+    public int size() {
+        return front.size() + back.size();
+    }
+
+    /**
+     * Current items in the knapsack, in order of addition.
+     *
+     * @return the immutable list of items
+     */
+    @NonNull
+    public List<Item> getItems() {
+        return ImmutableList.<Item>builder()
+                .addAll(Lists.reverse(front.items))
+                .addAll(back.items)
+                .build();
+    }
+
+    /**
+     * Maximum value of the current items that fits in the capacity.
+     *
+     * <p>Time complexity - O(capacity)
+     *
+     * @return the maximum value
+     */
+    public long getValue() {
+        return getValue(capacity);
+    }
+
+    /**
+     * Maximum value of the current items that fits in the specified capacity.
+     *
+     * <p>The best split of the capacity between the items of both stacks.
+     *
+     * <p>Time complexity - O(capacity)
+     *
+     * @param capacity to fit the items in
+     * @return the maximum value
+     * @throws IllegalArgumentException if the capacity is negative or bigger than the knapsack's
+     */
+    public long getValue(final int capacity) {
+        checkArgument(capacity >= 0 && capacity <= this.capacity, "capacity out of the knapsack", capacity);
+
+        final long[] oldest = front.top();
+        final long[] newest = back.top();
+
+        long best = 0L;
+        for (int j = 0; j <= capacity; ++j) {
+            best = Math.max(best, oldest[j] + newest[capacity - j]);
+        }
+        return best;
+    }
+
+    /**
+     * Solves the items of the current knapsack.
+     *
+     * <p>The rows do not keep the decisions, so the items are traced back
+     * with the divide and conquer of {@link RollingKnapsackProblem}.
+     *
+     * <p>Time complexity - O(n * capacity)
+     *
+     * @return the result of the current knapsack
+     */
+    @NonNull
+    public KnapsackProblem.Result getResult() {
+        if (size() == 0) {
+            return new ImmutableResult(ImmutableList.of(), 0L, capacity);
+        }
+
+        return new RollingKnapsackProblem().apply(getItems(), capacity);
+    }
+
+    /**
+     * Stack of items with the row of the items up to each level.
+     *
+     * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+     * @since 1.7
+     */
+    private final class RowStack {
+
+        /**
+         * Items of the stack, from the bottom to the top.
+         */
+        private final List<ImmutableItem> items = new ObjectArrayList<>();
+
+        /**
+         * Row of the items up to the same index.
+         */
+        private final List<long[]> rows = new ObjectArrayList<>();
+
+        /**
+         * Amount of items in the stack.
+         *
+         * @return the amount of items
+         */
+        private int size() {
+            return items.size();
+        }
+
+        /**
+         * Row of all the items of the stack.
+         *
+         * @return the row at the top, not to be modified
+         */
+        private long[] top() {
+            return rows.isEmpty() ? empty : rows.get(rows.size() - 1);
+        }
+
+        /**
+         * Pushes the specified item with its row over the top.
+         *
+         * <p>Time complexity - O(capacity)
+         *
+         * @param item to push
+         */
+        private void push(final ImmutableItem item) {
+            final long[] row = top().clone();
+            final int weight = item.getWeight();
+            final int value = item.getValue();
+
+            // backwards, so row[j - weight] still holds the previous item's value
+            for (int j = capacity; j >= weight; --j) {
+                final long candidate = row[j - weight] + value;
+                if (candidate > row[j]) {
+                    row[j] = candidate;
+                }
+            }
+
+            items.add(item);
+            rows.add(row);
+        }
+
+        /**
+         * Removes all the items of the stack.
+         */
+        private void clear() {
+            items.clear();
+            rows.clear();
+        }
+
+        /**
+         * Removes the item at the specified level, pushing again the ones above it.
+         *
+         * <p>Time complexity - O(k * capacity) for the {@code k} items above it
+         *
+         * @param level of the item, from the bottom
+         * @return the removed item
+         */
+        private ImmutableItem remove(final int level) {
+            final List<ImmutableItem> above = ImmutableList.copyOf(items.subList(level + 1, items.size()));
+            final ImmutableItem removed = items.get(level);
+
+            items.subList(level, items.size()).clear();
+            rows.subList(level, rows.size()).clear();
+            for (final ImmutableItem item : above) {
+                push(item);
+            }
+
+            return removed;
+        }
+    }
+}
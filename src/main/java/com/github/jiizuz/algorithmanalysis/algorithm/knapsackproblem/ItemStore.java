@@ -0,0 +1,293 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem;
+
+import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import lombok.NonNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+
+/**
+ * Catalog of items stored as a <i>struct of arrays</i>: a primitive array of
+ * values and one primitive array of weights per dimension, so the solvers
+ * that run over it scan contiguous memory instead of chasing {@link Item}
+ * references, and a catalog can be solved many times without wrapping
+ * its items again.
+ *
+ * <p>The names are interned separately, each item only keeps the index
+ * of its name in the table of distinct names.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @implSpec This class is Thread-Safe.
+ * @see com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem.Item
+ * @since 1.7
+ */
+public final class ItemStore {
+
+    /**
+     * Value of each item.
+     */
+    final int[] values;
+
+    /**
+     * Weights of each item, by dimension: {@code weights[d][i]} is the
+     * weight of the item {@code i} on the dimension {@code d}.
+     */
+    final int[][] weights;
+
+    /**
+     * Index of the name of each item in the {@link #names}.
+     */
+    private final int[] nameIds;
+
+    /**
+     * Table of the distinct names of the items.
+     */
+    private final String[] names;
+
+    /**
+     * Creates a new {@link ItemStore} with the specified arrays.
+     *
+     * @param values  of the items
+     * @param weights of the items, by dimension
+     * @param nameIds of the items
+     * @param names   distinct names of the items
+     */
+    private ItemStore(final int[] values, final int[][] weights, final int[] nameIds, final String[] names) {
+        this.values = values;
+        this.weights = weights;
+        this.nameIds = nameIds;
+        this.names = names;
+    }
+
+    /**
+     * Copies the specified items into a new single dimension {@link ItemStore}.
+     *
+     * @param items to copy into the store
+     * @return the new store with the items
+     * @throws NullPointerException     if the list or one of its items is {@code null}
+     * @throws IllegalArgumentException if one of the items has a negative value or weight
+     */
+    @NonNull
+    public static ItemStore of(final @NonNull List<? extends Item> items) {
+        final Builder builder = builder(1);
+        for (final Item item : items) {
+            builder.add(item.getName(), item.getValue(), item.getWeight());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates a new {@link Builder} of stores whose items have the
+     * specified amount of weights.
+     *
+     * @param dimensions amount of weights of each item
+     * @return the new builder
+     * @throws IllegalArgumentException if the dimensions are {@code <= 0}
+     */
+    @NonNull
+    public static Builder builder(final int dimensions) {
+        checkArgument(dimensions > 0, "dimensions are negative or zero", dimensions);
+        return new Builder(dimensions);
+    }
+
+    /**
+     * Amount of items in the store.
+     *
+     * @return the amount of items
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Amount of weights of each item in the store.
+     *
+     * @return the amount of weights of each item
+     */
+    public int dimensions() {
+        return weights.length;
+    }
+
+    /**
+     * Retrieves the name of the item at the specified index.
+     *
+     * @param index of the item
+     * @return the name of the item
+     * @throws IndexOutOfBoundsException if the index is out of the store
+     */
+    public String getName(final int index) {
+        checkElementIndex(index, size());
+        return names[nameIds[index]];
+    }
+
+    /**
+     * Retrieves the value of the item at the specified index.
+     *
+     * @param index of the item
+     * @return the value of the item
+     * @throws IndexOutOfBoundsException if the index is out of the store
+     */
+    public int getValue(final int index) {
+        return values[index];
+    }
+
+    /**
+     * Retrieves the weight on the first dimension of the item at the specified index.
+     *
+     * @param index of the item
+     * @return the weight of the item
+     * @throws IndexOutOfBoundsException if the index is out of the store
+     */
+    public int getWeight(final int index) {
+        return weights[0][index];
+    }
+
+    /**
+     * Retrieves the weight on the specified dimension of the item at the specified index.
+     *
+     * @param dimension of the weight
+     * @param index     of the item
+     * @return the weight of the item
+     * @throws IndexOutOfBoundsException if the dimension or index are out of the store
+     */
+    public int getWeight(final int dimension, final int index) {
+        return weights[dimension][index];
+    }
+
+    /**
+     * Wraps the item at the specified index into an {@link ImmutableItem},
+     * using the weight of the first dimension.
+     *
+     * @param index of the item
+     * @return the wrapped item
+     * @throws IndexOutOfBoundsException if the index is out of the store
+     */
+    @NonNull
+    public ImmutableItem getItem(final int index) {
+        return new ImmutableItem(getName(index), getValue(index), getWeight(index));
+    }
+
+    /**
+     * Wraps the items of the specified counts into {@link ImmutableItem}s,
+     * repeating each item as many times as its count.
+     *
+     * @param counts of each item of the store
+     * @return the immutable list of wrapped items
+     * @throws IllegalArgumentException if the counts are not of the size of the store
+     */
+    @NonNull
+    public List<Item> getItems(final int @NonNull [] counts) {
+        checkArgument(counts.length == size(), "counts are not of the size of the store", counts.length);
+
+        final ImmutableList.Builder<Item> items = ImmutableList.builder();
+        for (int i = 0; i < counts.length; ++i) {
+            if (counts[i] > 0) {
+                final ImmutableItem item = getItem(i);
+                for (int c = 0; c < counts[i]; ++c) {
+                    items.add(item);
+                }
+            }
+        }
+        return items.build();
+    }
+
+    /**
+     * Builder of {@link ItemStore}s that interns the names of the items.
+     *
+     * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+     * @implSpec This class is not Thread-Safe.
+     * @since 1.7
+     */
+    public static final class Builder {
+
+        /**
+         * Values of the added items.
+         */
+        private final IntArrayList values = new IntArrayList();
+
+        /**
+         * Weights of the added items, by dimension.
+         */
+        private final IntArrayList[] weights;
+
+        /**
+         * Name index of the added items.
+         */
+        private final IntArrayList nameIds = new IntArrayList();
+
+        /**
+         * Index of each distinct name added.
+         */
+        private final Object2IntOpenHashMap<String> nameTable = new Object2IntOpenHashMap<>();
+
+        /**
+         * Distinct names in order of addition.
+         */
+        private final List<String> names = new ObjectArrayList<>();
+
+        /**
+         * Creates a new {@link Builder} of the specified dimensions.
+         *
+         * @param dimensions amount of weights of each item
+         */
+        private Builder(final int dimensions) {
+            weights = new IntArrayList[dimensions];
+            Arrays.setAll(weights, d -> new IntArrayList());
+            nameTable.defaultReturnValue(-1);
+        }
+
+        /**
+         * Adds a new item to the store.
+         *
+         * @param name    of the item
+         * @param value   of the item
+         * @param weights of the item, one per dimension
+         * @return this builder
+         * @throws IllegalArgumentException if the amount of weights is not the dimensions
+         * @throws IllegalArgumentException if the value or one of the weights is negative
+         */
+        @NonNull
+        public Builder add(final String name, final int value, final int @NonNull ... weights) {
+            checkArgument(weights.length == this.weights.length, "expected one weight per dimension", weights.length);
+            checkArgument(value >= 0, "item value is negative", value);
+            for (final int weight : weights) {
+                checkArgument(weight >= 0, "item weight is negative", weight);
+            }
+
+            int nameId = nameTable.getInt(name);
+            if (nameId < 0) {
+                nameId = names.size();
+                names.add(name);
+                nameTable.put(name, nameId);
+            }
+
+            values.add(value);
+            for (int d = 0; d < weights.length; ++d) {
+                this.weights[d].add(weights[d]);
+            }
+            nameIds.add(nameId);
+            return this;
+        }
+
+        /**
+         * Builds the {@link ItemStore} with the added items.
+         *
+         * @return the new store
+         */
+        @NonNull
+        public ItemStore build() {
+            final int[][] weightArrays = new int[weights.length][];
+            for (int d = 0; d < weights.length; ++d) {
+                weightArrays[d] = weights[d].toIntArray();
+            }
+
+            return new ItemStore(values.toIntArray(), weightArrays, nameIds.toIntArray(), names.toArray(new String[0]));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem;
+
+import com.google.common.collect.ImmutableList;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * {@link UtilityClass} with methods shared by the {@link KnapsackProblem} implementations.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @since 1.7
+ */
+@UtilityClass
+class KnapsackUtils {
+
+    /**
+     * Validates the arguments of {@link KnapsackProblem#apply(List, Integer)} and
+     * copies the specified items into an immutable list of {@link ImmutableItem}.
+     *
+     * @param items    to validate and copy
+     * @param capacity of the knapsack to validate
+     * @return the immutable copy of the items
+     * @throws NullPointerException     if the list or one of its items is {@code null}
+     * @throws IllegalArgumentException if the capacity is {@code <= 0}
+     * @throws IllegalArgumentException if the list is {@code empty}
+     * @throws IllegalArgumentException if one of the items has a negative value or weight
+     */
+    @NonNull
+    public ImmutableList<ImmutableItem> checkAndWrap(final @NonNull List<Item> items, final int capacity) {
+        checkArgument(capacity > 0, "capacity is negative or zero", capacity);
+        checkArgument(!items.isEmpty(), "the items list is empty");
+
+        return items.stream()
+                .peek(KnapsackUtils::checkItem)
+                .map(ImmutableItem::wrap)
+                .collect(ImmutableList.toImmutableList());
+    }
+
+    /**
+     * Checks the specified item for valid data.
+     *
+     * @param item to check
+     * @throws NullPointerException     if the item is {@code null}
+     * @throws IllegalArgumentException if the value or weight of the item is negative
+     */
+    public void checkItem(final @NonNull Item item) {
+        checkArgument(item.getValue() >= 0, "item value is negative", item);
+        checkArgument(item.getWeight() >= 0, "item weight is negative", item);
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem;
+
+/**
+ * Represents a single item that can be added to a {@link LongKnapsackProblem},
+ * whose value and weight may not fit in an {@code int}.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @see com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem.Item
+ * @since 1.7
+ */
+public interface LongItem {
+
+    /**
+     * Id to represent this {@link LongItem}.
+     *
+     * @return the Id to represent this {@link LongItem}
+     * @apiNote Normally this value is not unique, but it can be.
+     */
+    String getName();
+
+    /**
+     * Retrieve the value of this {@link LongItem} in a {@code Knapsack}.
+     *
+     * @return the value of this {@link LongItem}
+     */
+    long getValue();
+
+    /**
+     * Retrieve the weight of this {@link LongItem} in a {@code Knapsack}.
+     *
+     * @return the weight of this {@link LongItem}
+     */
+    long getWeight();
+}
@@ -0,0 +1,70 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem;
+
+import lombok.NonNull;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * {@link KnapsackProblem} whose capacity, weights and values are {@code long},
+ * for the instances where the capacity is out of reach of the dynamic programming
+ * solvers (e.g. weights measured in bytes).
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @implSpec This class is Thread-Safe.
+ * @see com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem.KnapsackProblem
+ * @since 1.7
+ */
+public interface LongKnapsackProblem extends BiFunction<List<LongItem>, Long, LongKnapsackProblem.Result> {
+
+    /**
+     * Searches for the maximum possible value from the specified items with the limit
+     * of the specified capacity and returns the found optimal items and the resultant
+     * value that can be added to a knapsack.
+     *
+     * @throws NullPointerException     if either the items or capacity is {@code null}
+     * @throws NullPointerException     if one of the items in the list is {@code null}
+     * @throws IllegalArgumentException if the capacity is {@code <= 0}
+     * @throws IllegalArgumentException if the list is {@code empty}
+     * @throws IllegalArgumentException if one of the items has invalid data
+     */
+    @NonNull
+    Result apply(@NonNull List<LongItem> items, @NonNull Long capacity);
+
+    /**
+     * Computed result by a {@link LongKnapsackProblem}.
+     *
+     * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+     * @implSpec This class is Thread-Safe.
+     * @since 1.7
+     */
+    interface Result {
+
+        /**
+         * The best items found to solve the problem.
+         *
+         * @return the items to solve the problem
+         * @implSpec The returned {@link List} is {@code immutable}.
+         *
+         * <p>The {@link LongItem} in the {@link List} are {@code immutable}.
+         */
+        @NonNull
+        List<LongItem> getItems();
+
+        /**
+         * Maximum possible value to have in the knapsack.
+         *
+         * @return the maximum possible value in the knapsack
+         * @apiNote The value can be {@code 0}, but never negative.
+         */
+        long getValue();
+
+        /**
+         * Capacity of the knapsack provided in this result.
+         *
+         * @return the capacity of the knapsack solved
+         * @apiNote This value is never zero nor negative.
+         */
+        long getCapacity();
+    }
+}
@@ -2,13 +2,10 @@ package com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
-import lombok.Data;
 import lombok.NonNull;
 
 import java.util.List;
 
-import static com.google.common.base.Preconditions.checkArgument;
-
 /**
  * {@link KnapsackProblem} implementation that uses a matrix to
  * track and filter the most optimal items based on their weight.
@@ -21,16 +18,13 @@ public class MatrixKnapsackProblem implements KnapsackProblem {
 
     /**
      * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if one of the items has a negative value or weight
      */
     @NonNull
     @Override
     public Result apply(final @NonNull List<Item> mutableItems, final @NonNull Integer capacity) {
-        checkArgument(capacity > 0, "capacity is negative or zero", capacity);
-        checkArgument(!mutableItems.isEmpty(), "the items list is empty");
-        final ImmutableList<ImmutableItem> items = mutableItems.stream()
-                .peek(this::checkItem)
-                .map(ImmutableItem::wrap)
-                .collect(ImmutableList.toImmutableList());
+        final ImmutableList<ImmutableItem> items = KnapsackUtils.checkAndWrap(mutableItems, capacity);
 
         final int amount = items.size();
 
@@ -66,42 +60,6 @@ public class MatrixKnapsackProblem implements KnapsackProblem {
             }
         }
 
-        return new WrappedResult(ImmutableList.copyOf(foundItems), matrix[amount][capacity], capacity);
-    }
-
-    /**
-     * Checks the specified item for valid data.
-     *
-     * @param item to check
-     */
-    private void checkItem(final @NonNull Item item) {
-        // only need to check nullness
-    }
-
-    /**
-     * Simple {@link KnapsackProblem.Result} with {@code Lombok} data.
-     *
-     * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
-     * @see com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem.KnapsackProblem.Result
-     * @since 1.4
-     */
-    @Data
-    private static class WrappedResult implements Result {
-
-        /**
-         * {@inheritDoc}
-         */
-        @NonNull
-        private final List<Item> items;
-
-        /**
-         * {@inheritDoc}
-         */
-        private final long value;
-
-        /**
-         * {@inheritDoc}
-         */
-        private final int capacity;
+        return new ImmutableResult(ImmutableList.copyOf(foundItems), matrix[amount][capacity], capacity);
     }
-}
\ No newline at end of file
+}
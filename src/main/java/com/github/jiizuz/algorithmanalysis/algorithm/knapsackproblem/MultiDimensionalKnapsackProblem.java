@@ -0,0 +1,156 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem;
+
+import lombok.NonNull;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Solves the <i>multi-dimensional</i> 0/1 knapsack problem over an {@link ItemStore},
+ * where each item has one weight per dimension and the knapsack one capacity per
+ * dimension, all of them must be respected.
+ *
+ * <p>The states of the dynamic programming are all the combinations of capacities,
+ * flattened in a single row with mixed-radix indices, so an item is a constant offset
+ * in the row and the row is iterated backwards as in {@link RollingKnapsackProblem}.
+ * The traceback uses a bitset of decisions per item as {@link BitsetKnapsackProblem}.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @implSpec This class is Thread-Safe.
+ * @see com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem.ItemStore
+ * @since 1.7
+ */
+public class MultiDimensionalKnapsackProblem {
+
+    /**
+     * Maximum amount of states of the row, the maximum size of an array.
+     */
+    private static final long MAX_STATES = Integer.MAX_VALUE - 8;
+
+    /**
+     * Computes the items of the specified store that give the maximum
+     * value within the specified capacities.
+     *
+     * <p>Time complexity - O(n * d * S), where S is the product of the capacities
+     * <p>Space complexity - O(n * S / 64)
+     *
+     * @param store      to choose the items from
+     * @param capacities of the knapsack, one per dimension of the store
+     * @return the chosen items
+     * @throws NullPointerException     if either the store or capacities are {@code null}
+     * @throws IllegalArgumentException if there is not one capacity per dimension
+     * @throws IllegalArgumentException if a capacity is {@code <= 0}
+     * @throws IllegalArgumentException if the product of the capacities is too big
+     */
+    @NonNull
+    public Selection solve(final @NonNull ItemStore store, final int @NonNull ... capacities) {
+        final int dimensions = store.dimensions();
+        checkArgument(capacities.length == dimensions, "expected one capacity per dimension", capacities.length);
+
+        // stride of each dimension in the flattened row
+        final int[] strides = new int[dimensions];
+        long states = 1L;
+        for (int d = 0; d < dimensions; ++d) {
+            checkArgument(capacities[d] > 0, "capacity is negative or zero", capacities[d]);
+            strides[d] = (int) states;
+            states *= capacities[d] + 1L;
+            checkArgument(states <= MAX_STATES, "too many states for the capacities", states);
+        }
+
+        final int[] values = store.values;
+        final int[][] weights = store.weights;
+        final int amount = store.size();
+
+        final long[] row = new long[(int) states];
+        final long[][] decisions = new long[amount][];
+        final int[] offsets = new int[amount];
+        final int[] coordinates = new int[dimensions];
+
+        for (int i = 0; i < amount; ++i) {
+            if (values[i] == 0 || !fits(weights, i, capacities)) {
+                continue;
+            }
+
+            int offset = 0;
+            for (int d = 0; d < dimensions; ++d) {
+                offset += weights[d][i] * strides[d];
+            }
+            offsets[i] = offset;
+
+            final long[] taken = decisions[i] = new long[(int) ((states - 1) >>> 6) + 1];
+            final int value = values[i];
+
+            System.arraycopy(capacities, 0, coordinates, 0, dimensions);
+            for (int s = (int) states - 1; s >= offset; --s) {
+                if (fitsAt(weights, i, coordinates)) {
+                    final long candidate = row[s - offset] + value;
+                    if (candidate > row[s]) {
+                        row[s] = candidate;
+                        taken[s >>> 6] |= 1L << s;
+                    }
+                }
+                decrement(coordinates, capacities);
+            }
+        }
+
+        final int[] counts = new int[amount];
+        int s = (int) states - 1;
+        for (int i = amount - 1; i >= 0; --i) {
+            if (decisions[i] != null && (decisions[i][s >>> 6] & (1L << s)) != 0) {
+                counts[i] = 1;
+                s -= offsets[i];
+            }
+        }
+
+        return new Selection(store, counts, row[(int) states - 1]);
+    }
+
+    /**
+     * Checks whether the weights of the specified item fit in the capacities.
+     *
+     * @param weights    of the items, by dimension
+     * @param item       to check
+     * @param capacities of each dimension
+     * @return whether the item fits
+     */
+    private boolean fits(final int[][] weights, final int item, final int[] capacities) {
+        for (int d = 0; d < capacities.length; ++d) {
+            if (weights[d][item] > capacities[d]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the weights of the specified item fit in the state with
+     * the specified coordinates, so its offset does not wrap a dimension.
+     *
+     * @param weights     of the items, by dimension
+     * @param item        to check
+     * @param coordinates of the state
+     * @return whether the item fits in the state
+     */
+    private boolean fitsAt(final int[][] weights, final int item, final int[] coordinates) {
+        for (int d = 0; d < coordinates.length; ++d) {
+            if (weights[d][item] > coordinates[d]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decrements by one the specified mixed-radix coordinates.
+     *
+     * @param coordinates to decrement
+     * @param capacities  maximum of each coordinate
+     */
+    private void decrement(final int[] coordinates, final int[] capacities) {
+        int d = 0;
+        while (d < coordinates.length - 1 && coordinates[d] == 0) {
+            coordinates[d] = capacities[d];
+            ++d;
+        }
+        --coordinates[d];
+    }
+}
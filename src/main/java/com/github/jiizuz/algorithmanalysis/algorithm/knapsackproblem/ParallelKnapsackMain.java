@@ -0,0 +1,128 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem;
+
+import com.google.common.collect.ImmutableList;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Main class to compare the speedup of the {@link ParallelKnapsackProblem}
+ * against the single-threaded {@link RollingKnapsackProblem}.
+ *
+ * <p>A single call at the largest capacities takes longer than the
+ * {@code int} nanoseconds a <tt>Benchmark</tt> registers, so both solvers are
+ * warmed up and timed here by the median of {@link #RUNS} calls each.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @since 1.7
+ */
+@UtilityClass
+public class ParallelKnapsackMain {
+
+    /**
+     * Amount of random items to solve the knapsack for.
+     */
+    private static final int ITEMS = 100;
+
+    /**
+     * Capacities of the knapsack to compare, from {@code 10^5} to {@code 10^8}.
+     */
+    private static final int[] CAPACITIES = {100_000, 1_000_000, 10_000_000, 100_000_000};
+
+    /**
+     * Calls of each solver on the smallest capacity before timing, so both are compiled.
+     */
+    private static final int WARM_UP_RUNS = 20;
+
+    /**
+     * Timed calls of each solver per capacity, the median is reported.
+     */
+    private static final int RUNS = 5;
+
+    /**
+     * Runs the main instance of the project.
+     *
+     * @param args passed in the command line
+     */
+    public static void main(String[] args) {
+        final KnapsackProblem sequential = RollingKnapsackProblem.builder().skipItems(true).build();
+
+        try (final ParallelKnapsackProblem parallel = ParallelKnapsackProblem.builder().skipItems(true).build()) {
+            System.out.printf("Parallelism = %d%n", Runtime.getRuntime().availableProcessors());
+
+            final List<Item> warmUpItems = randomItems(new Random(0L), CAPACITIES[0]);
+            for (int i = 0; i < WARM_UP_RUNS; ++i) {
+                sequential.apply(warmUpItems, CAPACITIES[0]);
+                parallel.apply(warmUpItems, CAPACITIES[0]);
+            }
+
+            for (final int capacity : CAPACITIES) {
+                final List<Item> items = randomItems(new Random(capacity), capacity);
+
+                final long[] sequentialTimes = new long[RUNS];
+                final long[] parallelTimes = new long[RUNS];
+                for (int i = 0; i < RUNS; ++i) {
+                    // interleaved, so a slower period of the machine affects both alike
+                    sequentialTimes[i] = time(sequential, items, capacity);
+                    parallelTimes[i] = time(parallel, items, capacity);
+                }
+
+                final long sequentialTime = median(sequentialTimes);
+                final long parallelTime = median(parallelTimes);
+
+                System.out.printf("Capacity = %,d: sequential %,d ms, parallel %,d ms, speedup %.2fx%n",
+                        capacity,
+                        TimeUnit.NANOSECONDS.toMillis(sequentialTime),
+                        TimeUnit.NANOSECONDS.toMillis(parallelTime),
+                        (double) sequentialTime / parallelTime);
+            }
+        }
+    }
+
+    /**
+     * Generates {@link #ITEMS} random items with weights up to a tenth of the capacity.
+     *
+     * @param random   to generate the items with
+     * @param capacity of the knapsack
+     * @return the generated items
+     */
+    @NonNull
+    private List<Item> randomItems(final @NonNull Random random, final int capacity) {
+        final ImmutableList.Builder<Item> items = ImmutableList.builder();
+
+        for (int i = 0; i < ITEMS; ++i) {
+            items.add(new ImmutableItem("Object" + i, random.nextInt(1000), 1 + random.nextInt(capacity / 10)));
+        }
+
+        return items.build();
+    }
+
+    /**
+     * Solves the knapsack with the specified problem and returns the nanoseconds it took.
+     *
+     * @param problem  to solve the knapsack with
+     * @param items    to solve the knapsack for
+     * @param capacity of the knapsack
+     * @return the nanoseconds it took to solve the knapsack
+     */
+    private long time(final @NonNull KnapsackProblem problem, final @NonNull List<Item> items, final int capacity) {
+        final long start = System.nanoTime();
+        problem.apply(items, capacity);
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Median of the specified times.
+     *
+     * @param times to get the median of, sorted in place
+     * @return the median time
+     */
+    private long median(final @NonNull long[] times) {
+        Arrays.sort(times);
+        return times[(times.length - 1) >>> 1];
+    }
+}
@@ -0,0 +1,318 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * {@link KnapsackProblem} implementation that splits the capacities of each
+ * row of the matrix among a fixed pool of workers.
+ *
+ * <p>Each row only depends on the previous one, so two rolling rows are used:
+ * on every item the workers read the previous row and write their own range of
+ * columns of the next one, then wait on a barrier until all the workers are
+ * done with the item before swapping the rows.
+ *
+ * <p>The traceback uses a bitset of decisions as {@link BitsetKnapsackProblem}
+ * does; the ranges of columns are aligned to {@code 64} so every {@code long}
+ * word of the bitset is only written by a single worker.
+ *
+ * <p>The pool of workers is created on the first {@link #apply(List, Integer)}
+ * that needs it and reused by the next ones until {@link #close()}, so a
+ * benchmark does not time the creation of the threads on every call. Its
+ * threads are daemons, a solver that is never closed does not keep the JVM
+ * alive. The workers of a call wait on each other, so concurrent calls on the
+ * same solver take turns on the pool.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @see com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem.KnapsackProblem
+ * @since 1.7
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParallelKnapsackProblem implements KnapsackProblem, AutoCloseable {
+
+    /**
+     * Minimum amount of {@code long} words ({@code 64} columns each) that a
+     * worker must have, otherwise the barrier costs more than the work.
+     */
+    private static final int MIN_WORDS_PER_WORKER = 256;
+
+    /**
+     * Default status about whether we should skip the reconstruction of the items.
+     *
+     * <p>This value is used when a NoArgsConstructor is used
+     */
+    private static final boolean SKIP_ITEMS = false;
+
+    /**
+     * Amount of workers to split the columns among.
+     *
+     * <p>Less workers are used if the capacity is too small to split.
+     */
+    @Builder.Default
+    private final int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Whether only the value must be computed, in such case the
+     * {@link Result#getItems()} of the results is always {@code empty}
+     * and the bitset of decisions is not allocated.
+     */
+    @Builder.Default
+    private final boolean skipItems = SKIP_ITEMS;
+
+    /**
+     * Pool of the workers, {@code null} until a call needs it or after {@link #close()}.
+     */
+    private final AtomicReference<ExecutorService> executor = new AtomicReference<>();
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Time complexity - O(n * capacity / p)
+     * <p>Space complexity - O(n * capacity / 64)
+     *
+     * @throws IllegalArgumentException if the parallelism is {@code <= 0}
+     * @throws IllegalStateException    if a worker fails or is interrupted
+     */
+    @NonNull
+    @Override
+    public Result apply(final @NonNull List<Item> mutableItems, final @NonNull Integer capacity) {
+        checkArgument(parallelism > 0, "parallelism is negative or zero", parallelism);
+        final ImmutableList<ImmutableItem> items = KnapsackUtils.checkAndWrap(mutableItems, capacity);
+
+        final int amount = items.size();
+        final int words = (capacity >>> 6) + 1;
+        final int workers = Math.max(1, Math.min(parallelism, words / MIN_WORDS_PER_WORKER));
+
+        final Wavefront wavefront = new Wavefront(items, capacity, workers);
+
+        if (workers == 1) {
+            wavefront.compute(0, capacity + 1);
+        } else {
+            computeInParallel(wavefront, capacity, words, workers);
+        }
+
+        final long value = wavefront.rows[amount & 1][capacity];
+
+        if (skipItems) {
+            return new ImmutableResult(ImmutableList.of(), value, capacity);
+        }
+
+        int w = capacity;
+
+        final List<ImmutableItem> foundItems = Lists.newArrayList();
+
+        for (int i = amount - 1; i >= 0; --i) {
+            if ((wavefront.decisions[i][w >>> 6] & (1L << w)) != 0) {
+                final ImmutableItem item = items.get(i);
+                foundItems.add(item);
+                w -= item.getWeight();
+            }
+        }
+
+        return new ImmutableResult(ImmutableList.copyOf(foundItems), value, capacity);
+    }
+
+    /**
+     * Shuts down the pool of workers, if any. A later call creates a new one.
+     */
+    @Override
+    public synchronized void close() {
+        final ExecutorService pool = executor.getAndSet(null);
+        if (Objects.nonNull(pool)) {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Computes the rows of the wavefront with the pool of workers,
+     * creating the pool if this is the first call that needs it.
+     *
+     * @param wavefront to compute the rows of
+     * @param capacity  of the knapsack
+     * @param words     amount of {@code long} words of a row of the bitset
+     * @param workers   to split the columns among, {@code <= parallelism}
+     * @throws IllegalStateException if a worker fails or is interrupted
+     */
+    private synchronized void computeInParallel(final Wavefront wavefront, final int capacity,
+                                                final int words, final int workers) {
+        ExecutorService pool = executor.get();
+        if (Objects.isNull(pool)) {
+            pool = Executors.newFixedThreadPool(parallelism, new ThreadFactoryBuilder()
+                    .setNameFormat("knapsack-worker-%d")
+                    .setDaemon(true)
+                    .build());
+            executor.set(pool);
+        }
+
+        final List<Future<?>> futures = Lists.newArrayListWithCapacity(workers);
+        try {
+            for (int k = 0; k < workers; ++k) {
+                final int from = (int) ((long) words * k / workers) << 6;
+                final int to = Math.min(capacity + 1, (int) ((long) words * (k + 1) / workers) << 6);
+                futures.add(pool.submit(() -> wavefront.compute(from, to)));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while solving the knapsack", e);
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("a knapsack worker failed", e.getCause());
+        } finally {
+            // leave no worker of this call behind on the pool
+            for (final Future<?> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * State shared by the workers of a single {@link #apply(List, Integer)}.
+     *
+     * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+     * @since 1.7
+     */
+    private final class Wavefront {
+
+        /**
+         * Values of the items.
+         */
+        private final int[] values;
+
+        /**
+         * Weights of the items.
+         */
+        private final int[] weights;
+
+        /**
+         * Both rolling rows, the row {@code i & 1} is read on the item {@code i}.
+         */
+        private final long[][] rows;
+
+        /**
+         * One bitset per item of whether it was taken at each capacity,
+         * {@code null} if the items are skipped.
+         */
+        private final long[][] decisions;
+
+        /**
+         * Barrier that all the workers wait on after each item,
+         * {@code null} if there is a single worker.
+         */
+        private final CyclicBarrier barrier;
+
+        /**
+         * Creates the shared state for the specified items.
+         *
+         * @param items    to solve the knapsack for
+         * @param capacity of the knapsack
+         * @param workers  that will compute the rows
+         */
+        private Wavefront(final List<ImmutableItem> items, final int capacity, final int workers) {
+            final int amount = items.size();
+            values = new int[amount];
+            weights = new int[amount];
+            for (int i = 0; i < amount; ++i) {
+                values[i] = items.get(i).getValue();
+                weights[i] = items.get(i).getWeight();
+            }
+
+            rows = new long[][]{new long[capacity + 1], new long[capacity + 1]};
+            decisions = skipItems ? null : new long[amount][(capacity >>> 6) + 1];
+            barrier = workers > 1 ? new CyclicBarrier(workers) : null;
+        }
+
+        /**
+         * Computes the columns {@code [from, to)} of every row.
+         *
+         * @param from first column, inclusive
+         * @param to   last column, exclusive
+         * @throws IllegalStateException if interrupted while waiting the other workers
+         */
+        private void compute(final int from, final int to) {
+            try {
+                computeRows(from, to);
+            } catch (final RuntimeException e) {
+                // release the workers waiting on this one
+                if (barrier != null) {
+                    barrier.reset();
+                }
+                throw e;
+            }
+        }
+
+        /**
+         * Computes the columns {@code [from, to)} of every row, waiting
+         * the other workers after each item.
+         *
+         * @param from first column, inclusive
+         * @param to   last column, exclusive
+         */
+        private void computeRows(final int from, final int to) {
+            for (int i = 0; i < values.length; ++i) {
+                final long[] previous = rows[i & 1];
+                final long[] next = rows[(i + 1) & 1];
+                final long[] taken = decisions == null ? null : decisions[i];
+                final int weight = weights[i];
+                final int value = values[i];
+
+                final int split = Math.max(from, Math.min(to, weight));
+                System.arraycopy(previous, from, next, from, split - from);
+
+                for (int j = split; j < to; ++j) {
+                    final long candidate = previous[j - weight] + value;
+                    if (candidate > previous[j]) {
+                        next[j] = candidate;
+                        if (taken != null) {
+                            taken[j >>> 6] |= 1L << j;
+                        }
+                    } else {
+                        next[j] = previous[j];
+                    }
+                }
+
+                awaitOthers();
+            }
+        }
+
+        /**
+         * Waits until all the workers are done with the current item.
+         *
+         * @throws IllegalStateException if interrupted or the barrier is broken
+         */
+        private void awaitOthers() {
+            if (barrier == null) {
+                return;
+            }
+
+            try {
+                barrier.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("interrupted while waiting the other workers", e);
+            } catch (final BrokenBarrierException e) {
+                throw new IllegalStateException("another worker failed", e);
+            }
+        }
+    }
+}
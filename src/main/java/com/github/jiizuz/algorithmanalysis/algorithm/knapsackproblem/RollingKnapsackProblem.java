@@ -0,0 +1,222 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem;
+
+import com.google.common.collect.ImmutableList;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * {@link KnapsackProblem} implementation that keeps a single row of the
+ * matrix used by {@link MatrixKnapsackProblem}, iterating the capacities
+ * backwards so each item is only counted once.
+ *
+ * <p>The memory used is {@code O(capacity)} instead of {@code O(n * capacity)}.
+ * Since the matrix is not available for the traceback, the items are
+ * reconstructed with a <i>Hirschberg</i> divide and conquer: the items are
+ * split in two halves, the best split of the capacity between both halves
+ * is found combining the rows of each half, and each half is then solved
+ * recursively with its share of the capacity. The value is the sum of the
+ * chosen items, so no extra pass is needed for it.
+ *
+ * <p>Each level of the recursion computes the rows of all the items once,
+ * but the halves of a level share the capacity of their parent, so a level
+ * costs half the previous one: the reconstruction computes about
+ * {@code 2 * n * capacity} cells, twice the value-only computation. Only the
+ * two rows of the split in progress are alive at once, they are released
+ * before recursing into the halves.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @see com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem.KnapsackProblem
+ * @since 1.7
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollingKnapsackProblem implements KnapsackProblem {
+
+    /**
+     * Default status about whether we should skip the reconstruction of the items.
+     *
+     * <p>This value is used when a NoArgsConstructor is used
+     */
+    private static final boolean SKIP_ITEMS = false;
+
+    /**
+     * Whether only the value must be computed, in such case the
+     * {@link Result#getItems()} of the results is always {@code empty}.
+     */
+    @Builder.Default
+    private final boolean skipItems = SKIP_ITEMS;
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Time complexity - O(n * capacity), about {@code 2 * n * capacity} with the items
+     * <p>Space complexity - O(n + capacity)
+     */
+    @NonNull
+    @Override
+    public Result apply(final @NonNull List<Item> mutableItems, final @NonNull Integer capacity) {
+        final ImmutableList<ImmutableItem> items = KnapsackUtils.checkAndWrap(mutableItems, capacity);
+
+        final int amount = items.size();
+        final int[] values = new int[amount];
+        final int[] weights = new int[amount];
+
+        for (int i = 0; i < amount; ++i) {
+            values[i] = items.get(i).getValue();
+            weights[i] = items.get(i).getWeight();
+        }
+
+        if (skipItems) {
+            final long[] row = computeRow(values, weights, 0, amount, capacity);
+            return new ImmutableResult(ImmutableList.of(), row[capacity], capacity);
+        }
+
+        final boolean[] taken = new boolean[amount];
+        final long value = reconstruct(values, weights, 0, amount, capacity, taken);
+
+        final ImmutableList.Builder<Item> foundItems = ImmutableList.builder();
+        for (int i = 0; i < amount; ++i) {
+            if (taken[i]) {
+                foundItems.add(items.get(i));
+            }
+        }
+
+        return new ImmutableResult(foundItems.build(), value, capacity);
+    }
+
+    /**
+     * Computes the items of the specified store that give the maximum value
+     * within the specified capacity, using the weights of the first dimension.
+     *
+     * <p>As the store is already made of primitive arrays, the items are not
+     * copied nor wrapped, so a store can be solved many times cheaply.
+     *
+     * @param store    to choose the items from
+     * @param capacity of the knapsack
+     * @return the chosen items, with no items if they are skipped
+     * @throws NullPointerException     if the store is {@code null}
+     * @throws IllegalArgumentException if the capacity is {@code <= 0}
+     * @throws IllegalArgumentException if the store is {@code empty}
+     */
+    @NonNull
+    public Selection solve(final @NonNull ItemStore store, final int capacity) {
+        checkArgument(capacity > 0, "capacity is negative or zero", capacity);
+        checkArgument(store.size() > 0, "the store is empty");
+
+        final int amount = store.size();
+        final int[] values = store.values;
+        final int[] weights = store.weights[0];
+
+        final int[] counts = new int[amount];
+
+        if (skipItems) {
+            final long[] row = computeRow(values, weights, 0, amount, capacity);
+            return new Selection(store, counts, row[capacity]);
+        }
+
+        final boolean[] taken = new boolean[amount];
+        final long value = reconstruct(values, weights, 0, amount, capacity, taken);
+        for (int i = 0; i < amount; ++i) {
+            counts[i] = taken[i] ? 1 : 0;
+        }
+
+        return new Selection(store, counts, value);
+    }
+
+    /**
+     * Computes the last row of the knapsack matrix for the items in the
+     * range {@code [from, to)}, where the value at the index {@code j} is
+     * the maximum value that fits in a knapsack of capacity {@code j}.
+     *
+     * @param values   of the items
+     * @param weights  of the items
+     * @param from     first item index, inclusive
+     * @param to       last item index, exclusive
+     * @param capacity of the knapsack
+     * @return the computed row of {@code capacity + 1} elements
+     */
+    static long @NonNull [] computeRow(final int[] values, final int[] weights,
+                                       final int from, final int to, final int capacity) {
+        final long[] row = new long[capacity + 1];
+
+        for (int i = from; i < to; ++i) {
+            final int weight = weights[i];
+            final int value = values[i];
+
+            // backwards, so row[j - weight] still holds the previous item's value
+            for (int j = capacity; j >= weight; --j) {
+                final long candidate = row[j - weight] + value;
+                if (candidate > row[j]) {
+                    row[j] = candidate;
+                }
+            }
+        }
+
+        return row;
+    }
+
+    /**
+     * Marks in the specified array the items in the range {@code [from, to)}
+     * that give the maximum value for the specified capacity.
+     *
+     * @param values   of the items
+     * @param weights  of the items
+     * @param from     first item index, inclusive
+     * @param to       last item index, exclusive
+     * @param capacity of the knapsack for the range
+     * @param taken    to mark the chosen items on
+     * @return the value of the marked items
+     */
+    private long reconstruct(final int[] values, final int[] weights,
+                             final int from, final int to, final int capacity, final boolean[] taken) {
+        if (to - from == 1) {
+            taken[from] = weights[from] <= capacity && values[from] > 0;
+            return taken[from] ? values[from] : 0L;
+        }
+
+        final int mid = (from + to) >>> 1;
+        final int split = split(values, weights, from, mid, to, capacity);
+
+        return reconstruct(values, weights, from, mid, split, taken)
+                + reconstruct(values, weights, mid, to, capacity - split, taken);
+    }
+
+    /**
+     * Finds the best split of the specified capacity between the items in
+     * the ranges {@code [from, mid)} and {@code [mid, to)}.
+     *
+     * <p>The rows of both halves are only referenced here, so they can be
+     * collected before the halves are reconstructed.
+     *
+     * @param values   of the items
+     * @param weights  of the items
+     * @param from     first item index of the first half, inclusive
+     * @param mid      first item index of the second half, inclusive
+     * @param to       last item index of the second half, exclusive
+     * @param capacity of the knapsack for both halves
+     * @return the capacity for the first half, the rest is for the second one
+     */
+    private int split(final int[] values, final int[] weights,
+                      final int from, final int mid, final int to, final int capacity) {
+        final long[] left = computeRow(values, weights, from, mid, capacity);
+        final long[] right = computeRow(values, weights, mid, to, capacity);
+
+        int split = 0;
+        long best = -1L;
+        for (int j = 0; j <= capacity; ++j) {
+            final long value = left[j] + right[capacity - j];
+            if (value > best) {
+                best = value;
+                split = j;
+            }
+        }
+        return split;
+    }
+}
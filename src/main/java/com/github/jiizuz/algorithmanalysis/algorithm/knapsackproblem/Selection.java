@@ -0,0 +1,47 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem;
+
+import lombok.Data;
+import lombok.NonNull;
+
+import java.util.List;
+
+/**
+ * Items chosen from an {@link ItemStore} by a knapsack solver, as the
+ * amount of copies taken of each item of the store.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @see com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem.ItemStore
+ * @since 1.7
+ */
+@Data
+public final class Selection {
+
+    /**
+     * Store the items were chosen from.
+     */
+    @NonNull
+    private final ItemStore store;
+
+    /**
+     * Amount of copies taken of each item of the store, by index.
+     *
+     * @implSpec The array is not copied, it must not be modified.
+     */
+    private final int @NonNull [] counts;
+
+    /**
+     * Total value of the chosen items.
+     */
+    private final long value;
+
+    /**
+     * Wraps the chosen items, repeating each one as many times as it was taken.
+     *
+     * @return the immutable list of chosen items
+     * @see ItemStore#getItems(int[])
+     */
+    @NonNull
+    public List<Item> getItems() {
+        return store.getItems(counts);
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem;
+
+import lombok.NonNull;
+
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Solves the <i>unbounded</i> knapsack problem over an {@link ItemStore},
+ * where any amount of copies of each item can be taken.
+ *
+ * <p>A single row is iterated forwards, so the row at {@code j - weight} may
+ * already hold copies of the same item. For the traceback only the last item
+ * that improved each capacity is kept, which is {@code O(capacity)} memory.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @implSpec This class is Thread-Safe.
+ * @see com.github.jiizuz.algorithmanalysis.algorithm.knapsackproblem.ItemStore
+ * @since 1.7
+ */
+public class UnboundedKnapsackProblem {
+
+    /**
+     * Computes the amount of copies of each item of the specified store that
+     * give the maximum value within the specified capacity, using the weights
+     * of the first dimension.
+     *
+     * <p>Time complexity - O(n * capacity)
+     * <p>Space complexity - O(n + capacity)
+     *
+     * @param store    to choose the items from
+     * @param capacity of the knapsack
+     * @return the chosen copies of the items
+     * @throws NullPointerException     if the store is {@code null}
+     * @throws IllegalArgumentException if the capacity is {@code <= 0}
+     * @throws IllegalArgumentException if an item has value but no weight, the value would be infinite
+     */
+    @NonNull
+    public Selection solve(final @NonNull ItemStore store, final int capacity) {
+        checkArgument(capacity > 0, "capacity is negative or zero", capacity);
+
+        final int[] values = store.values;
+        final int[] weights = store.weights[0];
+
+        final long[] row = new long[capacity + 1];
+        // last item that improved each capacity, -1 if none
+        final int[] last = new int[capacity + 1];
+        Arrays.fill(last, -1);
+
+        for (int i = 0; i < store.size(); ++i) {
+            final int weight = weights[i];
+            final int value = values[i];
+            checkArgument(weight > 0 || value == 0, "weightless item with value", i);
+            if (value == 0) {
+                continue;
+            }
+
+            // forwards, so row[j - weight] may already hold this item
+            for (int j = weight; j <= capacity; ++j) {
+                final long candidate = row[j - weight] + value;
+                if (candidate > row[j]) {
+                    row[j] = candidate;
+                    last[j] = i;
+                }
+            }
+        }
+
+        final int[] counts = new int[store.size()];
+        for (int j = capacity; last[j] >= 0; j -= weights[last[j]]) {
+            ++counts[last[j]];
+        }
+
+        return new Selection(store, counts, row[capacity]);
+    }
+}
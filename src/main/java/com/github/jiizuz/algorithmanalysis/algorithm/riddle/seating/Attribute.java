@@ -0,0 +1,134 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.riddle.seating;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import lombok.NonNull;
+
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Kind of information of the people at a round table, like their names or jobs,
+ * whose values are taken by different seats of a {@link SeatingPuzzle}.
+ *
+ * <p>Each value sits at exactly one of the {@link #getSeats() seats} of the
+ * attribute, and two values of the same attribute never share a seat. If the
+ * attribute has as many values as seats, every seat takes one of them.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @apiNote This class is immutable and Thread-Safe.
+ * @see com.github.jiizuz.algorithmanalysis.algorithm.riddle.seating.SeatingPuzzle
+ * @since 1.7
+ */
+public final class Attribute {
+
+    /**
+     * Bitmask of every seat of a table.
+     */
+    public static final long ALL_SEATS = -1L;
+
+    /**
+     * Name of the attribute.
+     */
+    private final String name;
+
+    /**
+     * Values of the attribute, unique across the puzzle.
+     */
+    private final ImmutableList<String> values;
+
+    /**
+     * Bitmask of the seats that may take a value of the attribute.
+     */
+    private final long seats;
+
+    /**
+     * Creates a new {@link Attribute}.
+     *
+     * @param name   of the attribute
+     * @param seats  bitmask of the seats that may take a value
+     * @param values of the attribute
+     */
+    private Attribute(final String name, final long seats, final ImmutableList<String> values) {
+        this.name = name;
+        this.seats = seats;
+        this.values = values;
+    }
+
+    /**
+     * Creates a new {@link Attribute} whose values may take any seat.
+     *
+     * @param name   of the attribute
+     * @param values of the attribute
+     * @return the new attribute
+     * @throws NullPointerException     if either the name or a value is {@code null}
+     * @throws IllegalArgumentException if there are no values or a value is repeated
+     */
+    @NonNull
+    public static Attribute of(final @NonNull String name, final @NonNull String... values) {
+        return of(name, ALL_SEATS, values);
+    }
+
+    /**
+     * Creates a new {@link Attribute} whose values may only take the specified seats.
+     *
+     * @param name   of the attribute
+     * @param seats  bitmask of the seats that may take a value, the seat {@code i} at the bit {@code i}
+     * @param values of the attribute
+     * @return the new attribute
+     * @throws NullPointerException     if either the name or a value is {@code null}
+     * @throws IllegalArgumentException if there are no values, a value is repeated or there are no seats
+     */
+    @NonNull
+    public static Attribute of(final @NonNull String name, final long seats, final @NonNull String... values) {
+        checkArgument(values.length > 0, "attribute without values", name);
+        checkArgument(seats != 0L, "attribute without seats", name);
+
+        final ImmutableList<String> list = ImmutableList.copyOf(values);
+        checkArgument(list.stream().distinct().count() == list.size(), "repeated value", name);
+
+        return new Attribute(name, seats, list);
+    }
+
+    /**
+     * Name of the attribute.
+     *
+     * @return the name
+     */
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Values of the attribute.
+     *
+     * @return the immutable list of values
+     */
+    @NonNull
+    public List<String> getValues() {
+        return values;
+    }
+
+    /**
+     * Bitmask of the seats that may take a value of the attribute, the seat {@code i} at the bit {@code i}.
+     *
+     * @return the bitmask of the seats
+     */
+    public long getSeats() {
+        return seats;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("name", name)
+                .add("values", values)
+                .add("seats", Long.toBinaryString(seats))
+                .toString();
+    }
+}
@@ -0,0 +1,248 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.riddle.seating;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import lombok.NonNull;
+
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Restriction between the seats of some values of a {@link SeatingPuzzle}.
+ *
+ * <p>The seats are numbered clockwise, so the seat at the <i>left</i> of the
+ * seat {@code i} is {@code i + 1}, the one at its <i>right</i> is {@code i - 1}
+ * and the one in <i>front</i> is {@code i + seats / 2}, all around the table;
+ * as the {@code left}, {@code right} and {@code front} of
+ * {@link com.github.jiizuz.algorithmanalysis.algorithm.riddle.tableriddle.TableRiddle.Person}.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @apiNote This class is immutable and Thread-Safe.
+ * @see com.github.jiizuz.algorithmanalysis.algorithm.riddle.seating.SeatingPuzzle
+ * @since 1.7
+ */
+public final class Constraint {
+
+    /**
+     * Relation between the arguments.
+     */
+    private final Relation relation;
+
+    /**
+     * Names of the values, or attributes, the relation is about.
+     */
+    private final ImmutableList<String> arguments;
+
+    /**
+     * Seat of the {@link Relation#AT} relation, {@code -1} for the others.
+     */
+    private final int seat;
+
+    /**
+     * Creates a new {@link Constraint}.
+     *
+     * @param relation  between the arguments
+     * @param arguments names of the values, or attributes
+     * @param seat      of the {@link Relation#AT} relation
+     */
+    private Constraint(final Relation relation, final ImmutableList<String> arguments, final int seat) {
+        this.relation = relation;
+        this.arguments = arguments;
+        this.seat = seat;
+    }
+
+    /**
+     * The value {@code a} sits at the specified seat.
+     *
+     * @param a    value to seat
+     * @param seat of the value
+     * @return the new constraint
+     * @throws NullPointerException     if the value is {@code null}
+     * @throws IllegalArgumentException if the seat is negative
+     */
+    @NonNull
+    public static Constraint at(final @NonNull String a, final int seat) {
+        checkArgument(seat >= 0, "seat < 0", seat);
+        return new Constraint(Relation.AT, ImmutableList.of(a), seat);
+    }
+
+    /**
+     * The values {@code a} and {@code b} sit at the same seat, they belong to the same person.
+     *
+     * @param a first value
+     * @param b second value
+     * @return the new constraint
+     * @throws NullPointerException if a value is {@code null}
+     */
+    @NonNull
+    public static Constraint same(final @NonNull String a, final @NonNull String b) {
+        return new Constraint(Relation.SAME, ImmutableList.of(a, b), -1);
+    }
+
+    /**
+     * The values {@code a} and {@code b} sit at different seats.
+     *
+     * @param a first value
+     * @param b second value
+     * @return the new constraint
+     * @throws NullPointerException if a value is {@code null}
+     */
+    @NonNull
+    public static Constraint different(final @NonNull String a, final @NonNull String b) {
+        return new Constraint(Relation.DIFFERENT, ImmutableList.of(a, b), -1);
+    }
+
+    /**
+     * The value {@code a} sits immediately to the left of {@code b}.
+     *
+     * @param a first value
+     * @param b second value
+     * @return the new constraint
+     * @throws NullPointerException if a value is {@code null}
+     */
+    @NonNull
+    public static Constraint leftOf(final @NonNull String a, final @NonNull String b) {
+        return new Constraint(Relation.LEFT_OF, ImmutableList.of(a, b), -1);
+    }
+
+    /**
+     * The value {@code a} sits immediately to the right of {@code b}.
+     *
+     * @param a first value
+     * @param b second value
+     * @return the new constraint
+     * @throws NullPointerException if a value is {@code null}
+     */
+    @NonNull
+    public static Constraint rightOf(final @NonNull String a, final @NonNull String b) {
+        return new Constraint(Relation.RIGHT_OF, ImmutableList.of(a, b), -1);
+    }
+
+    /**
+     * The value {@code a} sits directly in front of {@code b}.
+     *
+     * @param a first value
+     * @param b second value
+     * @return the new constraint
+     * @throws NullPointerException if a value is {@code null}
+     */
+    @NonNull
+    public static Constraint inFrontOf(final @NonNull String a, final @NonNull String b) {
+        return new Constraint(Relation.IN_FRONT_OF, ImmutableList.of(a, b), -1);
+    }
+
+    /**
+     * The value {@code a} sits at one side of {@code b}.
+     *
+     * @param a first value
+     * @param b second value
+     * @return the new constraint
+     * @throws NullPointerException if a value is {@code null}
+     */
+    @NonNull
+    public static Constraint nextTo(final @NonNull String a, final @NonNull String b) {
+        return new Constraint(Relation.NEXT_TO, ImmutableList.of(a, b), -1);
+    }
+
+    /**
+     * The value {@code a} does not sit at any side of {@code b}.
+     *
+     * @param a first value
+     * @param b second value
+     * @return the new constraint
+     * @throws NullPointerException if a value is {@code null}
+     */
+    @NonNull
+    public static Constraint notNextTo(final @NonNull String a, final @NonNull String b) {
+        return new Constraint(Relation.NOT_NEXT_TO, ImmutableList.of(a, b), -1);
+    }
+
+    /**
+     * The value {@code middle} sits between {@code x} and {@code y}, in any order.
+     *
+     * @param middle value at the middle
+     * @param x      value at one side
+     * @param y      value at the other side
+     * @return the new constraint
+     * @throws NullPointerException if a value is {@code null}
+     */
+    @NonNull
+    public static Constraint between(final @NonNull String middle, final @NonNull String x, final @NonNull String y) {
+        return new Constraint(Relation.BETWEEN, ImmutableList.of(middle, x, y), -1);
+    }
+
+    /**
+     * The value of the attribute {@code first} that sits with {@code x} is at the same
+     * index as the value of the attribute {@code second} that sits with {@code y}.
+     *
+     * <p>E.g. with the last names of the husbands and of the wives in the same
+     * order, <i>Ambrosio is married to the writer</i> is
+     * {@code paired("husband", "wife", "Ambrosio", "writer")}.
+     *
+     * @param first  name of the attribute of {@code x}
+     * @param second name of the attribute of {@code y}, with as many values as {@code first}
+     * @param x      value that sits with the first attribute
+     * @param y      value that sits with the second attribute
+     * @return the new constraint
+     * @throws NullPointerException if a name is {@code null}
+     */
+    @NonNull
+    public static Constraint paired(final @NonNull String first, final @NonNull String second,
+                                    final @NonNull String x, final @NonNull String y) {
+        return new Constraint(Relation.PAIRED, ImmutableList.of(first, second, x, y), -1);
+    }
+
+    /**
+     * Relation between the arguments.
+     *
+     * @return the relation
+     */
+    @NonNull
+    public Relation getRelation() {
+        return relation;
+    }
+
+    /**
+     * Names of the values, or attributes, the relation is about, in the order of the factory.
+     *
+     * @return the immutable list of arguments
+     */
+    @NonNull
+    public List<String> getArguments() {
+        return arguments;
+    }
+
+    /**
+     * Seat of the {@link Relation#AT} relation.
+     *
+     * @return the seat, {@code -1} for the other relations
+     */
+    public int getSeat() {
+        return seat;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final MoreObjects.ToStringHelper helper = MoreObjects.toStringHelper(this)
+                .add("relation", relation)
+                .add("arguments", arguments);
+        if (relation == Relation.AT) {
+            helper.add("seat", seat);
+        }
+        return helper.toString();
+    }
+
+    /**
+     * Relations that a {@link Constraint} can declare.
+     *
+     * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+     * @since 1.7
+     */
+    public enum Relation {
+        AT, SAME, DIFFERENT, LEFT_OF, RIGHT_OF, IN_FRONT_OF, NEXT_TO, NOT_NEXT_TO, BETWEEN, PAIRED
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.riddle.seating;
+
+import lombok.NonNull;
+
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+
+/**
+ * Solution of a {@link SeatingPuzzle}: the seat of each value.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @apiNote This class is immutable and Thread-Safe.
+ * @see com.github.jiizuz.algorithmanalysis.algorithm.riddle.seating.SeatingSolver
+ * @since 1.7
+ */
+public final class Seating {
+
+    /**
+     * Puzzle this seating solves.
+     */
+    private final SeatingPuzzle puzzle;
+
+    /**
+     * Seat of each variable of the puzzle.
+     */
+    private final int[] seats;
+
+    /**
+     * Creates a new {@link Seating}.
+     *
+     * @param puzzle this seating solves
+     * @param seats  seat of each variable of the puzzle, not copied
+     */
+    Seating(final SeatingPuzzle puzzle, final int[] seats) {
+        this.puzzle = puzzle;
+        this.seats = seats;
+    }
+
+    /**
+     * Puzzle this seating solves.
+     *
+     * @return the puzzle
+     */
+    @NonNull
+    public SeatingPuzzle getPuzzle() {
+        return puzzle;
+    }
+
+    /**
+     * Seat of the specified value.
+     *
+     * @param value name of the value
+     * @return the seat of the value
+     * @throws NullPointerException     if the value is {@code null}
+     * @throws IllegalArgumentException if the puzzle has no such value
+     */
+    public int getSeat(final @NonNull String value) {
+        final int variable = puzzle.getVariable(value);
+        checkArgument(variable >= 0, "unknown value", value);
+        return seats[variable];
+    }
+
+    /**
+     * Value of the specified attribute that sits at the specified seat.
+     *
+     * @param attribute name of the attribute
+     * @param seat      to look for
+     * @return the value at the seat, or empty if no value of the attribute sits there
+     * @throws NullPointerException      if the attribute is {@code null}
+     * @throws IllegalArgumentException  if the puzzle has no such attribute
+     * @throws IndexOutOfBoundsException if the seat is not on the table
+     */
+    @NonNull
+    public Optional<String> getValue(final @NonNull String attribute, final int seat) {
+        final int index = puzzle.getAttributeIndex(attribute);
+        checkArgument(index >= 0, "unknown attribute", attribute);
+        checkElementIndex(seat, puzzle.getSeats());
+
+        for (int v = puzzle.getAttributeStart(index), end = puzzle.getAttributeStart(index + 1); v < end; ++v) {
+            if (seats[v] == seat) {
+                return Optional.of(puzzle.getValues().get(v));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final StringBuilder bob = new StringBuilder();
+        for (int seat = 0; seat < puzzle.getSeats(); ++seat) {
+            bob.append(seat).append(':');
+            for (final Attribute attribute : puzzle.getAttributes()) {
+                getValue(attribute.getName(), seat).ifPresent(value -> bob.append(' ').append(value));
+            }
+            bob.append('\n');
+        }
+        return bob.toString();
+    }
+}
@@ -0,0 +1,332 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.riddle.seating;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Round table assignment puzzle declared as data: the amount of seats, the
+ * {@link Attribute}s whose values take the seats and the {@link Constraint}s
+ * between the seats of the values.
+ *
+ * <p>The {@link com.github.jiizuz.algorithmanalysis.algorithm.riddle.tableriddle.TableRiddle}
+ * is one of these puzzles, with {@code 8} seats and the names, jobs and last
+ * names of the Mr.'s and of the Mrs.'s as attributes:<pre>
+ *     SeatingPuzzle.builder()
+ *             .seats(8)
+ *             .attribute(Attribute.of("mr name", 0x55, "Alberto", "Ambrosio", "Alfonso", "Alfredo"))
+ *             ...
+ *             .constraint(Constraint.same("Alberto", "lawyer"))
+ *             .constraint(Constraint.inFrontOf("Alfredo", "customs official"))
+ *             ...
+ *             .build();
+ * </pre>
+ *
+ * <p>Each value is a variable of the puzzle, resolved by its name, so the
+ * values must be unique across all the attributes. The puzzle is solved by
+ * the {@link SeatingSolver}.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @apiNote This class is immutable and Thread-Safe.
+ * @see com.github.jiizuz.algorithmanalysis.algorithm.riddle.seating.SeatingSolver
+ * @since 1.7
+ */
+public final class SeatingPuzzle {
+
+    /**
+     * Maximum amount of seats, a domain of seats is a {@code long} bitmask.
+     */
+    public static final int MAX_SEATS = Long.SIZE;
+
+    /**
+     * Amount of seats of the table.
+     */
+    private final int seats;
+
+    /**
+     * Attributes of the puzzle, in order of declaration.
+     */
+    private final ImmutableList<Attribute> attributes;
+
+    /**
+     * Constraints of the puzzle, in order of declaration.
+     */
+    private final ImmutableList<Constraint> constraints;
+
+    /**
+     * Value of each variable.
+     */
+    private final ImmutableList<String> values;
+
+    /**
+     * Variable of each value.
+     */
+    private final Object2IntMap<String> variables;
+
+    /**
+     * Index of each attribute.
+     */
+    private final Object2IntMap<String> attributeIndices;
+
+    /**
+     * First variable of each attribute, the last element is the amount of variables.
+     */
+    private final int[] attributeStarts;
+
+    /**
+     * Seats that each variable may take before any constraint.
+     */
+    private final long[] domains;
+
+    /**
+     * Arguments of each constraint resolved to variables, see {@link #resolve(Constraint)}.
+     */
+    private final int[][] arguments;
+
+    /**
+     * Creates a new {@link SeatingPuzzle}.
+     *
+     * @param seats       amount of seats of the table
+     * @param attributes  whose values take the seats
+     * @param constraints between the seats of the values
+     * @throws NullPointerException     if either the attributes or constraints are {@code null}
+     * @throws IllegalArgumentException if the seats are less than {@code 3} or more than {@link #MAX_SEATS}
+     * @throws IllegalArgumentException if a name is repeated or unknown, or an attribute does not fit its seats
+     */
+    @Builder
+    public SeatingPuzzle(final int seats, final @NonNull @Singular List<Attribute> attributes,
+                         final @NonNull @Singular List<Constraint> constraints) {
+        checkArgument(seats >= 3 && seats <= MAX_SEATS, "seats out of [3, 64]", seats);
+        checkArgument(!attributes.isEmpty(), "puzzle without attributes");
+
+        this.seats = seats;
+        this.attributes = ImmutableList.copyOf(attributes);
+        this.constraints = ImmutableList.copyOf(constraints);
+
+        final long table = seats == MAX_SEATS ? -1L : (1L << seats) - 1;
+        final ImmutableList.Builder<String> values = ImmutableList.builder();
+        variables = new Object2IntOpenHashMap<>();
+        variables.defaultReturnValue(-1);
+        attributeIndices = new Object2IntOpenHashMap<>();
+        attributeIndices.defaultReturnValue(-1);
+        attributeStarts = new int[attributes.size() + 1];
+
+        int variable = 0;
+        for (int i = 0; i < attributes.size(); ++i) {
+            final Attribute attribute = attributes.get(i);
+            final long attributeSeats = attribute.getSeats() & table;
+
+            checkArgument(attributeIndices.put(attribute.getName(), i) < 0, "repeated attribute", attribute.getName());
+            checkArgument(attribute.getValues().size() <= Long.bitCount(attributeSeats),
+                    "more values than seats", attribute.getName());
+
+            attributeStarts[i] = variable;
+            for (final String value : attribute.getValues()) {
+                checkArgument(variables.put(value, variable++) < 0, "repeated value", value);
+                values.add(value);
+            }
+        }
+        attributeStarts[attributes.size()] = variable;
+        this.values = values.build();
+
+        domains = new long[variable];
+        for (int i = 0; i < attributes.size(); ++i) {
+            final long attributeSeats = attributes.get(i).getSeats() & table;
+            for (int v = attributeStarts[i]; v < attributeStarts[i + 1]; ++v) {
+                domains[v] = attributeSeats;
+            }
+        }
+
+        arguments = new int[this.constraints.size()][];
+        for (int i = 0; i < arguments.length; ++i) {
+            arguments[i] = resolve(this.constraints.get(i));
+        }
+    }
+
+    /**
+     * Amount of seats of the table.
+     *
+     * @return the seats
+     */
+    public int getSeats() {
+        return seats;
+    }
+
+    /**
+     * Attributes of the puzzle, in order of declaration.
+     *
+     * @return the immutable list of attributes
+     */
+    @NonNull
+    public List<Attribute> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Constraints of the puzzle, in order of declaration.
+     *
+     * @return the immutable list of constraints
+     */
+    @NonNull
+    public List<Constraint> getConstraints() {
+        return constraints;
+    }
+
+    /**
+     * Values of all the attributes, the index of a value is its variable.
+     *
+     * @return the immutable list of values
+     */
+    @NonNull
+    public List<String> getValues() {
+        return values;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("seats", seats)
+                .add("attributes", attributes)
+                .add("constraints", constraints)
+                .toString();
+    }
+
+    // solver util
+
+    /**
+     * Variable of the specified value.
+     *
+     * @param value name of the value
+     * @return the variable, {@code -1} if there is no such value
+     */
+    int getVariable(final String value) {
+        return variables.getInt(value);
+    }
+
+    /**
+     * Index of the specified attribute.
+     *
+     * @param attribute name of the attribute
+     * @return the index, {@code -1} if there is no such attribute
+     */
+    int getAttributeIndex(final String attribute) {
+        return attributeIndices.getInt(attribute);
+    }
+
+    /**
+     * First variable of the attribute at the specified index.
+     *
+     * @param attribute index of the attribute, the amount of attributes for the amount of variables
+     * @return the first variable
+     */
+    int getAttributeStart(final int attribute) {
+        return attributeStarts[attribute];
+    }
+
+    /**
+     * Seats that each variable may take before any constraint.
+     *
+     * @return a copy of the domains
+     */
+    long[] getDomains() {
+        return domains.clone();
+    }
+
+    /**
+     * Arguments of the constraint at the specified index resolved to variables.
+     *
+     * @param constraint index of the constraint
+     * @return the resolved arguments, not to be modified
+     */
+    int[] getArguments(final int constraint) {
+        return arguments[constraint];
+    }
+
+    /**
+     * Resolves the names of the specified constraint.
+     *
+     * <p>The arguments are the variables in the order of the factory, but for
+     * {@link Constraint.Relation#AT} that is the variable and the seat and for
+     * {@link Constraint.Relation#PAIRED} that are the first variables of both
+     * attributes, the amount of values of them and the variables {@code x} and {@code y}.
+     *
+     * @param constraint to resolve
+     * @return the resolved arguments
+     * @throws IllegalArgumentException if a name is unknown or the constraint does not fit the table
+     */
+    private int[] resolve(final Constraint constraint) {
+        final List<String> names = constraint.getArguments();
+
+        switch (constraint.getRelation()) {
+            case AT:
+                checkArgument(constraint.getSeat() < seats, "seat out of the table", constraint);
+                return new int[]{variable(names.get(0)), constraint.getSeat()};
+            case PAIRED: {
+                final int first = attribute(names.get(0));
+                final int second = attribute(names.get(1));
+                final int size = attributeStarts[first + 1] - attributeStarts[first];
+                checkArgument(size == attributeStarts[second + 1] - attributeStarts[second],
+                        "paired attributes of different sizes", constraint);
+                return new int[]{attributeStarts[first], attributeStarts[second], size,
+                        variable(names.get(2)), variable(names.get(3))};
+            }
+            case IN_FRONT_OF:
+                checkArgument(seats % 2 == 0, "no seat in front on an odd table", constraint);
+                return variables(names);
+            default:
+                return variables(names);
+        }
+    }
+
+    /**
+     * Variables of the specified values, in order.
+     *
+     * @param values names of the values
+     * @return the variables
+     * @throws IllegalArgumentException if there is no such value
+     */
+    private int[] variables(final List<String> values) {
+        final int[] resolved = new int[values.size()];
+        for (int i = 0; i < resolved.length; ++i) {
+            resolved[i] = variable(values.get(i));
+        }
+        return resolved;
+    }
+
+    /**
+     * Variable of the specified value.
+     *
+     * @param value name of the value
+     * @return the variable
+     * @throws IllegalArgumentException if there is no such value
+     */
+    private int variable(final String value) {
+        final int variable = variables.getInt(value);
+        checkArgument(variable >= 0, "unknown value", value);
+        return variable;
+    }
+
+    /**
+     * Index of the specified attribute.
+     *
+     * @param attribute name of the attribute
+     * @return the index
+     * @throws IllegalArgumentException if there is no such attribute
+     */
+    private int attribute(final String attribute) {
+        final int index = attributeIndices.getInt(attribute);
+        checkArgument(index >= 0, "unknown attribute", attribute);
+        return index;
+    }
+}
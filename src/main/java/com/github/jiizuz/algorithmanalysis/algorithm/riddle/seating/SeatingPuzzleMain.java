@@ -0,0 +1,88 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.riddle.seating;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+import java.util.List;
+
+/**
+ * Main entry point of the seating puzzle solver.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @since 1.7
+ */
+@UtilityClass
+public class SeatingPuzzleMain {
+
+    /**
+     * Bitmask of the seats of the Mr.'s in the table riddle, the even ones.
+     */
+    private final long MR_SEATS = 0x55L;
+
+    /**
+     * Bitmask of the seats of the Mrs.'s in the table riddle, the odd ones.
+     */
+    private final long MRS_SEATS = 0xAAL;
+
+    /**
+     * Main entry point of the program.
+     *
+     * @param args specified in the terminal
+     */
+    public void main(final String[] args) {
+        final SeatingSolver solver = new SeatingSolver(getTableRiddle());
+
+        final long start = System.nanoTime();
+        final List<Seating> solutions = solver.solve();
+        final long nanos = System.nanoTime() - start;
+
+        for (final Seating seating : solutions) {
+            System.out.println(seating);
+        }
+        System.out.printf("Solutions: %d, Nodes: %,d, Time: %,d ns%n", solutions.size(), solver.getNodes(), nanos);
+    }
+
+    /**
+     * Declares the {@link com.github.jiizuz.algorithmanalysis.algorithm.riddle.tableriddle.TableRiddle}
+     * as a {@link SeatingPuzzle}.
+     *
+     * @return the puzzle of the table riddle
+     */
+    @NonNull
+    public SeatingPuzzle getTableRiddle() {
+        return SeatingPuzzle.builder()
+                .seats(8)
+                .attribute(Attribute.of("mr name", MR_SEATS, "Alberto", "Ambrosio", "Alfonso", "Alfredo"))
+                .attribute(Attribute.of("mrs name", MRS_SEATS, "Angela", "Aurelia", "Alicia", "Analía"))
+                .attribute(Attribute.of("mr job", MR_SEATS, "Acupuntor", "Abogado", "Administrador", "Aduanero"))
+                .attribute(Attribute.of("mrs job", MRS_SEATS, "Actriz", "Acuarelista", "Escritora", "Apicultora"))
+                .attribute(Attribute.of("mr last name", MR_SEATS, "Sr. Acalá", "Sr. Gómez", "Sr. Castaño", "Sr. Martínez"))
+                .attribute(Attribute.of("mrs last name", MRS_SEATS, "Sra. Acalá", "Sra. Gómez", "Sra. Castaño", "Sra. Martínez"))
+                // rotational symmetry
+                .constraint(Constraint.at("Alberto", 0))
+                // 1.
+                .constraint(Constraint.same("Sra. Martínez", "Actriz"))
+                .constraint(Constraint.same("Alberto", "Abogado"))
+                // 2.
+                .constraint(Constraint.between("Sr. Gómez", "Angela", "Acuarelista"))
+                // 3.
+                .constraint(Constraint.paired("mr last name", "mrs last name", "Ambrosio", "Escritora"))
+                // 4.
+                .constraint(Constraint.leftOf("Aurelia", "Administrador"))
+                .constraint(Constraint.inFrontOf("Aurelia", "Sra. Gómez"))
+                // 5.
+                .constraint(Constraint.same("Sra. Castaño", "Analía"))
+                // 6.
+                .constraint(Constraint.between("Alfonso", "Sra. Acalá", "Apicultora"))
+                // 7.
+                .constraint(Constraint.inFrontOf("Alfredo", "Aduanero"))
+                // 8.
+                .constraint(Constraint.rightOf("Alicia", "Sr. Castaño"))
+                // no Mr. sat next to his wife
+                .constraint(Constraint.notNextTo("Sr. Acalá", "Sra. Acalá"))
+                .constraint(Constraint.notNextTo("Sr. Gómez", "Sra. Gómez"))
+                .constraint(Constraint.notNextTo("Sr. Castaño", "Sra. Castaño"))
+                .constraint(Constraint.notNextTo("Sr. Martínez", "Sra. Martínez"))
+                .build();
+    }
+}
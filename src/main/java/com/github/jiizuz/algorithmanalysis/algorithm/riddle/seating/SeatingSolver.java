@@ -0,0 +1,564 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.riddle.seating;
+
+import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import lombok.NonNull;
+
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Solves a {@link SeatingPuzzle} by arc consistency and backtracking.
+ *
+ * <p>The domain of each value is the {@code long} bitmask of the seats it may
+ * still take, so every relation of a {@link Constraint} is propagated with a
+ * few shifts: e.g. <i>a sits to the left of b</i> keeps only the seats of
+ * {@code a} that are one seat clockwise from the seats of {@code b}, and the
+ * other way around. Besides the constraints, the values of each attribute
+ * take different seats, and if there are as many values as seats, a seat
+ * that only one value may take is given to it.
+ *
+ * <p>The propagators are revised from a queue, a propagator is only queued
+ * again when the domain of one of its values changes, until the queue is
+ * empty (the AC-3 algorithm). Then the value with the fewest seats left is
+ * assigned to each of them in turn and the search goes on.
+ *
+ * <p>Any rotation of a solution is a solution too, so a constraint
+ * {@link Constraint#at(String, int)} should fix a value to count each one once.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @implSpec This class is not Thread-Safe.
+ * @see com.github.jiizuz.algorithmanalysis.algorithm.riddle.seating.SeatingPuzzle
+ * @since 1.7
+ */
+public class SeatingSolver {
+
+    /**
+     * Puzzle to solve.
+     */
+    private final SeatingPuzzle puzzle;
+
+    /**
+     * Amount of seats of the table.
+     */
+    private final int seats;
+
+    /**
+     * Bitmask of the seats of the table.
+     */
+    private final long table;
+
+    /**
+     * Amount of variables, values, of the puzzle.
+     */
+    private final int variables;
+
+    /**
+     * Amount of constraints, the propagators after them are the attributes' ones.
+     */
+    private final int constraints;
+
+    /**
+     * Relation of each constraint.
+     */
+    private final Constraint.Relation[] relations;
+
+    /**
+     * Whether each attribute has as many values as seats.
+     */
+    private final boolean[] covering;
+
+    /**
+     * Propagators of each variable, queued when its domain changes.
+     */
+    private final int[][] watchers;
+
+    /**
+     * Circular queue of the propagators to revise.
+     */
+    private final int[] queue;
+
+    /**
+     * Whether each propagator is in the queue.
+     */
+    private final boolean[] queued;
+
+    /**
+     * Index of the head of the queue.
+     */
+    private int head;
+
+    /**
+     * Amount of propagators in the queue.
+     */
+    private int size;
+
+    /**
+     * Amount of nodes, assignments tried, of the last search.
+     */
+    private long nodes;
+
+    /**
+     * Creates a new {@link SeatingSolver} of the specified puzzle.
+     *
+     * @param puzzle to solve
+     * @throws NullPointerException if the puzzle is {@code null}
+     */
+    public SeatingSolver(final @NonNull SeatingPuzzle puzzle) {
+        this.puzzle = puzzle;
+
+        seats = puzzle.getSeats();
+        table = seats == SeatingPuzzle.MAX_SEATS ? -1L : (1L << seats) - 1;
+
+        final int attributes = puzzle.getAttributes().size();
+        variables = puzzle.getAttributeStart(attributes);
+        constraints = puzzle.getConstraints().size();
+
+        relations = new Constraint.Relation[constraints];
+        for (int c = 0; c < constraints; ++c) {
+            relations[c] = puzzle.getConstraints().get(c).getRelation();
+        }
+
+        covering = new boolean[attributes];
+        for (int a = 0; a < attributes; ++a) {
+            final long attributeSeats = puzzle.getAttributes().get(a).getSeats() & table;
+            covering[a] = puzzle.getAttributeStart(a + 1) - puzzle.getAttributeStart(a) == Long.bitCount(attributeSeats);
+        }
+
+        final IntArrayList[] lists = new IntArrayList[variables];
+        for (int v = 0; v < variables; ++v) {
+            lists[v] = new IntArrayList();
+        }
+        for (int c = 0; c < constraints; ++c) {
+            final int[] arguments = puzzle.getArguments(c);
+            switch (relations[c]) {
+                case AT:
+                    lists[arguments[0]].add(c);
+                    break;
+                case PAIRED:
+                    for (int i = 0; i < arguments[2]; ++i) {
+                        lists[arguments[0] + i].add(c);
+                        lists[arguments[1] + i].add(c);
+                    }
+                    lists[arguments[3]].add(c);
+                    lists[arguments[4]].add(c);
+                    break;
+                default:
+                    for (final int v : arguments) {
+                        lists[v].add(c);
+                    }
+                    break;
+            }
+        }
+        for (int a = 0; a < attributes; ++a) {
+            for (int v = puzzle.getAttributeStart(a); v < puzzle.getAttributeStart(a + 1); ++v) {
+                lists[v].add(constraints + a);
+            }
+        }
+
+        watchers = new int[variables][];
+        for (int v = 0; v < variables; ++v) {
+            watchers[v] = lists[v].toIntArray();
+        }
+
+        queue = new int[constraints + attributes];
+        queued = new boolean[queue.length];
+    }
+
+    /**
+     * Finds every solution of the puzzle.
+     *
+     * @return the immutable list of solutions, empty if there is none
+     */
+    @NonNull
+    public List<Seating> solve() {
+        return solve(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Finds up to the specified amount of solutions of the puzzle.
+     *
+     * @param limit maximum amount of solutions to find
+     * @return the immutable list of solutions, empty if there is none
+     * @throws IllegalArgumentException if the limit is negative or zero
+     */
+    @NonNull
+    public List<Seating> solve(final int limit) {
+        checkArgument(limit > 0, "limit <= 0", limit);
+
+        nodes = 0L;
+        final List<Seating> solutions = new ObjectArrayList<>();
+
+        for (int p = 0; p < queue.length; ++p) {
+            enqueue(p);
+        }
+        search(puzzle.getDomains(), solutions, limit);
+
+        return ImmutableList.copyOf(solutions);
+    }
+
+    /**
+     * Amount of nodes, assignments tried, of the last search.
+     *
+     * @return the nodes of the last search
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Propagates the queued propagators over the specified domains and branches
+     * on the variable with the fewest seats left.
+     *
+     * @param domains   seats of each variable, modified in place
+     * @param solutions to add the solutions to
+     * @param limit     maximum amount of solutions
+     */
+    private void search(final long[] domains, final List<Seating> solutions, final int limit) {
+        ++nodes;
+        if (!propagate(domains)) {
+            return;
+        }
+
+        // most constrained variable
+        int variable = -1;
+        int best = Integer.MAX_VALUE;
+        for (int v = 0; v < variables; ++v) {
+            final int count = Long.bitCount(domains[v]);
+            if (count > 1 && count < best) {
+                best = count;
+                variable = v;
+            }
+        }
+
+        if (variable < 0) { // every variable has a seat
+            final int[] seating = new int[variables];
+            for (int v = 0; v < variables; ++v) {
+                seating[v] = Long.numberOfTrailingZeros(domains[v]);
+            }
+            solutions.add(new Seating(puzzle, seating));
+            return;
+        }
+
+        for (long seats = domains[variable]; seats != 0L && solutions.size() < limit; seats &= seats - 1) {
+            final long[] branch = domains.clone();
+            branch[variable] = Long.lowestOneBit(seats);
+            for (final int p : watchers[variable]) {
+                enqueue(p);
+            }
+            search(branch, solutions, limit);
+        }
+    }
+
+    /**
+     * Revises the queued propagators until the queue is empty.
+     *
+     * @param domains seats of each variable, modified in place
+     * @return <tt>false</tt> if some variable has no seats left, the queue is emptied anyway
+     */
+    private boolean propagate(final long[] domains) {
+        while (size > 0) {
+            final int propagator = queue[head];
+            head = head + 1 == queue.length ? 0 : head + 1;
+            --size;
+            queued[propagator] = false;
+
+            final boolean consistent = propagator < constraints
+                    ? revise(propagator, domains)
+                    : allDifferent(propagator - constraints, domains);
+
+            if (!consistent) {
+                while (size > 0) {
+                    queued[queue[head]] = false;
+                    head = head + 1 == queue.length ? 0 : head + 1;
+                    --size;
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Revises the constraint at the specified index.
+     *
+     * @param constraint index of the constraint
+     * @param domains    seats of each variable
+     * @return <tt>false</tt> if some variable has no seats left
+     */
+    private boolean revise(final int constraint, final long[] domains) {
+        final int[] arguments = puzzle.getArguments(constraint);
+
+        switch (relations[constraint]) {
+            case AT:
+                return narrow(domains, arguments[0], 1L << arguments[1]);
+            case SAME:
+                return offset(domains, arguments[0], arguments[1], 0);
+            case DIFFERENT:
+                return different(domains, arguments[0], arguments[1]);
+            case LEFT_OF:
+                return offset(domains, arguments[0], arguments[1], 1);
+            case RIGHT_OF:
+                return offset(domains, arguments[0], arguments[1], -1);
+            case IN_FRONT_OF:
+                return offset(domains, arguments[0], arguments[1], seats >> 1);
+            case NEXT_TO:
+                return narrow(domains, arguments[0], sides(domains[arguments[1]]))
+                        && narrow(domains, arguments[1], sides(domains[arguments[0]]));
+            case NOT_NEXT_TO:
+                return avoid(domains, arguments[0], arguments[1]) && avoid(domains, arguments[1], arguments[0]);
+            case BETWEEN:
+                return between(domains, arguments[0], arguments[1], arguments[2]);
+            case PAIRED:
+                return paired(domains, arguments[0], arguments[1], arguments[2], arguments[3], arguments[4]);
+            default:
+                throw new IllegalStateException("unknown relation " + relations[constraint]);
+        }
+    }
+
+    /**
+     * Restricts the variable {@code a} to sit {@code offset} seats clockwise from {@code b}.
+     *
+     * @param domains seats of each variable
+     * @param a       first variable
+     * @param b       second variable
+     * @param offset  seats from {@code b} to {@code a}
+     * @return <tt>false</tt> if some variable has no seats left
+     */
+    private boolean offset(final long[] domains, final int a, final int b, final int offset) {
+        return narrow(domains, a, rotate(domains[b], offset))
+                && narrow(domains, b, rotate(domains[a], -offset));
+    }
+
+    /**
+     * Restricts the variables {@code a} and {@code b} to take different seats.
+     *
+     * @param domains seats of each variable
+     * @param a       first variable
+     * @param b       second variable
+     * @return <tt>false</tt> if some variable has no seats left
+     */
+    private boolean different(final long[] domains, final int a, final int b) {
+        if (Long.bitCount(domains[b]) == 1 && !narrow(domains, a, ~domains[b])) {
+            return false;
+        }
+        return Long.bitCount(domains[a]) != 1 || narrow(domains, b, ~domains[a]);
+    }
+
+    /**
+     * Removes the seats of {@code a} whose every seat left for {@code b} is at one of their sides.
+     *
+     * @param domains seats of each variable
+     * @param a       variable to narrow
+     * @param b       variable not next to {@code a}
+     * @return <tt>false</tt> if some variable has no seats left
+     */
+    private boolean avoid(final long[] domains, final int a, final int b) {
+        final long others = domains[b];
+        switch (Long.bitCount(others)) {
+            case 1:
+                return narrow(domains, a, ~sides(others));
+            case 2: // the seat between both
+                final long one = Long.lowestOneBit(others);
+                return narrow(domains, a, ~(sides(one) & sides(others ^ one)));
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Restricts the variables {@code x} and {@code y} to sit at both sides of {@code middle}.
+     *
+     * <p>A seat of each variable is kept only if there are seats for the other two
+     * around it, so this is exact: e.g. {@code x} at the seat {@code s} needs
+     * the {@code middle} at {@code s - 1} and {@code y} at {@code s - 2}, or the
+     * {@code middle} at {@code s + 1} and {@code y} at {@code s + 2}.
+     *
+     * @param domains seats of each variable
+     * @param middle  variable at the middle
+     * @param x       variable at one side
+     * @param y       variable at the other side
+     * @return <tt>false</tt> if some variable has no seats left
+     */
+    private boolean between(final long[] domains, final int middle, final int x, final int y) {
+        if (!narrow(domains, middle, rotate(domains[x], -1) & rotate(domains[y], 1)
+                | rotate(domains[x], 1) & rotate(domains[y], -1))) {
+            return false;
+        }
+        if (!narrow(domains, x, rotate(domains[middle], 1) & rotate(domains[y], 2)
+                | rotate(domains[middle], -1) & rotate(domains[y], -2))) {
+            return false;
+        }
+        return narrow(domains, y, rotate(domains[middle], 1) & rotate(domains[x], 2)
+                | rotate(domains[middle], -1) & rotate(domains[x], -2));
+    }
+
+    /**
+     * Restricts the value of the first attribute at {@code x} and the value of the
+     * second attribute at {@code y} to have the same index.
+     *
+     * @param domains seats of each variable
+     * @param first   first variable of the first attribute
+     * @param second  first variable of the second attribute
+     * @param length  amount of values of both attributes
+     * @param x       variable with the first attribute
+     * @param y       variable with the second attribute
+     * @return <tt>false</tt> if some variable has no seats left
+     */
+    private boolean paired(final long[] domains, final int first, final int second, final int length,
+                           final int x, final int y) {
+        long xSeats = 0L;
+        long ySeats = 0L;
+        int candidate = -1;
+        int candidates = 0;
+        for (int i = 0; i < length; ++i) {
+            if ((domains[first + i] & domains[x]) != 0L && (domains[second + i] & domains[y]) != 0L) {
+                xSeats |= domains[first + i];
+                ySeats |= domains[second + i];
+                candidate = i;
+                ++candidates;
+            }
+        }
+
+        if (candidates == 0 || !narrow(domains, x, xSeats) || !narrow(domains, y, ySeats)) {
+            return false;
+        }
+        if (candidates == 1) { // a single pair is left
+            return offset(domains, first + candidate, x, 0) && offset(domains, second + candidate, y, 0);
+        }
+
+        // a known seat can not take the values of the pairs that are not possible
+        for (int i = 0; i < length; ++i) {
+            final boolean possible = (domains[first + i] & domains[x]) != 0L && (domains[second + i] & domains[y]) != 0L;
+            if (possible) {
+                continue;
+            }
+            if (Long.bitCount(domains[x]) == 1 && !narrow(domains, first + i, ~domains[x])) {
+                return false;
+            }
+            if (Long.bitCount(domains[y]) == 1 && !narrow(domains, second + i, ~domains[y])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Restricts the values of the attribute at the specified index to take different seats.
+     *
+     * @param attribute index of the attribute
+     * @param domains   seats of each variable
+     * @return <tt>false</tt> if some variable has no seats left
+     */
+    private boolean allDifferent(final int attribute, final long[] domains) {
+        final int start = puzzle.getAttributeStart(attribute);
+        final int end = puzzle.getAttributeStart(attribute + 1);
+
+        // a taken seat is removed from the others
+        for (int v = start; v < end; ++v) {
+            if (Long.bitCount(domains[v]) != 1) {
+                continue;
+            }
+            for (int w = start; w < end; ++w) {
+                if (w != v && !narrow(domains, w, ~domains[v])) {
+                    return false;
+                }
+            }
+        }
+
+        long once = 0L;
+        long twice = 0L;
+        for (int v = start; v < end; ++v) {
+            twice |= once & domains[v];
+            once |= domains[v];
+        }
+        if (Long.bitCount(once) < end - start) { // not enough seats for the values
+            return false;
+        }
+        if (!covering[attribute]) {
+            return true;
+        }
+
+        // a seat only one value can take
+        final long single = once & ~twice;
+        for (int v = start; v < end; ++v) {
+            final long only = domains[v] & single;
+            if (only == 0L) {
+                continue;
+            }
+            if (Long.bitCount(only) > 1 || !narrow(domains, v, only)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Narrows the seats of the specified variable, queueing its propagators if they changed.
+     *
+     * @param domains  seats of each variable
+     * @param variable to narrow
+     * @param mask     of the seats to keep
+     * @return <tt>false</tt> if the variable has no seats left
+     */
+    private boolean narrow(final long[] domains, final int variable, final long mask) {
+        final long narrowed = domains[variable] & mask;
+        if (narrowed == domains[variable]) {
+            return true;
+        }
+        if (narrowed == 0L) {
+            return false;
+        }
+
+        domains[variable] = narrowed;
+        for (final int p : watchers[variable]) {
+            enqueue(p);
+        }
+        return true;
+    }
+
+    /**
+     * Adds the specified propagator to the queue, if it is not already there.
+     *
+     * @param propagator to queue
+     */
+    private void enqueue(final int propagator) {
+        if (queued[propagator]) {
+            return;
+        }
+        queued[propagator] = true;
+
+        int tail = head + size++;
+        if (tail >= queue.length) {
+            tail -= queue.length;
+        }
+        queue[tail] = propagator;
+    }
+
+    /**
+     * Rotates the specified seats clockwise around the table.
+     *
+     * @param seats  bitmask of the seats
+     * @param offset seats to rotate, negative to rotate counterclockwise
+     * @return the bitmask of the rotated seats
+     */
+    private long rotate(final long seats, final int offset) {
+        final int k = Math.floorMod(offset, this.seats);
+        if (k == 0) {
+            return seats;
+        }
+        return (seats << k | seats >>> (this.seats - k)) & table;
+    }
+
+    /**
+     * Seats at both sides of the specified seats.
+     *
+     * @param seats bitmask of the seats
+     * @return the bitmask of the neighbor seats
+     */
+    private long sides(final long seats) {
+        return rotate(seats, 1) | rotate(seats, -1);
+    }
+}
@@ -0,0 +1,479 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.riddle.tableriddle;
+
+import com.github.jiizuz.algorithmanalysis.algorithm.riddle.tableriddle.TableRiddle.Job;
+import com.github.jiizuz.algorithmanalysis.algorithm.riddle.tableriddle.TableRiddle.LastName;
+import com.github.jiizuz.algorithmanalysis.algorithm.riddle.tableriddle.TableRiddle.Name;
+import com.github.jiizuz.algorithmanalysis.algorithm.riddle.tableriddle.TableRiddle.Person;
+import lombok.NonNull;
+
+import java.util.List;
+
+import static com.github.jiizuz.algorithmanalysis.algorithm.riddle.tableriddle.TableRiddle.Type.MR;
+import static com.github.jiizuz.algorithmanalysis.algorithm.riddle.tableriddle.TableRiddle.Type.MRS;
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Solves the {@link TableRiddle} by constraint propagation and backtracking,
+ * exploring the whole search space instead of sampling random seatings.
+ *
+ * <p>Each name, job and last name of a Mr. or a Mrs. is a variable whose
+ * domain is the bitmask of the seats it may still take, the Mr.'s take the
+ * even seats and the Mrs.'s the odd ones, clockwise as in {@link TableRiddle}.
+ * Every restriction of the riddle is a relation between the seats of two or
+ * three variables, so it is propagated with shifts of the bitmasks: e.g.
+ * <i>Alfredo sat in front of the customs official</i> keeps only the seats of
+ * the customs official that are four seats away from the seats of Alfredo.
+ * After the restrictions reach a fixpoint, the variable with the fewest seats
+ * is assigned and the search goes on, so a branch is discarded as soon as a
+ * restriction can not be accomplished.
+ *
+ * <p>The search does not stop on the first solution, so it also proves whether
+ * the solution is unique. Any rotation of a solution by a couple of seats is a
+ * solution too, so Alberto is fixed at the first seat to count each one once.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @see com.github.jiizuz.algorithmanalysis.algorithm.riddle.tableriddle.TableRiddle
+ * @since 1.7
+ */
+public class ConstraintTableRiddle {
+
+    /**
+     * Amount of seats of the table.
+     */
+    private static final int SEATS = 8;
+
+    /**
+     * Bitmask of the seats of the Mr.'s, the even ones.
+     */
+    private static final int MR_SEATS = 0x55;
+
+    /**
+     * Bitmask of the seats of the Mrs.'s, the odd ones.
+     */
+    private static final int MRS_SEATS = 0xAA;
+
+    /**
+     * Amount of variables, four values of each of the six groups.
+     */
+    private static final int VARIABLES = 24;
+
+    // groups of four variables, one per value
+
+    private static final int MR_NAMES = 0;
+    private static final int MRS_NAMES = 4;
+    private static final int MR_JOBS = 8;
+    private static final int MRS_JOBS = 12;
+    private static final int MR_LAST_NAMES = 16;
+    private static final int MRS_LAST_NAMES = 20;
+
+    // variables of the restrictions
+
+    private static final int ALBERTO = name(Name.ALBERTO);
+    private static final int AMBROSIO = name(Name.AMBROSIO);
+    private static final int ALFONSO = name(Name.ALFONSO);
+    private static final int ALFREDO = name(Name.ALFREDO);
+    private static final int ANGELA = name(Name.ANGELA);
+    private static final int AURELIA = name(Name.AURELIA);
+    private static final int ALICIA = name(Name.ALICIA);
+    private static final int ANALIA = name(Name.ANALIA);
+
+    private static final int LAWYER = job(Job.LAWYER);
+    private static final int POSTMASTER = job(Job.POSTMASTER);
+    private static final int CUSTOMS_OFFICIAL = job(Job.CUSTOMS_OFFICIAL);
+    private static final int ACTRESS = job(Job.ACTRESS);
+    private static final int WATERCOLORIST = job(Job.WATERCOLORIST);
+    private static final int WRITER = job(Job.WRITER);
+    private static final int BEEKEEPER = job(Job.BEEKEEPER);
+
+    private static final int MR_GOMEZ = MR_LAST_NAMES + LastName.GOMEZ.ordinal();
+    private static final int MR_CASTANIO = MR_LAST_NAMES + LastName.CASTANIO.ordinal();
+    private static final int MRS_ACALA = MRS_LAST_NAMES + LastName.ACALA.ordinal();
+    private static final int MRS_GOMEZ = MRS_LAST_NAMES + LastName.GOMEZ.ordinal();
+    private static final int MRS_CASTANIO = MRS_LAST_NAMES + LastName.CASTANIO.ordinal();
+    private static final int MRS_MARTINEZ = MRS_LAST_NAMES + LastName.MARTINEZ.ordinal();
+
+    /**
+     * Amount of nodes, assignments tried, of the last search.
+     */
+    private long nodes;
+
+    /**
+     * Seats of each variable of the first solution found, {@code null} if none.
+     */
+    private int[] solution;
+
+    /**
+     * Finds every solution of the riddle, storing the first one in the {@link Person}
+     * instances of the specified {@link List}, in the same format of
+     * {@link TableRiddle#solve(List, java.util.Random)}:<pre>
+     *    1 Mr. -> 1 Mrs. -> Mr. -> 1 Mrs. -> Mr. -> 1 Mrs. -> Mr. -> 1 Mrs.
+     * </pre>
+     *
+     * @param <T>    type of {@link Person}
+     * @param people list with the {@link Person} instances to write the results
+     * @return the amount of solutions, {@code 1} proves the solution is unique
+     * @throws NullPointerException     if the people list is {@code null}
+     * @throws IllegalArgumentException if the list does not have a size of {@code 8}
+     * @throws IllegalStateException    if the riddle has no solution
+     */
+    public <T extends Person> int solve(final @NonNull List<T> people) {
+        checkArgument(people.size() == SEATS, "Invalid people list");
+
+        nodes = 0L;
+        solution = null;
+
+        final int[] domains = new int[VARIABLES];
+        for (int group = 0; group < VARIABLES; group += 4) {
+            final int seats = isMr(group) ? MR_SEATS : MRS_SEATS;
+            for (int v = group; v < group + 4; ++v) {
+                domains[v] = seats;
+            }
+        }
+        domains[ALBERTO] = 1; // rotational symmetry
+
+        final int solutions = search(domains);
+        if (solution == null) {
+            throw new IllegalStateException("the riddle has no solution");
+        }
+
+        write(people, solution);
+        return solutions;
+    }
+
+    /**
+     * Amount of nodes, assignments tried, of the last search.
+     *
+     * @return the nodes of the last search
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Propagates the restrictions over the specified domains and branches on
+     * the variable with the fewest seats left.
+     *
+     * @param domains seats of each variable, modified in place
+     * @return the amount of solutions under the domains
+     */
+    private int search(final int[] domains) {
+        ++nodes;
+        if (!propagate(domains)) {
+            return 0;
+        }
+
+        // most constrained variable
+        int variable = -1;
+        int best = Integer.MAX_VALUE;
+        for (int v = 0; v < VARIABLES; ++v) {
+            final int count = Integer.bitCount(domains[v]);
+            if (count > 1 && count < best) {
+                best = count;
+                variable = v;
+            }
+        }
+
+        if (variable < 0) { // every variable has a seat
+            if (solution == null) {
+                solution = domains.clone();
+            }
+            return 1;
+        }
+
+        int solutions = 0;
+        for (int seats = domains[variable]; seats != 0; seats &= seats - 1) {
+            final int[] branch = domains.clone();
+            branch[variable] = Integer.lowestOneBit(seats);
+            solutions += search(branch);
+        }
+        return solutions;
+    }
+
+    /**
+     * Applies all the restrictions over the specified domains until none changes.
+     *
+     * @param domains seats of each variable, modified in place
+     * @return <tt>false</tt> if some variable has no seats left
+     */
+    private boolean propagate(final int[] domains) {
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+
+            // 1. Mrs. Martinez is the actress, Alberto is the lawyer
+            changed |= same(domains, MRS_MARTINEZ, ACTRESS, 0);
+            changed |= same(domains, ALBERTO, LAWYER, 0);
+            // 2. Mr. Gomez sat between Angela and the watercolorist
+            changed |= between(domains, MR_GOMEZ, ANGELA, WATERCOLORIST);
+            // 3. Ambrosio is married to the writer
+            changed |= married(domains, AMBROSIO, WRITER);
+            // 4. Aurelia sat to the left of the postmaster and in front of Mrs. Gomez
+            changed |= same(domains, POSTMASTER, AURELIA, -1);
+            changed |= same(domains, MRS_GOMEZ, AURELIA, 4);
+            // 5. the name of Mrs. Castaño is Analia
+            changed |= same(domains, MRS_CASTANIO, ANALIA, 0);
+            // 6. Alfonso sat between Mrs. Acala and the beekeeper
+            changed |= between(domains, ALFONSO, MRS_ACALA, BEEKEEPER);
+            // 7. Alfredo sat in front of the customs official
+            changed |= same(domains, CUSTOMS_OFFICIAL, ALFREDO, 4);
+            // 8. Alicia sat to the right of Mr. Castaño
+            changed |= same(domains, MR_CASTANIO, ALICIA, 1);
+            // no Mr. sat next to his wife
+            for (int lastName = 0; lastName < 4; ++lastName) {
+                changed |= apart(domains, MR_LAST_NAMES + lastName, MRS_LAST_NAMES + lastName);
+            }
+            // each value is taken by a different seat
+            for (int group = 0; group < VARIABLES; group += 4) {
+                changed |= allDifferent(domains, group);
+            }
+
+            for (final int seats : domains) {
+                if (seats == 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Restricts the variable {@code a} to sit {@code offset} seats clockwise from {@code b}.
+     *
+     * @param domains seats of each variable
+     * @param a       first variable
+     * @param b       second variable
+     * @param offset  seats from {@code b} to {@code a}
+     * @return <tt>true</tt> if some domain changed
+     */
+    private static boolean same(final int[] domains, final int a, final int b, final int offset) {
+        final int oldA = domains[a];
+        final int oldB = domains[b];
+        domains[a] &= rotate(oldB, offset);
+        domains[b] &= rotate(domains[a], -offset);
+        return domains[a] != oldA || domains[b] != oldB;
+    }
+
+    /**
+     * Restricts the variables {@code x} and {@code y} to sit at both sides of {@code middle}.
+     *
+     * @param domains seats of each variable
+     * @param middle  variable at the middle
+     * @param x       variable at one side
+     * @param y       variable at the other side
+     * @return <tt>true</tt> if some domain changed
+     */
+    private static boolean between(final int[] domains, final int middle, final int x, final int y) {
+        final int oldMiddle = domains[middle];
+        final int oldX = domains[x];
+        final int oldY = domains[y];
+
+        domains[x] &= sides(domains[middle]);
+        domains[y] &= sides(domains[middle]);
+        domains[middle] &= sides(domains[x]) & sides(domains[y]);
+
+        // both sides are different seats
+        if (Integer.bitCount(domains[x]) == 1) {
+            domains[y] &= ~domains[x];
+        }
+        if (Integer.bitCount(domains[y]) == 1) {
+            domains[x] &= ~domains[y];
+        }
+        // a known middle and side leave the other side
+        if (Integer.bitCount(domains[middle]) == 1) {
+            final int neighbors = sides(domains[middle]);
+            if (Integer.bitCount(domains[x]) == 1) {
+                domains[y] &= neighbors & ~domains[x];
+            }
+            if (Integer.bitCount(domains[y]) == 1) {
+                domains[x] &= neighbors & ~domains[y];
+            }
+        }
+
+        return domains[middle] != oldMiddle || domains[x] != oldX || domains[y] != oldY;
+    }
+
+    /**
+     * Restricts the Mr. with the name {@code husband} to be married to the Mrs. with the job {@code wife}.
+     *
+     * @param domains seats of each variable
+     * @param husband variable of the Mr.
+     * @param wife    variable of the Mrs.
+     * @return <tt>true</tt> if some domain changed
+     */
+    private static boolean married(final int[] domains, final int husband, final int wife) {
+        int candidate = -1;
+        int candidates = 0;
+        for (int lastName = 0; lastName < 4; ++lastName) {
+            if ((domains[MR_LAST_NAMES + lastName] & domains[husband]) != 0
+                    && (domains[MRS_LAST_NAMES + lastName] & domains[wife]) != 0) {
+                candidate = lastName;
+                ++candidates;
+            }
+        }
+
+        if (candidates == 0) {
+            final boolean changed = domains[husband] != 0;
+            domains[husband] = 0;
+            return changed;
+        }
+        if (candidates > 1) {
+            return false;
+        }
+
+        // a single last name is left for the couple
+        final boolean husbandChanged = same(domains, MR_LAST_NAMES + candidate, husband, 0);
+        return same(domains, MRS_LAST_NAMES + candidate, wife, 0) | husbandChanged;
+    }
+
+    /**
+     * Restricts the variables {@code a} and {@code b} to not sit next to each other.
+     *
+     * @param domains seats of each variable
+     * @param a       first variable
+     * @param b       second variable
+     * @return <tt>true</tt> if some domain changed
+     */
+    private static boolean apart(final int[] domains, final int a, final int b) {
+        final int oldA = domains[a];
+        final int oldB = domains[b];
+        if (Integer.bitCount(domains[a]) == 1) {
+            domains[b] &= ~sides(domains[a]);
+        }
+        if (Integer.bitCount(domains[b]) == 1) {
+            domains[a] &= ~sides(domains[b]);
+        }
+        return domains[a] != oldA || domains[b] != oldB;
+    }
+
+    /**
+     * Restricts the four variables of the specified group to take different seats.
+     *
+     * @param domains seats of each variable
+     * @param group   first variable of the group
+     * @return <tt>true</tt> if some domain changed
+     */
+    private static boolean allDifferent(final int[] domains, final int group) {
+        boolean changed = false;
+
+        for (int v = group; v < group + 4; ++v) {
+            if (Integer.bitCount(domains[v]) != 1) {
+                continue;
+            }
+            // a taken seat is removed from the others
+            for (int w = group; w < group + 4; ++w) {
+                if (w != v && (domains[w] & domains[v]) != 0) {
+                    domains[w] &= ~domains[v];
+                    changed = true;
+                }
+            }
+        }
+
+        for (int v = group; v < group + 4; ++v) {
+            int others = 0;
+            for (int w = group; w < group + 4; ++w) {
+                if (w != v) {
+                    others |= domains[w];
+                }
+            }
+            // a seat no other variable can take
+            final int only = domains[v] & ~others & (isMr(group) ? MR_SEATS : MRS_SEATS);
+            if (only != 0 && only != domains[v]) {
+                domains[v] = Integer.bitCount(only) == 1 ? only : 0;
+                changed = true;
+            }
+        }
+
+        return changed;
+    }
+
+    /**
+     * Rotates the specified seats clockwise around the table.
+     *
+     * @param seats  bitmask of the seats
+     * @param offset seats to rotate, negative to rotate counterclockwise
+     * @return the bitmask of the rotated seats
+     */
+    private static int rotate(final int seats, final int offset) {
+        final int k = Math.floorMod(offset, SEATS);
+        return (seats << k | seats >>> (SEATS - k)) & 0xFF;
+    }
+
+    /**
+     * Seats at both sides of the specified seats.
+     *
+     * @param seats bitmask of the seats
+     * @return the bitmask of the neighbor seats
+     */
+    private static int sides(final int seats) {
+        return rotate(seats, 1) | rotate(seats, -1);
+    }
+
+    /**
+     * Writes the seats of the specified solution in the people.
+     *
+     * @param people   to write the solution on
+     * @param solution seat of each variable
+     * @param <T>      type of {@link Person}
+     */
+    private static <T extends Person> void write(final List<T> people, final int[] solution) {
+        for (int seat = 0; seat < SEATS; ++seat) {
+            final boolean mr = (seat & 1) == 0;
+            final Person person = people.get(seat);
+
+            person.index = seat;
+            person.type = mr ? MR : MRS;
+            person.name = Name.values()[valueAt(solution, mr ? MR_NAMES : MRS_NAMES, seat) + (mr ? 0 : 4)];
+            person.job = Job.values()[valueAt(solution, mr ? MR_JOBS : MRS_JOBS, seat) + (mr ? 0 : 4)];
+            person.lastName = LastName.values()[valueAt(solution, mr ? MR_LAST_NAMES : MRS_LAST_NAMES, seat)];
+        }
+
+        TableRiddle.assignSidesPerson(people);
+    }
+
+    /**
+     * Value of the specified group that sits at the specified seat.
+     *
+     * @param solution seat of each variable
+     * @param group    first variable of the group
+     * @param seat     to look for
+     * @return the value, from {@code 0} to {@code 3}, at the seat
+     */
+    private static int valueAt(final int[] solution, final int group, final int seat) {
+        for (int value = 0; value < 4; ++value) {
+            if (solution[group + value] == 1 << seat) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("no value at the seat " + seat);
+    }
+
+    /**
+     * Returns whether the variables of the specified group belong to the Mr.'s.
+     *
+     * @param group first variable of the group
+     * @return <tt>true</tt> if the group is of the Mr.'s
+     */
+    private static boolean isMr(final int group) {
+        return (group & 4) == 0;
+    }
+
+    /**
+     * Variable of the specified {@link Name}.
+     *
+     * @param name of the variable
+     * @return the index of the variable
+     */
+    private static int name(final Name name) {
+        return MR_NAMES + name.ordinal(); // the ladies' names follow the sirs'
+    }
+
+    /**
+     * Variable of the specified {@link Job}.
+     *
+     * @param job of the variable
+     * @return the index of the variable
+     */
+    private static int job(final Job job) {
+        return MR_JOBS + job.ordinal(); // the ladies' jobs follow the sirs'
+    }
+}
@@ -0,0 +1,472 @@
+package com.github.jiizuz.algorithmanalysis.algorithm.riddle.tableriddle;
+
+import com.github.jiizuz.algorithmanalysis.algorithm.riddle.tableriddle.TableRiddle.Job;
+import com.github.jiizuz.algorithmanalysis.algorithm.riddle.tableriddle.TableRiddle.LastName;
+import com.github.jiizuz.algorithmanalysis.algorithm.riddle.tableriddle.TableRiddle.Name;
+import com.github.jiizuz.algorithmanalysis.algorithm.riddle.tableriddle.TableRiddle.Person;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import lombok.NonNull;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import static com.github.jiizuz.algorithmanalysis.algorithm.riddle.tableriddle.TableRiddle.Type.MR;
+import static com.github.jiizuz.algorithmanalysis.algorithm.riddle.tableriddle.TableRiddle.Type.MRS;
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Solves the {@link TableRiddle} trying every seating, split across the threads
+ * of a {@link ForkJoinPool}.
+ *
+ * <p>A seating is the order of the four values of each of the six groups: names,
+ * jobs and last names of the Mr.'s and of the Mrs.'s. Each order is one of the
+ * {@code 4! = 24} permutations, so the whole seating is packed in an {@code int}
+ * as the six permutation indices in base {@code 24}, the names of the Mr.'s at
+ * the lowest digit. The {@code 24^6} seatings are a plain range of codes that
+ * is split in halves until each half is small enough to be run by a single
+ * thread.
+ *
+ * <p>The seats of a seating live in a single {@code int[]}, the values at each
+ * seat and the seat of each value, so the restrictions are a few array reads
+ * instead of lookups over {@link Person} instances. The codes of a range are
+ * walked as an odometer, so moving to the next seating only rewrites the seats
+ * of the groups whose digit changed, in most of them the lowest one.
+ *
+ * <p>Any rotation of a solution by a couple of seats is a solution too, so each
+ * seating of the riddle is found four times.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @see com.github.jiizuz.algorithmanalysis.algorithm.riddle.tableriddle.TableRiddle
+ * @since 1.7
+ */
+public class ExhaustiveTableRiddle {
+
+    /**
+     * Amount of seats of the table.
+     */
+    private static final int SEATS = 8;
+
+    /**
+     * Amount of groups of four values.
+     */
+    private static final int GROUPS = 6;
+
+    /**
+     * Amount of permutations of the four values of a group.
+     */
+    private static final int PERMUTATIONS = 24;
+
+    /**
+     * Amount of seatings, {@code 24^6}.
+     */
+    private static final int SEATINGS = PERMUTATIONS * PERMUTATIONS * PERMUTATIONS
+            * PERMUTATIONS * PERMUTATIONS * PERMUTATIONS;
+
+    /**
+     * Maximum amount of seatings tried by a single task before splitting it.
+     */
+    private static final int THRESHOLD = 1 << 16;
+
+    /**
+     * Value at each slot of each permutation, at the index {@code permutation * 4 + slot}.
+     */
+    private static final int[] PERMUTATION = permutations();
+
+    // offsets of the seating array
+
+    /**
+     * Ordinal of the {@link Name} at each seat.
+     */
+    private static final int NAME = 0;
+    /**
+     * Ordinal of the {@link Job} at each seat.
+     */
+    private static final int JOB = 8;
+    /**
+     * Ordinal of the {@link LastName} at each seat.
+     */
+    private static final int LAST_NAME = 16;
+    /**
+     * Seat of each {@link Name}, by ordinal.
+     */
+    private static final int NAME_SEAT = 24;
+    /**
+     * Seat of each {@link Job}, by ordinal.
+     */
+    private static final int JOB_SEAT = 32;
+    /**
+     * Seat of the Mr. of each {@link LastName}, by ordinal.
+     */
+    private static final int MR_LAST_NAME_SEAT = 40;
+    /**
+     * Seat of the Mrs. of each {@link LastName}, by ordinal.
+     */
+    private static final int MRS_LAST_NAME_SEAT = 44;
+    /**
+     * Length of the seating array.
+     */
+    private static final int SEATING_LENGTH = 48;
+
+    /**
+     * Amount of threads trying the seatings.
+     */
+    private final int parallelism;
+
+    /**
+     * Amount of seatings tried by the last enumeration.
+     */
+    private long lastAttempts;
+
+    /**
+     * Nanoseconds taken by the last enumeration.
+     */
+    private long lastNanos;
+
+    /**
+     * Creates a new {@link ExhaustiveTableRiddle} with the specified configuration.
+     *
+     * @param parallelism amount of threads trying the seatings
+     * @throws IllegalArgumentException if the parallelism is negative or zero
+     */
+    public ExhaustiveTableRiddle(final int parallelism) {
+        checkArgument(parallelism > 0, "parallelism <= 0", parallelism);
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Creates a new {@link ExhaustiveTableRiddle} with a thread per available processor.
+     */
+    public ExhaustiveTableRiddle() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Finds every solution of the riddle, storing the first one in the {@link Person}
+     * instances of the specified {@link List}, in the same format of
+     * {@link TableRiddle#solve(List, java.util.Random)}:<pre>
+     *    1 Mr. -> 1 Mrs. -> Mr. -> 1 Mrs. -> Mr. -> 1 Mrs. -> Mr. -> 1 Mrs.
+     * </pre>
+     *
+     * @param <T>    type of {@link Person}
+     * @param people list with the {@link Person} instances to write the results
+     * @return the amount of solutions, rotations included
+     * @throws NullPointerException     if the people list is {@code null}
+     * @throws IllegalArgumentException if the list does not have a size of {@code 8}
+     * @throws IllegalStateException    if the riddle has no solution
+     */
+    public <T extends Person> int solve(final @NonNull List<T> people) {
+        checkArgument(people.size() == SEATS, "Invalid people list");
+
+        final int[] seatings = enumerate();
+        if (seatings.length == 0) {
+            throw new IllegalStateException("the riddle has no solution");
+        }
+
+        write(seatings[0], people);
+        return seatings.length;
+    }
+
+    /**
+     * Tries every seating of the riddle.
+     *
+     * <p>Time complexity - O(24^6 / parallelism)
+     *
+     * @return the codes of the seatings that accomplish every restriction, in ascending order
+     */
+    public int @NonNull [] enumerate() {
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            final long start = System.nanoTime();
+            final IntArrayList seatings = pool.invoke(new Enumeration(0, SEATINGS));
+            lastNanos = System.nanoTime() - start;
+            lastAttempts = SEATINGS;
+            return seatings.toIntArray();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Amount of threads trying the seatings.
+     *
+     * @return the parallelism
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Amount of seatings tried by the last enumeration.
+     *
+     * @return the attempts of the last enumeration
+     */
+    public long getAttempts() {
+        return lastAttempts;
+    }
+
+    /**
+     * Seatings tried per second by the last enumeration, across all the threads.
+     *
+     * @return the attempts per second, {@code 0} if nothing was enumerated yet
+     */
+    public double getAttemptsPerSecond() {
+        return lastNanos == 0L ? 0D : lastAttempts * 1e9D / lastNanos;
+    }
+
+    /**
+     * Writes the seating of the specified code in the people.
+     *
+     * @param seating code of the seating, as returned by {@link #enumerate()}
+     * @param people  to write the seating on
+     * @param <T>     type of {@link Person}
+     * @throws NullPointerException     if the people list is {@code null}
+     * @throws IllegalArgumentException if the code is not a seating or the list does not have a size of {@code 8}
+     */
+    public static <T extends Person> void write(final int seating, final @NonNull List<T> people) {
+        checkArgument(seating >= 0 && seating < SEATINGS, "not a seating", seating);
+        checkArgument(people.size() == SEATS, "Invalid people list");
+
+        final int[] seats = new int[SEATING_LENGTH];
+        int code = seating;
+        for (int group = 0; group < GROUPS; ++group) {
+            seat(seats, group, code % PERMUTATIONS);
+            code /= PERMUTATIONS;
+        }
+
+        for (int seat = 0; seat < SEATS; ++seat) {
+            final Person person = people.get(seat);
+
+            person.index = seat;
+            person.type = (seat & 1) == 0 ? MR : MRS;
+            person.name = Name.values()[seats[NAME + seat]];
+            person.job = Job.values()[seats[JOB + seat]];
+            person.lastName = LastName.values()[seats[LAST_NAME + seat]];
+        }
+
+        TableRiddle.assignSidesPerson(people);
+    }
+
+    /**
+     * Writes in the seating array the values of the specified group in the order
+     * of the specified permutation.
+     *
+     * <p>The Mr.'s take the even seats and the Mrs.'s the odd ones, so the slot
+     * {@code i} of a group is the seat {@code 2 * i} or {@code 2 * i + 1}.
+     *
+     * @param seats       seating array to write on
+     * @param group       index of the group, the Mrs.'s groups are the odd ones
+     * @param permutation index of the permutation of the group
+     */
+    private static void seat(final int[] seats, final int group, final int permutation) {
+        final int kind = group >> 1; // 0 names, 1 jobs, 2 last names
+        final int mrs = group & 1;
+        // the ladies' names and jobs follow the sirs', the last names are shared
+        final int ordinalOffset = kind < 2 ? mrs << 2 : 0;
+
+        for (int slot = 0; slot < 4; ++slot) {
+            final int seat = slot << 1 | mrs;
+            final int value = PERMUTATION[permutation << 2 | slot];
+
+            seats[(kind << 3) + seat] = value + ordinalOffset;
+            seats[NAME_SEAT + (kind << 3) + (mrs << 2) + value] = seat;
+        }
+    }
+
+    /**
+     * Determines whether the specified seating accomplishes every restriction of the riddle.
+     *
+     * @param seats seating array to check
+     * @return <tt>true</tt> if the seating is a solution
+     */
+    private static boolean accepts(final int[] seats) {
+        // 1.1 Mrs. Martinez is the actress
+        if (seats[JOB + seats[MRS_LAST_NAME_SEAT + LastName.MARTINEZ.ordinal()]] != Job.ACTRESS.ordinal()) {
+            return false;
+        }
+        // 5. the name of Mrs. Castaño is Analia
+        if (seats[NAME + seats[MRS_LAST_NAME_SEAT + LastName.CASTANIO.ordinal()]] != Name.ANALIA.ordinal()) {
+            return false;
+        }
+        // no Mr. sat next to his wife
+        for (int lastName = 0; lastName < 4; ++lastName) {
+            final int mr = seats[MR_LAST_NAME_SEAT + lastName];
+            final int mrs = seats[MRS_LAST_NAME_SEAT + lastName];
+            if (mrs == left(mr) || mrs == right(mr)) {
+                return false;
+            }
+        }
+        // 2. Mr. Gomez sat between Angela and the watercolorist
+        final int gomez = seats[MR_LAST_NAME_SEAT + LastName.GOMEZ.ordinal()];
+        if (!(seats[NAME + left(gomez)] == Name.ANGELA.ordinal() && seats[JOB + right(gomez)] == Job.WATERCOLORIST.ordinal()
+                || seats[JOB + left(gomez)] == Job.WATERCOLORIST.ordinal() && seats[NAME + right(gomez)] == Name.ANGELA.ordinal())) {
+            return false;
+        }
+        // 1.2 Alberto is the lawyer
+        if (seats[JOB + seats[NAME_SEAT + Name.ALBERTO.ordinal()]] != Job.LAWYER.ordinal()) {
+            return false;
+        }
+        // 4. Aurelia sat to the left of the postmaster and in front of Mrs. Gomez
+        final int aurelia = seats[NAME_SEAT + Name.AURELIA.ordinal()];
+        if (seats[JOB + right(aurelia)] != Job.POSTMASTER.ordinal()
+                || seats[LAST_NAME + front(aurelia)] != LastName.GOMEZ.ordinal()) {
+            return false;
+        }
+        // 6. Alfonso sat between Mrs. Acala and the beekeeper
+        final int alfonso = seats[NAME_SEAT + Name.ALFONSO.ordinal()];
+        if (!(seats[LAST_NAME + left(alfonso)] == LastName.ACALA.ordinal() && seats[JOB + right(alfonso)] == Job.BEEKEEPER.ordinal()
+                || seats[JOB + left(alfonso)] == Job.BEEKEEPER.ordinal() && seats[LAST_NAME + right(alfonso)] == LastName.ACALA.ordinal())) {
+            return false;
+        }
+        // 7. Alfredo sat in front of the customs official
+        if (seats[JOB + front(seats[NAME_SEAT + Name.ALFREDO.ordinal()])] != Job.CUSTOMS_OFFICIAL.ordinal()) {
+            return false;
+        }
+        // 8. Alicia sat to the right of Mr. Castaño
+        if (seats[LAST_NAME + left(seats[NAME_SEAT + Name.ALICIA.ordinal()])] != LastName.CASTANIO.ordinal()) {
+            return false;
+        }
+        // 3. Ambrosio is married to the writer
+        final int ambrosio = seats[LAST_NAME + seats[NAME_SEAT + Name.AMBROSIO.ordinal()]];
+        return seats[JOB + seats[MRS_LAST_NAME_SEAT + ambrosio]] == Job.WRITER.ordinal();
+    }
+
+    /**
+     * Seat at the left of the specified seat, as {@link Person#left}.
+     *
+     * @param seat to look from
+     * @return the seat at the left
+     */
+    private static int left(final int seat) {
+        return seat + 1 & SEATS - 1;
+    }
+
+    /**
+     * Seat at the right of the specified seat, as {@link Person#right}.
+     *
+     * @param seat to look from
+     * @return the seat at the right
+     */
+    private static int right(final int seat) {
+        return seat + SEATS - 1 & SEATS - 1;
+    }
+
+    /**
+     * Seat in front of the specified seat, as {@link Person#front}.
+     *
+     * @param seat to look from
+     * @return the seat in front
+     */
+    private static int front(final int seat) {
+        return seat + (SEATS >> 1) & SEATS - 1;
+    }
+
+    /**
+     * Generates the permutations of four values in lexicographic order.
+     *
+     * @return the value at each slot of each permutation
+     */
+    private static int[] permutations() {
+        final int[] permutations = new int[PERMUTATIONS << 2];
+        int permutation = 0;
+        for (int a = 0; a < 4; ++a) {
+            for (int b = 0; b < 4; ++b) {
+                for (int c = 0; c < 4; ++c) {
+                    if (a == b || a == c || b == c) {
+                        continue;
+                    }
+                    final int d = 6 - a - b - c; // 0 + 1 + 2 + 3
+                    permutations[permutation++] = a;
+                    permutations[permutation++] = b;
+                    permutations[permutation++] = c;
+                    permutations[permutation++] = d;
+                }
+            }
+        }
+        return permutations;
+    }
+
+    /**
+     * Task that tries a range of seating codes, splitting it while it is bigger than the {@link #THRESHOLD}.
+     */
+    private static final class Enumeration extends RecursiveTask<IntArrayList> {
+
+        /**
+         * Version of the serialized form of the task.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * First code of the range, inclusive.
+         */
+        private final int from;
+
+        /**
+         * Last code of the range, exclusive.
+         */
+        private final int to;
+
+        /**
+         * Creates a new {@link Enumeration} of the specified range.
+         *
+         * @param from first code of the range, inclusive
+         * @param to   last code of the range, exclusive
+         */
+        private Enumeration(final int from, final int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected IntArrayList compute() {
+            if (to - from <= THRESHOLD) {
+                return enumerate();
+            }
+
+            final int middle = from + to >>> 1;
+            final Enumeration right = new Enumeration(middle, to);
+            right.fork();
+            final IntArrayList seatings = new Enumeration(from, middle).compute();
+            seatings.addAll(right.join()); // the right range follows, so the codes stay in order
+            return seatings;
+        }
+
+        /**
+         * Tries the seatings of the range on the current thread.
+         *
+         * @return the codes of the seatings that accomplish every restriction
+         */
+        private IntArrayList enumerate() {
+            final IntArrayList seatings = new IntArrayList();
+            final int[] seats = new int[SEATING_LENGTH];
+            final int[] digits = new int[GROUPS];
+
+            int code = from;
+            for (int group = 0; group < GROUPS; ++group) {
+                digits[group] = code % PERMUTATIONS;
+                code /= PERMUTATIONS;
+                seat(seats, group, digits[group]);
+            }
+
+            for (int seating = from; seating < to; ++seating) {
+                if (accepts(seats)) {
+                    seatings.add(seating);
+                }
+
+                // next code, only the groups whose digit changed are seated again
+                int group = 0;
+                while (group < GROUPS && ++digits[group] == PERMUTATIONS) {
+                    digits[group] = 0;
+                    seat(seats, group++, 0);
+                }
+                if (group < GROUPS) {
+                    seat(seats, group, digits[group]);
+                }
+            }
+            return seatings;
+        }
+    }
+}
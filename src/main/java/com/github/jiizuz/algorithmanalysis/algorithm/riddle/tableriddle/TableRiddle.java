@@ -4,6 +4,7 @@ import com.github.jiizuz.algorithmanalysis.benchmark.TimeResults;
 import com.google.common.collect.ImmutableList;
 import lombok.*;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Random;
@@ -78,28 +79,74 @@ public class TableRiddle {
     /**
      * {@link List} with the restrictions to accomplish in order to have a successful combination.
      */
-    private static final List<Predicate<List<? extends Person>>> RESTRICTIONS = ImmutableList.of(
-            people -> filterByLastName(people, MARTINEZ, MRS).job == ACTRESS, // 1.1
-            people -> filterByLastName(people, CASTANIO, MRS).name == ANALIA, // 5.
-            TableRiddle::doesNotHavePartnersTogether, // general restriction
-            people -> {
-                final Person person = filterByLastName(people, GOMEZ, MR);
+    private static final List<Restriction> RESTRICTIONS = ImmutableList.of(
+            new Restriction("1.1", seats -> seats.lady(MARTINEZ).job == ACTRESS),
+            new Restriction("5.", seats -> seats.lady(CASTANIO).name == ANALIA),
+            new Restriction("general", TableRiddle::doesNotHavePartnersTogether),
+            new Restriction("2.", seats -> {
+                final Person person = seats.sir(GOMEZ);
                 return person.left.name == ANGELA && person.right.job == WATERCOLORIST
                         || person.left.job == WATERCOLORIST && person.right.name == ANGELA;
-            }, // 2.
-            people -> filterByName(people, ALBERTO).job == LAWYER, // 1.2
-            people -> {
-                final Person person = filterByName(people, AURELIA);
+            }),
+            new Restriction("1.2", seats -> seats.person(ALBERTO).job == LAWYER),
+            new Restriction("4.", seats -> {
+                final Person person = seats.person(AURELIA);
                 return person.right.job == POSTMASTER && person.front.lastName == GOMEZ;
-            }, // 4.
-            people -> {
-                final Person person = filterByName(people, ALFONSO);
+            }),
+            new Restriction("6.", seats -> {
+                final Person person = seats.person(ALFONSO);
                 return person.left.lastName == ACALA && person.right.job == BEEKEEPER
                         || person.left.job == BEEKEEPER && person.right.lastName == ACALA;
-            }, // 6.
-            people -> filterByName(people, ALFREDO).front.job == CUSTOMS_OFFICIAL, // 7.
-            people -> filterByName(people, ALICIA).left.lastName == CASTANIO, // 8.
-            people -> filterByLastName(people, filterByName(people, AMBROSIO).lastName, MRS).job == WRITER); // 3.
+            }),
+            new Restriction("7.", seats -> seats.person(ALFREDO).front.job == CUSTOMS_OFFICIAL),
+            new Restriction("8.", seats -> seats.person(ALICIA).left.lastName == CASTANIO),
+            new Restriction("3.", seats -> seats.lady(seats.person(AMBROSIO).lastName).job == WRITER));
+
+    /**
+     * Every how many attempts the cost of the restrictions is sampled.
+     */
+    private static final int SAMPLE_INTERVAL = 1 << 10;
+
+    /**
+     * Times each restriction is evaluated in a row to sample its cost,
+     * so the cost of {@link System#nanoTime()} does not hide it.
+     */
+    private static final int SAMPLE_REPETITIONS = 16;
+
+    /**
+     * Every how many attempts the restrictions are reordered.
+     */
+    private static final int REORDER_INTERVAL = 1 << 16;
+
+    /**
+     * Indices of the {@link #RESTRICTIONS} in the order they are evaluated.
+     */
+    private final int[] order = new int[RESTRICTIONS.size()];
+
+    /**
+     * Times each restriction was evaluated in the order, by index of the {@link #RESTRICTIONS}.
+     */
+    private final long[] tests = new long[RESTRICTIONS.size()];
+
+    /**
+     * Times each restriction rejected a candidate in the order.
+     */
+    private final long[] rejections = new long[RESTRICTIONS.size()];
+
+    /**
+     * Times each restriction was sampled, on every sampled candidate.
+     */
+    private final long[] samples = new long[RESTRICTIONS.size()];
+
+    /**
+     * Times each restriction rejected a sampled candidate.
+     */
+    private final long[] sampleRejections = new long[RESTRICTIONS.size()];
+
+    /**
+     * Nanoseconds spent by each restriction in its samples, of {@link #SAMPLE_REPETITIONS} evaluations each.
+     */
+    private final long[] sampleNanos = new long[RESTRICTIONS.size()];
 
     // algorithm
 
@@ -116,10 +163,18 @@ public class TableRiddle {
      *
      * <p>The timings of each attempt will be registered in the specified results.
      * (If the time results are {@code null}, no attempt to register will be made)
+     * The attempts that sample the cost of the restrictions are not registered,
+     * their timing is mostly the sampling itself.
      *
      * <p>If a certain amount of attempts is made, the {@link Random} instance
      * will be discarded and another instance will be generated.
      *
+     * <p>The restrictions are evaluated cheapest and most selective first: the
+     * rejections of each restriction are counted and its cost is sampled every
+     * {@link #SAMPLE_INTERVAL} attempts, and every {@link #REORDER_INTERVAL}
+     * attempts the restrictions are sorted by their expected cost per rejection,
+     * see {@link #appendStatistics(StringBuilder)}.
+     *
      * @param <T>         type of {@link Person}
      * @param people      list with the {@link Person} instances to write the results
      * @param timeResults can be {@code null}. Used to track the attempt timings
@@ -130,9 +185,13 @@ public class TableRiddle {
     public <T extends Person> void solve(final @NonNull List<T> people, final TimeResults timeResults, @NonNull Random random) {
         checkArgument(people.size() == 8, "Invalid people list");
 
+        resetStatistics();
+        final SeatIndex seats = new SeatIndex();
+
         int attempt = 0;
+        long attempts = 0L;
 
-        boolean success;
+        boolean success, sampled;
         Person person;
         // mask for random retrieval
         byte nameIndex, lastNameIndex, jobIndex;
@@ -176,6 +235,7 @@ public class TableRiddle {
                 person.lastName = LAST_NAMES.get(lastNameIndex);
                 person.job = SIRS_JOBS.get(jobIndex);
                 person.type = MR;
+                seats.add(person);
 
                 do {
                     nameIndex = (byte) random.nextInt(4);
@@ -196,22 +256,21 @@ public class TableRiddle {
                 person.lastName = LAST_NAMES.get(lastNameIndex);
                 person.job = LADIES_JOBS.get(jobIndex);
                 person.type = MRS;
+                seats.add(person);
             }
 
             assignSidesPerson(people);
 
             // restrictions check
 
-            success = true;
-            for (byte i = 0; i < RESTRICTIONS.size(); i++) {
-                if (!RESTRICTIONS.get(i).test(people)) {
-                    success = false;
-                    break;
-                }
+            if (++attempts % REORDER_INTERVAL == 0) {
+                reorder();
             }
+            sampled = attempts % SAMPLE_INTERVAL == 0;
+            success = sampled ? sample(seats) : test(seats);
 
             t2 = System.nanoTime();
-            if (Objects.nonNull(timeResults)) {
+            if (Objects.nonNull(timeResults) && !sampled) {
                 timeResults.register(Math.toIntExact(t2 - t1));
             }
         } while (!success);
@@ -248,33 +307,157 @@ public class TableRiddle {
         solve(people, null, random);
     }
 
+    /**
+     * Appends to the specified {@link StringBuilder} the statistics of the restrictions
+     * in the last call to {@link #solve(List, TimeResults, Random)}, in their last order.
+     *
+     * <p>For each restriction: the times it was evaluated and rejected a candidate
+     * in the order, the rate of rejections of the sampled candidates (that ran all
+     * the restrictions), its sampled cost and its expected cost per rejection, that
+     * is the key of the order.
+     *
+     * @param bob to append over the statistics
+     * @throws NullPointerException if the string builder is {@code null}
+     */
+    public void appendStatistics(final @NonNull StringBuilder bob) {
+        bob.append(String.format("%n%-8s %15s %15s %10s %10s %12s%n",
+                "Rule", "Tests", "Rejections", "Reject %", "ns/test", "ns/reject"));
+        for (final int r : order) {
+            bob.append(String.format("%-8s %,15d %,15d %9.2f%% %10.2f %12.2f%n",
+                    RESTRICTIONS.get(r).label, tests[r], rejections[r],
+                    100.0D * rejectionRate(r), cost(r), score(r)));
+        }
+    }
+
     // predicate util
 
     /**
-     * Determines whether the specified list of {@link Person} does
-     * accomplish the restriction of: <i>A Mr. is not next to a Mrs.
-     * with the same last-name.</i>
+     * Evaluates the restrictions over the specified seats, in the current order,
+     * until one of them rejects the candidate.
      *
-     * <p>The list must follow the rules of:<pre>
-     *     1 Mr. -> 1 Mrs. -> Mr. -> 1 Mrs. -> Mr. -> 1 Mrs. -> Mr. -> 1 Mrs.
-     * </pre>
+     * @param seats of the candidate
+     * @return <tt>true</tt> if every restriction accepts the candidate
+     */
+    private boolean test(final SeatIndex seats) {
+        for (final int r : order) {
+            ++tests[r];
+            if (!RESTRICTIONS.get(r).predicate.test(seats)) {
+                ++rejections[r];
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Evaluates every restriction over the specified seats, sampling its cost and
+     * whether it rejects the candidate regardless of the other restrictions.
      *
-     * @param people list of people to check
-     * @param <T>    type of {@link Person}
-     * @return <tt>true</tt> if the list does not violate the restriction, <tt>false</tt> otherwise
-     * @throws IllegalArgumentException if the list does not have a size of {@code 8}
+     * @param seats of the candidate
+     * @return <tt>true</tt> if every restriction accepts the candidate
      */
-    private static <T extends Person> boolean doesNotHavePartnersTogether(final @NonNull List<T> people) {
-        checkArgument(people.size() == 8, "Invalid people list");
+    private boolean sample(final SeatIndex seats) {
+        boolean success = true;
+        for (int r = 0; r < order.length; ++r) {
+            final Predicate<SeatIndex> predicate = RESTRICTIONS.get(r).predicate;
+
+            boolean accepted = true;
+            final long start = System.nanoTime();
+            for (int i = 0; i < SAMPLE_REPETITIONS; ++i) {
+                accepted &= predicate.test(seats);
+            }
+            sampleNanos[r] += System.nanoTime() - start;
 
-        for (byte i = 0, n = 8; i < n; i += 2) {
-            final T mr = people.get(i);
+            ++samples[r];
+            if (!accepted) {
+                ++sampleRejections[r];
+                success = false;
+            }
+        }
+        return success;
+    }
+
+    /**
+     * Sorts the order of the restrictions by their expected cost per rejection, the
+     * cheapest and most selective first.
+     *
+     * <p>The restrictions are few, so they are sorted by insertion.
+     */
+    private void reorder() {
+        for (int i = 1; i < order.length; ++i) {
+            final int r = order[i];
+            final double score = score(r);
+
+            int j = i - 1;
+            for (; j >= 0 && score(order[j]) > score; --j) {
+                order[j + 1] = order[j];
+            }
+            order[j + 1] = r;
+        }
+    }
 
+    /**
+     * Restores the order of the {@link #RESTRICTIONS} and clears their statistics.
+     */
+    private void resetStatistics() {
+        for (int r = 0; r < order.length; ++r) {
+            order[r] = r;
+        }
+        Arrays.fill(tests, 0L);
+        Arrays.fill(rejections, 0L);
+        Arrays.fill(samples, 0L);
+        Arrays.fill(sampleRejections, 0L);
+        Arrays.fill(sampleNanos, 0L);
+    }
+
+    /**
+     * Rate of rejections of the restriction at the specified index over the sampled candidates.
+     *
+     * <p>The rate is smoothed, so a restriction not sampled yet has a rate of {@code 0.5}.
+     *
+     * @param restriction index of the restriction
+     * @return the rejection rate
+     */
+    private double rejectionRate(final int restriction) {
+        return (sampleRejections[restriction] + 1.0D) / (samples[restriction] + 2.0D);
+    }
+
+    /**
+     * Sampled nanoseconds of a single evaluation of the restriction at the specified index.
+     *
+     * @param restriction index of the restriction
+     * @return the cost, {@code 0} if it was not sampled yet
+     */
+    private double cost(final int restriction) {
+        return samples[restriction] == 0L ? 0.0D
+                : (double) sampleNanos[restriction] / (samples[restriction] * SAMPLE_REPETITIONS);
+    }
+
+    /**
+     * Expected cost per rejection of the restriction at the specified index; evaluating the
+     * restrictions by ascending score minimizes the expected cost of a candidate.
+     *
+     * @param restriction index of the restriction
+     * @return the score
+     */
+    private double score(final int restriction) {
+        return cost(restriction) / rejectionRate(restriction);
+    }
+
+    /**
+     * Determines whether the specified seats do accomplish the restriction
+     * of: <i>A Mr. is not next to a Mrs. with the same last-name.</i>
+     *
+     * @param seats of the candidate
+     * @return <tt>true</tt> if the seats do not violate the restriction, <tt>false</tt> otherwise
+     */
+    private static boolean doesNotHavePartnersTogether(final SeatIndex seats) {
+        for (final Person mr : seats.sirs) {
             if (mr.lastName == mr.left.lastName || mr.lastName == mr.right.lastName) {
-                return true;
+                return false;
             }
         }
-        return false;
+        return true;
     }
 
     // update util
@@ -290,7 +473,7 @@ public class TableRiddle {
      * @param <T>    type of {@link Person}
      * @throws IllegalArgumentException if the list does not have a size of {@code 8}
      */
-    private static <T extends Person> void assignSidesPerson(final @NonNull List<T> people) {
+    static <T extends Person> void assignSidesPerson(final @NonNull List<T> people) {
         checkArgument(people.size() == 8, "Invalid people list");
 
         for (byte i = 0, n = 8; i < n; ++i) {
@@ -302,68 +485,89 @@ public class TableRiddle {
         }
     }
 
-    // filter util
-
     /**
-     * Filters from the specified list, the person with the specified
-     * {@link Name} and returns the reference of that person.
+     * Restriction of the riddle, with the label of its rule.
      *
-     * <p>The list must follow the rules of:<pre>
-     *     1 Mr. -> 1 Mrs. -> Mr. -> 1 Mrs. -> Mr. -> 1 Mrs. -> Mr. -> 1 Mrs.
-     * </pre>
-     *
-     * @param people list of {@link Person} to filter and search
-     * @param name   of the person to look for
-     * @param <T>    type of {@link Person}
-     * @return the {@link Person} with the specified name
-     * @throws IllegalArgumentException if the list does not have a size of {@code 8}
-     * @throws IllegalArgumentException if the list does not have a person with that name
+     * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+     * @since 1.7
      */
-    @NonNull
-    private static <T extends Person> T filterByName(final @NonNull List<T> people, final @NonNull Name name) {
-        checkArgument(people.size() == 8, "Invalid people list");
+    @RequiredArgsConstructor
+    private static final class Restriction {
 
-        for (byte i = 0, n = 8; i < n; ++i) {
-            final T person = people.get(i);
+        /**
+         * Number of the rule in the riddle.
+         */
+        private final String label;
 
-            if (person.name == name) {
-                return person;
-            }
-        }
-        throw new IllegalArgumentException("No person with name " + name);
+        /**
+         * Whether the seats of a candidate accomplish the rule.
+         */
+        private final Predicate<SeatIndex> predicate;
     }
 
     /**
-     * Filters from the specified list, the person with the specified
-     * {@link LastName} and the specified {@link Type} and returns the
-     * reference of that person.
-     *
-     * <p>Since a {@link Type#MRS} and {@link Type#MR} can have the same
-     * {@link LastName}, the type is required to filter the correct search.
+     * Index of the {@link Person} of a candidate by {@link Name} and by {@link LastName},
+     * built once per candidate instead of scanning the people on each restriction.
      *
-     * <p>The list must follow the rules of:<pre>
-     *     1 Mr. -> 1 Mrs. -> Mr. -> 1 Mrs. -> Mr. -> 1 Mrs. -> Mr. -> 1 Mrs.
-     * </pre>
-     *
-     * @param people   list of {@link Person} to filter and search
-     * @param lastName of the person to look for
-     * @param type     of the person to look for
-     * @param <T>      type of {@link Person}
-     * @return the {@link Person} with the specified last name and type
-     * @throws IllegalArgumentException if the list does not have a size of {@code 8}
+     * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+     * @since 1.7
      */
-    @NonNull
-    private static <T extends Person> T filterByLastName(final @NonNull List<T> people, final @NonNull LastName lastName, final @NonNull TableRiddle.Type type) {
-        checkArgument(people.size() == 8, "Invalid people list");
+    private static final class SeatIndex {
 
-        for (byte i = (byte) (type == MR ? 0 : 1), n = 8; i < n; i += 2) {
-            final T person = people.get(i);
+        /**
+         * Person with each {@link Name}, by ordinal.
+         */
+        private final Person[] names = new Person[Name.values().length];
 
-            if (person.lastName == lastName) {
-                return person;
-            }
+        /**
+         * Mr. with each {@link LastName}, by ordinal.
+         */
+        private final Person[] sirs = new Person[LastName.values().length];
+
+        /**
+         * Mrs. with each {@link LastName}, by ordinal.
+         */
+        private final Person[] ladies = new Person[LastName.values().length];
+
+        /**
+         * Indexes the specified person, replacing the one of the last candidate.
+         *
+         * @param person to index
+         */
+        private void add(final Person person) {
+            names[person.name.ordinal()] = person;
+            (person.type == MR ? sirs : ladies)[person.lastName.ordinal()] = person;
+        }
+
+        /**
+         * Person with the specified {@link Name}.
+         *
+         * @param name of the person
+         * @return the person with the name
+         */
+        private Person person(final Name name) {
+            return names[name.ordinal()];
+        }
+
+        /**
+         * Mr. with the specified {@link LastName}.
+         *
+         * @param lastName of the Mr.
+         * @return the Mr. with the last name
+         */
+        private Person sir(final LastName lastName) {
+            return sirs[lastName.ordinal()];
+        }
+
+        /**
+         * Mrs. with the specified {@link LastName}.
+         *
+         * @param lastName of the Mrs.
+         * @return the Mrs. with the last name
+         */
+        private Person lady(final LastName lastName) {
+            return ladies[lastName.ordinal()];
         }
-        throw new IllegalArgumentException("No " + type + " with last name " + lastName);
     }
 
     /**
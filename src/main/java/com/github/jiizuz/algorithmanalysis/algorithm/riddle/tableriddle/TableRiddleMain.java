@@ -26,9 +26,17 @@ public class TableRiddleMain {
     /**
      * Main entry point of the program.
      *
+     * <p>With the {@code --exhaustive} argument every seating is tried with
+     * {@link ExhaustiveTableRiddle} instead of the random search.
+     *
      * @param args specified in the terminal
      */
     public void main(final String[] args) {
+        if (args.length > 0 && "--exhaustive".equals(args[0])) {
+            exhaustive();
+            return;
+        }
+
         final TableRiddle tableRiddle = new TableRiddle();
 
         final List<TableRiddle.Person> people = getDefaultPeople();
@@ -39,11 +47,36 @@ public class TableRiddleMain {
         final StringBuilder bob = new StringBuilder();
 
         appendTable(people, bob);
+        tableRiddle.appendStatistics(bob);
         ResultsUtils.appendResults(timeResults, bob);
 
         System.out.print(bob);
     }
 
+    /**
+     * Tries every seating of the riddle with a growing amount of threads,
+     * printing the attempts per second of each one and the first solution.
+     */
+    private void exhaustive() {
+        final List<TableRiddle.Person> people = getDefaultPeople();
+        final int processors = Runtime.getRuntime().availableProcessors();
+
+        for (int threads = 1; ; threads = Math.min(threads << 1, processors)) {
+            final ExhaustiveTableRiddle tableRiddle = new ExhaustiveTableRiddle(threads);
+            final int solutions = tableRiddle.solve(people);
+
+            System.out.printf("Threads: %2d, Solutions: %d, Attempts: %,d, Attempts/s: %,.0f%n",
+                    threads, solutions, tableRiddle.getAttempts(), tableRiddle.getAttemptsPerSecond());
+            if (threads == processors) {
+                break;
+            }
+        }
+
+        final StringBuilder bob = new StringBuilder();
+        appendTable(people, bob);
+        System.out.print(bob);
+    }
+
     // result util
 
     /**
@@ -5,10 +5,12 @@ import com.github.jiizuz.algorithmanalysis.algorithm.comparator.FunctionComparat
 import com.github.jiizuz.algorithmanalysis.algorithm.comparator.chart.ChartFunctionComparator;
 import com.github.jiizuz.algorithmanalysis.algorithm.sort.sorters.*;
 import com.github.jiizuz.algorithmanalysis.benchmark.Benchmark;
+import com.github.jiizuz.algorithmanalysis.benchmark.Convergence;
 import com.github.jiizuz.algorithmanalysis.benchmark.QuietBenchmark;
 import com.google.common.collect.ImmutableList;
 import lombok.experimental.UtilityClass;
 
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
@@ -21,10 +23,20 @@ import java.util.function.Function;
 public class Main {
 
     /**
-     * Executions to made in the {@link Benchmark}.
+     * Maximum executions to made in each test of the {@link Benchmark}.
      */
     private final int BENCHMARK_EXECUTIONS = 10_000;
 
+    /**
+     * Relative error of the average time of each test to stop the {@link Benchmark} at.
+     */
+    private final double BENCHMARK_RELATIVE_ERROR = 0.02;
+
+    /**
+     * Maximum time of each test of the {@link Benchmark}, converged or not.
+     */
+    private final long BENCHMARK_MAX_NANOS = TimeUnit.MILLISECONDS.toNanos( 100 );
+
     /**
      * Tests to made in the {@link FunctionComparator}.
      */
@@ -48,6 +60,10 @@ public class Main {
         // Benchmark to use on the tests
         final Benchmark benchmark = QuietBenchmark.builder()
                 .executions( BENCHMARK_EXECUTIONS )
+                .convergence( Convergence.builder()
+                        .relativeError( BENCHMARK_RELATIVE_ERROR )
+                        .maxNanos( BENCHMARK_MAX_NANOS )
+                        .build() )
                 .build();
 
         // comparator to generate the comparisons
@@ -0,0 +1,336 @@
+package com.github.jiizuz.algorithmanalysis.benchmark;
+
+import com.google.common.base.MoreObjects;
+import lombok.Builder;
+import lombok.NonNull;
+
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Rule to stop a <tt>Benchmark</tt> once its times are precise enough,
+ * instead of after a fixed amount of executions.
+ *
+ * <p>The times are sampled until the confidence interval of the
+ * {@link #statistic} is within {@link #relativeError} of it, or until the
+ * {@link #maxNanos} budget is spent. Stable functions stop after a few
+ * hundred executions, noisy ones run until they are as precise as the
+ * stable ones or out of budget.
+ *
+ * <p>The interval of the mean is the normal one, updated on each time. The
+ * interval of the median is the one of the order statistics, read from a
+ * {@link TimeSummary} every {@link #CHECK_INTERVAL} times.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @apiNote This class is immutable and Thread-Safe.
+ * @see com.github.jiizuz.algorithmanalysis.benchmark.QuietBenchmark
+ * @since 1.7
+ */
+@Builder
+public class Convergence {
+
+    /**
+     * Default statistic to estimate.
+     */
+    private static final Statistic STATISTIC = Statistic.MEAN;
+
+    /**
+     * Default relative half-width of the interval, 1%.
+     */
+    private static final double RELATIVE_ERROR = 0.01;
+
+    /**
+     * Default confidence of the interval, 95%.
+     */
+    private static final double CONFIDENCE = 0.95;
+
+    /**
+     * Default minimum amount of times before checking the interval.
+     */
+    private static final int MIN_SAMPLES = 100;
+
+    /**
+     * Default budget of the sampling, unlimited.
+     */
+    private static final long MAX_NANOS = Long.MAX_VALUE;
+
+    /**
+     * Amount of times between each check of the interval of the median.
+     */
+    private static final int CHECK_INTERVAL = 64;
+
+    /**
+     * Statistic whose interval must converge.
+     *
+     * @see #STATISTIC
+     */
+    @Builder.Default
+    private final Statistic statistic = STATISTIC;
+
+    /**
+     * Relative half-width of the interval to stop at.
+     *
+     * @see #RELATIVE_ERROR
+     */
+    @Builder.Default
+    private final double relativeError = RELATIVE_ERROR;
+
+    /**
+     * Confidence of the interval, between 0 and 1.
+     *
+     * @see #CONFIDENCE
+     */
+    @Builder.Default
+    private final double confidence = CONFIDENCE;
+
+    /**
+     * Minimum amount of times before checking the interval.
+     *
+     * @see #MIN_SAMPLES
+     */
+    @Builder.Default
+    private final int minSamples = MIN_SAMPLES;
+
+    /**
+     * Nanoseconds of sampling after which it stops, converged or not.
+     *
+     * @see #MAX_NANOS
+     */
+    @Builder.Default
+    private final long maxNanos = MAX_NANOS;
+
+    /**
+     * Creates a new {@link Convergence}.
+     *
+     * @param statistic     whose interval must converge
+     * @param relativeError relative half-width of the interval to stop at
+     * @param confidence    of the interval, between 0 and 1
+     * @param minSamples    minimum amount of times before checking the interval
+     * @param maxNanos      nanoseconds of sampling after which it stops
+     * @throws NullPointerException     if the statistic is {@code null}
+     * @throws IllegalArgumentException if the error is negative or zero, the confidence is not
+     *                                  between 0 and 1, the minimum samples are less than 2
+     *                                  or the budget is negative
+     */
+    public Convergence(final @NonNull Statistic statistic, final double relativeError, final double confidence,
+                       final int minSamples, final long maxNanos) {
+        checkArgument( relativeError > 0.0, "relative error <= 0", relativeError );
+        checkArgument( confidence > 0.0 && confidence < 1.0, "confidence out of (0, 1)", confidence );
+        checkArgument( minSamples >= 2, "min samples < 2", minSamples );
+        checkArgument( maxNanos >= 0L, "negative budget", maxNanos );
+
+        this.statistic = statistic;
+        this.relativeError = relativeError;
+        this.confidence = confidence;
+        this.minSamples = minSamples;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Starts tracking the times of a new test, its budget starts now.
+     *
+     * @return the new tracker of the test
+     */
+    @NonNull
+    public Tracker track() {
+        return new Tracker();
+    }
+
+    /**
+     * Quantile of the standard normal distribution at the specified probability.
+     *
+     * <p>Acklam's rational approximation, with a relative error under 1.2e-9.
+     *
+     * @param p probability, between 0 and 1 exclusive
+     * @return the quantile
+     */
+    static double normalQuantile(final double p) {
+        final double low = 0.02425;
+        if ( p < low )
+        {
+            final double q = Math.sqrt( -2.0 * Math.log( p ) );
+            return tail( q );
+        }
+        if ( p > 1.0 - low )
+        {
+            final double q = Math.sqrt( -2.0 * Math.log( 1.0 - p ) );
+            return -tail( q );
+        }
+
+        final double q = p - 0.5;
+        final double r = q * q;
+        return (((((-3.969683028665376e+01 * r + 2.209460984245205e+02) * r - 2.759285104469687e+02) * r
+                + 1.383577518672690e+02) * r - 3.066479806614716e+01) * r + 2.506628277459239e+00) * q
+                / (((((-5.447609879822406e+01 * r + 1.615962386792520e+02) * r - 1.556989798598866e+02) * r
+                + 6.680131188771972e+01) * r - 1.328068155288572e+01) * r + 1.0);
+    }
+
+    /**
+     * Lower tail of {@link #normalQuantile(double)}.
+     *
+     * @param q {@code sqrt(-2 log p)}
+     * @return the quantile
+     */
+    private static double tail(final double q) {
+        return (((((-7.784894002430293e-03 * q - 3.223964580411365e-01) * q - 2.400758277161838e+00) * q
+                - 2.549732539343734e+00) * q + 4.374664141464968e+00) * q + 2.938163982698783e+00)
+                / ((((7.784695709041462e-03 * q + 3.224671290700398e-01) * q + 2.445134137142996e+00) * q
+                + 3.754408661907416e+00) * q + 1.0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper( this )
+                .add( "statistic", statistic )
+                .add( "relativeError", relativeError )
+                .add( "confidence", confidence )
+                .add( "minSamples", minSamples )
+                .add( "maxNanos", maxNanos )
+                .toString();
+    }
+
+    /**
+     * Statistic whose confidence interval must converge.
+     *
+     * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+     * @since 1.7
+     */
+    public enum Statistic {
+
+        /**
+         * The average of the times.
+         */
+        MEAN,
+
+        /**
+         * The median of the times, robust to a few outliers.
+         */
+        MEDIAN
+    }
+
+    /**
+     * Tracks the times of a single test until they converge.
+     *
+     * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+     * @implSpec this class is not thread-safe
+     * @since 1.7
+     */
+    public final class Tracker {
+
+        /**
+         * Nanosecond at which the test started.
+         */
+        private final long start = System.nanoTime();
+
+        /**
+         * Two-sided quantile of the normal distribution at the confidence.
+         */
+        private final double z = normalQuantile( 0.5 + confidence / 2.0 );
+
+        /**
+         * Times of the median, {@code null} for the mean.
+         */
+        private final TimeSummary summary = statistic == Statistic.MEDIAN ? new TimeSummary() : null;
+
+        /**
+         * Amount of times tracked.
+         */
+        private long count = 0L;
+
+        /**
+         * Running mean of the times, Welford's.
+         */
+        private double mean = 0.0;
+
+        /**
+         * Running sum of the squared differences to the mean, Welford's.
+         */
+        private double squares = 0.0;
+
+        /**
+         * Whether the interval already converged.
+         */
+        private boolean converged = false;
+
+        /**
+         * Creates a new {@link Tracker}.
+         */
+        private Tracker() {
+        }
+
+        /**
+         * Tracks the specified time.
+         *
+         * @param time measured by the test
+         * @return <tt>true</tt> if the test should stop, converged or out of budget
+         */
+        public boolean add(final int time) {
+            ++count;
+            final double delta = time - mean;
+            mean += delta / count;
+            squares += delta * (time - mean);
+
+            if ( Objects.nonNull( summary ) )
+            {
+                summary.record( time );
+            }
+
+            if ( count >= minSamples && ! converged )
+            {
+                converged = statistic == Statistic.MEAN ? isMeanConverged() : isMedianConverged();
+            }
+            return converged || System.nanoTime() - start >= maxNanos;
+        }
+
+        /**
+         * Amount of times tracked.
+         *
+         * @return the count of times
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Whether the interval converged, not just ran out of budget.
+         *
+         * @return <tt>true</tt> if the interval is within the error
+         */
+        public boolean isConverged() {
+            return converged;
+        }
+
+        /**
+         * Whether the normal interval of the mean is within the error.
+         *
+         * @return <tt>true</tt> if converged
+         */
+        private boolean isMeanConverged() {
+            final double halfWidth = z * Math.sqrt( squares / (count - 1) / count );
+            return halfWidth <= relativeError * Math.abs( mean );
+        }
+
+        /**
+         * Whether the order statistics interval of the median is within the error.
+         *
+         * @return <tt>true</tt> if converged
+         */
+        private boolean isMedianConverged() {
+            if ( count % CHECK_INTERVAL != 0 )
+            {
+                return false;
+            }
+
+            // ranks n/2 -+ z sqrt(n)/2 of the binomial around the median
+            final double spread = z / (2.0 * Math.sqrt( count ));
+            final int lower = summary.getQuantile( Math.max( 0.0, 0.5 - spread ) );
+            final int upper = summary.getQuantile( Math.min( 1.0, 0.5 + spread ) );
+            final int median = summary.getQuantile( 0.5 );
+            return (upper - lower) / 2.0 <= relativeError * median;
+        }
+    }
+}
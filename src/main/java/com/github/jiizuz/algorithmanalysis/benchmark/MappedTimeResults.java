@@ -0,0 +1,443 @@
+package com.github.jiizuz.algorithmanalysis.benchmark;
+
+import it.unimi.dsi.fastutil.ints.AbstractIntList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntLists;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * {@link TimeResults} implementation that stores the times off the heap,
+ * in a memory-mapped file.
+ *
+ * <p>The file is mapped in chunks of a fixed amount of times, a new chunk is
+ * mapped when the last one is full, so the heap only holds a reference per
+ * chunk however many times are registered and the garbage collector has
+ * nothing to do. The file is created lazily on the first register.
+ *
+ * <p>The file starts with a header of {@code 16} bytes: the magic number
+ * {@code "TIME"}, the times per chunk and the amount of times, updated on each
+ * register; then the times, as little-endian {@code int}s. The pages of the
+ * file belong to the operating system, so if the process crashes the times
+ * registered so far stay in the file and can be read with {@link #recover(Path)}.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @implSpec this class is not thread-safe
+ * @see com.github.jiizuz.algorithmanalysis.benchmark.TimeResults
+ * @since 1.7
+ */
+public class MappedTimeResults implements TimeResults {
+
+    /**
+     * Default amount of times per chunk, {@code 16 MiB}.
+     */
+    public static final int DEFAULT_CHUNK_TIMES = 1 << 22;
+
+    /**
+     * Magic number at the start of the file, {@code "TIME"}.
+     */
+    private static final int MAGIC = 0x54494D45;
+
+    /**
+     * Bytes of the header of the file.
+     */
+    private static final int HEADER_BYTES = 16;
+
+    /**
+     * Offset in the header of the times per chunk.
+     */
+    private static final int CHUNK_TIMES_OFFSET = 4;
+
+    /**
+     * Offset in the header of the amount of times.
+     */
+    private static final int COUNT_OFFSET = 8;
+
+    /**
+     * File to store the times in.
+     */
+    private final Path file;
+
+    /**
+     * Amount of times per chunk.
+     */
+    private final int chunkTimes;
+
+    /**
+     * Mapped chunks of the file, in order.
+     */
+    private final List<MappedByteBuffer> chunks = new ObjectArrayList<>();
+
+    /**
+     * Channel of the file, {@code null} if the file is not open.
+     */
+    private FileChannel channel = null;
+
+    /**
+     * Mapped header of the file.
+     */
+    private MappedByteBuffer header = null;
+
+    /**
+     * Last mapped chunk, to register on.
+     */
+    private MappedByteBuffer chunk = null;
+
+    /**
+     * Amount of registered times.
+     */
+    private long size = 0L;
+
+    /**
+     * Incremented on each dump, so the views of the unmapped chunks fail instead of reading them.
+     */
+    private int generation = 0;
+
+    /**
+     * Current {@link AutoCloseable} status.
+     */
+    private boolean closed = false;
+
+    /**
+     * Creates a new {@link MappedTimeResults} with the {@link #DEFAULT_CHUNK_TIMES}.
+     *
+     * @param file to store the times in, replaced if it exists
+     * @throws NullPointerException if the file is {@code null}
+     */
+    public MappedTimeResults(final @NonNull Path file) {
+        this( file, DEFAULT_CHUNK_TIMES );
+    }
+
+    /**
+     * Creates a new {@link MappedTimeResults}.
+     *
+     * @param file       to store the times in, replaced if it exists
+     * @param chunkTimes amount of times per mapped chunk
+     * @throws NullPointerException     if the file is {@code null}
+     * @throws IllegalArgumentException if the chunk times are negative, zero or not less than {@code 2^29},
+     *                                  a chunk must fit in {@link Integer#MAX_VALUE} bytes to be mapped
+     */
+    public MappedTimeResults(final @NonNull Path file, final int chunkTimes) {
+        checkArgument( chunkTimes > 0 && chunkTimes <= Integer.MAX_VALUE >> 2, "chunk times out of (0, 2^29)", chunkTimes );
+
+        this.file = file;
+        this.chunkTimes = chunkTimes;
+    }
+
+    /**
+     * Opens the times stored in the specified file, e.g. after a crash.
+     *
+     * <p>The returned results are already closed.
+     *
+     * @param file with the times of a {@link MappedTimeResults}
+     * @return the results with the times of the file
+     * @throws NullPointerException     if the file is {@code null}
+     * @throws IllegalArgumentException if the file was not written by a {@link MappedTimeResults}
+     * @throws IOException              if the file can not be read
+     */
+    @NonNull
+    public static MappedTimeResults recover(final @NonNull Path file) throws IOException {
+        final FileChannel channel = FileChannel.open( file, StandardOpenOption.READ, StandardOpenOption.WRITE );
+        try
+        {
+            checkArgument( channel.size() >= HEADER_BYTES, "not a times file", file );
+            final MappedByteBuffer header = map( channel, 0L, HEADER_BYTES );
+            checkArgument( header.getInt( 0 ) == MAGIC, "not a times file", file );
+
+            final MappedTimeResults results = new MappedTimeResults( file, header.getInt( CHUNK_TIMES_OFFSET ) );
+            results.channel = channel;
+            results.header = header;
+            results.size = header.getLong( COUNT_OFFSET );
+
+            final long chunkBytes = (long) results.chunkTimes << 2;
+            for ( long offset = HEADER_BYTES; offset < HEADER_BYTES + (results.size << 2); offset += chunkBytes )
+            {
+                results.chunk = map( channel, offset, chunkBytes );
+                results.chunks.add( results.chunk );
+            }
+
+            results.close();
+            return results;
+        } catch ( final UncheckedIOException e )
+        {
+            channel.close();
+            throw e.getCause();
+        } catch ( final RuntimeException e )
+        {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The mapped chunks are written to the file.
+     */
+    @Override
+    public void close() throws IllegalStateException {
+        checkIsNotClosed();
+
+        closed = true;
+        if ( Objects.nonNull( channel ) )
+        {
+            chunks.forEach( MappedByteBuffer::force );
+            header.force();
+            closeChannel();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UncheckedIOException if the file can not be mapped
+     */
+    @Override
+    public void register(final int time) throws IllegalStateException {
+        checkArgument( time >= 0, "negative times are not allowed", time );
+        checkIsNotClosed();
+
+        if ( Objects.isNull( header ) )
+        {
+            open();
+        }
+
+        final int offset = (int) (size % chunkTimes);
+        if ( offset == 0 )
+        {
+            chunk = map( channel, HEADER_BYTES + (size << 2), (long) chunkTimes << 2 );
+            chunks.add( chunk );
+        }
+
+        chunk.putInt( offset << 2, time );
+        header.putLong( COUNT_OFFSET, ++size );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The returned list is a view of the first times registered so far,
+     * read from the mapped file. It fails once the results are dumped.
+     *
+     * @throws IllegalStateException if there are more than {@link Integer#MAX_VALUE} times,
+     *                               see {@link #getTime(long)}
+     */
+    @NonNull
+    public IntList getTimes() {
+        if ( size == 0L )
+        {
+            return IntLists.emptyList();
+        }
+        checkState( size <= Integer.MAX_VALUE, "too many times for a list", size );
+
+        final int length = (int) size;
+        final int viewGeneration = generation;
+        return new AbstractIntList()
+        {
+            @Override
+            public int getInt(final int index) {
+                checkState( generation == viewGeneration, "the results were dumped" );
+                checkElementIndex( index, length );
+
+                return chunks.get( index / chunkTimes ).getInt( (index % chunkTimes) << 2 );
+            }
+
+            @Override
+            public int size() {
+                return length;
+            }
+        };
+    }
+
+    /**
+     * Returns the amount of registered times, that may not fit a list.
+     *
+     * @return the amount of times
+     */
+    public long getCount() {
+        return size;
+    }
+
+    /**
+     * Returns the registered time at the specified index.
+     *
+     * @param index of the time, in order of registration
+     * @return the time at the index
+     * @throws IndexOutOfBoundsException if there is no time at the index
+     */
+    public int getTime(final long index) {
+        if ( index < 0L || index >= size )
+        {
+            throw new IndexOutOfBoundsException( "index " + index + " out of " + size + " times" );
+        }
+
+        return chunks.get( (int) (index / chunkTimes) ).getInt( (int) (index % chunkTimes) << 2 );
+    }
+
+    /**
+     * File that stores the times.
+     *
+     * @return the file
+     */
+    @NonNull
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The chunks are unmapped and the file is deleted.
+     *
+     * @throws UncheckedIOException if the file can not be deleted
+     */
+    @Override
+    public void dump() {
+        ++generation;
+        chunks.forEach( MappedTimeResults::unmap );
+        chunks.clear();
+        chunk = null;
+        if ( Objects.nonNull( header ) )
+        {
+            unmap( header );
+            header = null;
+        }
+        closeChannel();
+        size = 0L;
+
+        try
+        {
+            Files.deleteIfExists( file );
+        } catch ( final IOException e )
+        {
+            throw new UncheckedIOException( e );
+        }
+    }
+
+    /**
+     * Creates the file and maps its header.
+     *
+     * @throws UncheckedIOException if the file can not be created
+     */
+    private void open() {
+        try
+        {
+            channel = FileChannel.open( file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE );
+        } catch ( final IOException e )
+        {
+            throw new UncheckedIOException( e );
+        }
+
+        header = map( channel, 0L, HEADER_BYTES );
+        header.putInt( 0, MAGIC );
+        header.putInt( CHUNK_TIMES_OFFSET, chunkTimes );
+        header.putLong( COUNT_OFFSET, 0L );
+    }
+
+    /**
+     * Closes the channel of the file, if open; the mapped chunks stay valid.
+     *
+     * @throws UncheckedIOException if the channel can not be closed
+     */
+    private void closeChannel() {
+        if ( Objects.isNull( channel ) )
+        {
+            return;
+        }
+
+        try
+        {
+            channel.close();
+        } catch ( final IOException e )
+        {
+            throw new UncheckedIOException( e );
+        } finally
+        {
+            channel = null;
+        }
+    }
+
+    /**
+     * Checks this {@link TimeResults} are not closed yet.
+     *
+     * @throws IllegalStateException if these results are already closed
+     */
+    private void checkIsNotClosed() throws IllegalStateException {
+        checkState( ! closed, "the results are already closed" );
+    }
+
+    /**
+     * Maps the specified region of the channel, growing the file if needed.
+     *
+     * @param channel  to map
+     * @param position of the region
+     * @param bytes    of the region
+     * @return the little-endian mapped region
+     * @throws UncheckedIOException if the region can not be mapped
+     */
+    @NonNull
+    private static MappedByteBuffer map(final FileChannel channel, final long position, final long bytes) {
+        try
+        {
+            final MappedByteBuffer buffer = channel.map( FileChannel.MapMode.READ_WRITE, position, bytes );
+            buffer.order( ByteOrder.LITTLE_ENDIAN );
+            return buffer;
+        } catch ( final IOException e )
+        {
+            throw new UncheckedIOException( e );
+        }
+    }
+
+    /**
+     * Releases the mapping of the specified buffer right away, instead of waiting for the
+     * garbage collector, so the file can be deleted; the buffer must not be used after.
+     *
+     * <p>There is no public API for it, so the cleaner of the buffer is invoked by
+     * reflection. If it is not accessible, the mapping is left to the garbage collector.
+     *
+     * @param buffer to unmap
+     */
+    private static void unmap(final MappedByteBuffer buffer) {
+        try
+        {
+            final Class<?> unsafeClass = Class.forName( "sun.misc.Unsafe" );
+            try
+            {
+                // Java 9+
+                final Method invokeCleaner = unsafeClass.getMethod( "invokeCleaner", ByteBuffer.class );
+                final Field theUnsafe = unsafeClass.getDeclaredField( "theUnsafe" );
+                theUnsafe.setAccessible( true );
+                invokeCleaner.invoke( theUnsafe.get( null ), buffer );
+            } catch ( final NoSuchMethodException e )
+            {
+                // Java 8
+                final Method cleanerMethod = buffer.getClass().getMethod( "cleaner" );
+                cleanerMethod.setAccessible( true );
+                final Object cleaner = cleanerMethod.invoke( buffer );
+                cleaner.getClass().getMethod( "clean" ).invoke( cleaner );
+            }
+        } catch ( final ReflectiveOperationException | RuntimeException ignored )
+        {
+            // left to the garbage collector
+        }
+    }
+}
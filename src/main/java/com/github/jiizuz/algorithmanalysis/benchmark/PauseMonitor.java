@@ -0,0 +1,235 @@
+package com.github.jiizuz.algorithmanalysis.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import lombok.NonNull;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Watches the garbage collections and JIT compilations of the JVM while a
+ * <tt>Benchmark</tt> times a function, to tag the samples they may have
+ * inflated with {@link SampleTag}s.
+ *
+ * <p>{@link #poll()} is called before and after each sample: it returns the
+ * tags of the events since the previous call. A collection is detected by
+ * the count of collections of the {@link GarbageCollectorMXBean}s, that
+ * changes as soon as the collection ends, and a compilation by the delta of
+ * the total compilation time of the {@link CompilationMXBean}. Both are read
+ * out of the timed section, so they do not inflate the samples.
+ *
+ * <p>The collection notifications of the beans are also listened, to
+ * account the pauses and their duration, since the counts tell which
+ * samples a collection hit but not how long it took.
+ *
+ * <p>Safepoints that are not collections have no public bean, so they are
+ * not detected.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @implSpec this class is not thread-safe, except the pause accounting
+ * @see com.github.jiizuz.algorithmanalysis.benchmark.SampleTag
+ * @since 1.7
+ */
+public class PauseMonitor implements AutoCloseable {
+
+    /**
+     * Type of the notification sent by the collectors after each collection.
+     */
+    private static final String GC_NOTIFICATION = "com.sun.management.gc.notification";
+
+    /**
+     * Collectors of the JVM.
+     */
+    private final List<GarbageCollectorMXBean> collectors = ImmutableList.copyOf(
+            ManagementFactory.getGarbageCollectorMXBeans() );
+
+    /**
+     * JIT compiler of the JVM, {@code null} if it does not report its time.
+     */
+    private final CompilationMXBean compiler;
+
+    /**
+     * Counts the collections notified and sums their durations.
+     */
+    private final NotificationListener listener = this::handleNotification;
+
+    /**
+     * Amount of collections notified.
+     */
+    private final AtomicLong pauses = new AtomicLong();
+
+    /**
+     * Milliseconds of the collections notified.
+     */
+    private final AtomicLong pauseMillis = new AtomicLong();
+
+    /**
+     * Count of collections at the last poll.
+     */
+    private long collections;
+
+    /**
+     * Compilation time at the last poll.
+     */
+    private long compilationMillis;
+
+    /**
+     * Current {@link AutoCloseable} status.
+     */
+    private boolean closed = false;
+
+    /**
+     * Creates a new {@link PauseMonitor} that watches the events from now on.
+     */
+    public PauseMonitor() {
+        final CompilationMXBean bean = ManagementFactory.getCompilationMXBean();
+        compiler = Objects.nonNull( bean ) && bean.isCompilationTimeMonitoringSupported() ? bean : null;
+
+        for ( final GarbageCollectorMXBean collector : collectors )
+        {
+            if ( collector instanceof NotificationEmitter )
+            {
+                ((NotificationEmitter) collector).addNotificationListener( listener, null, null );
+            }
+        }
+
+        collections = collections();
+        compilationMillis = compilationMillis();
+    }
+
+    /**
+     * Tags of the events since the previous poll, or since the monitor was created.
+     *
+     * @return the mask of the {@link SampleTag}s of the events, {@code 0} if none
+     * @throws IllegalStateException if the monitor is closed
+     */
+    public int poll() {
+        checkState( ! closed, "the monitor is closed" );
+
+        int tags = 0;
+
+        final long collections = collections();
+        if ( collections != this.collections )
+        {
+            this.collections = collections;
+            tags |= SampleTag.GC.mask();
+        }
+
+        final long compilationMillis = compilationMillis();
+        if ( compilationMillis != this.compilationMillis )
+        {
+            this.compilationMillis = compilationMillis;
+            tags |= SampleTag.JIT.mask();
+        }
+
+        return tags;
+    }
+
+    /**
+     * Amount of collections notified since the monitor was created.
+     *
+     * <p>The notifications are delivered after the collections, so the
+     * latest ones may not be counted yet.
+     *
+     * @return the amount of pauses
+     */
+    public long getPauses() {
+        return pauses.get();
+    }
+
+    /**
+     * Milliseconds of the collections notified since the monitor was created.
+     *
+     * @return the total duration of the pauses
+     * @see #getPauses()
+     */
+    public long getPauseMillis() {
+        return pauseMillis.get();
+    }
+
+    /**
+     * Stops listening the collections.
+     *
+     * @throws IllegalStateException if the monitor is already closed
+     */
+    @Override
+    public void close() throws IllegalStateException {
+        checkState( ! closed, "the monitor is already closed" );
+        closed = true;
+
+        for ( final GarbageCollectorMXBean collector : collectors )
+        {
+            if ( collector instanceof NotificationEmitter )
+            {
+                try
+                {
+                    ((NotificationEmitter) collector).removeNotificationListener( listener );
+                } catch ( final ListenerNotFoundException ignored )
+                {
+                    // never added
+                }
+            }
+        }
+    }
+
+    /**
+     * Accounts the collection of the specified notification.
+     *
+     * @param notification sent by a collector
+     * @param handback     ignored
+     */
+    private void handleNotification(final @NonNull Notification notification, final Object handback) {
+        if ( ! GC_NOTIFICATION.equals( notification.getType() )
+                || ! (notification.getUserData() instanceof CompositeData) )
+        {
+            return;
+        }
+
+        pauses.incrementAndGet();
+
+        // GarbageCollectionNotificationInfo, read as open data to not depend on com.sun.management
+        final CompositeData data = (CompositeData) notification.getUserData();
+        if ( data.containsKey( "gcInfo" ) && data.get( "gcInfo" ) instanceof CompositeData )
+        {
+            final CompositeData info = (CompositeData) data.get( "gcInfo" );
+            if ( info.containsKey( "duration" ) )
+            {
+                pauseMillis.addAndGet( ((Number) info.get( "duration" )).longValue() );
+            }
+        }
+    }
+
+    /**
+     * Sum of the collections of every collector.
+     *
+     * @return the amount of collections
+     */
+    private long collections() {
+        long count = 0L;
+        for ( final GarbageCollectorMXBean collector : collectors )
+        {
+            count += Math.max( 0L, collector.getCollectionCount() );
+        }
+        return count;
+    }
+
+    /**
+     * Total time of the JIT compiler.
+     *
+     * @return the milliseconds of compilation, {@code 0} if not reported
+     */
+    private long compilationMillis() {
+        return Objects.isNull( compiler ) ? 0L : compiler.getTotalCompilationTime();
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.jiizuz.algorithmanalysis.benchmark;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongLists;
+import lombok.NonNull;
+
+/**
+ * {@link TaggedTimeResults} that also keeps the bytes allocated and the CPU
+ * time of each call, measured by a {@link ThreadProfiler}.
+ *
+ * <p>A time registered without them, by {@link #register(int, int)}, keeps
+ * {@code -1} as its allocated bytes and CPU time.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @implSpec this class is not thread-safe
+ * @see com.github.jiizuz.algorithmanalysis.benchmark.ThreadProfiler
+ * @since 1.7
+ */
+public class ProfiledTimeResults extends TaggedTimeResults {
+
+    /**
+     * Bytes allocated by each call.
+     */
+    private final LongList allocatedBytes;
+
+    /**
+     * CPU nanoseconds of each call.
+     */
+    private final LongList cpuTimes;
+
+    /**
+     * Creates a new {@link ProfiledTimeResults}.
+     *
+     * @param delegate results to register the times in, not closed and empty
+     * @throws NullPointerException     if the delegate is {@code null}
+     * @throws IllegalArgumentException if the delegate already has times
+     */
+    public ProfiledTimeResults(final @NonNull TimeResults delegate) {
+        this( delegate, LongArrayList.DEFAULT_INITIAL_CAPACITY );
+    }
+
+    /**
+     * Creates a new {@link ProfiledTimeResults} with room for the specified amount of times.
+     *
+     * @param delegate results to register the times in, not closed and empty
+     * @param capacity expected amount of times
+     * @throws NullPointerException     if the delegate is {@code null}
+     * @throws IllegalArgumentException if the delegate already has times or the capacity is negative
+     */
+    public ProfiledTimeResults(final @NonNull TimeResults delegate, final int capacity) {
+        super( delegate, capacity );
+        allocatedBytes = new LongArrayList( capacity );
+        cpuTimes = new LongArrayList( capacity );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The time is registered without allocated bytes and CPU time.
+     */
+    @Override
+    public void register(final int time, final int tags) throws IllegalStateException {
+        register( time, tags, -1L, -1L );
+    }
+
+    /**
+     * Tracks the specified <tt>Time</tt> with its tags, allocated bytes and CPU time.
+     *
+     * @param time           to register in the results
+     * @param tags           mask of the {@link SampleTag}s of the time
+     * @param allocatedBytes bytes allocated by the call
+     * @param cpuTime        CPU nanoseconds of the call
+     * @throws IllegalArgumentException if the time is negative
+     * @throws IllegalStateException    if these results are already closed
+     */
+    public void register(final int time, final int tags, final long allocatedBytes, final long cpuTime)
+            throws IllegalStateException {
+        super.register( time, tags );
+
+        this.allocatedBytes.add( allocatedBytes );
+        cpuTimes.add( cpuTime );
+    }
+
+    /**
+     * Returns the bytes allocated by each call, in order of registration.
+     *
+     * @return the unmodifiable allocated bytes
+     */
+    @NonNull
+    public LongList getAllocatedBytes() {
+        return LongLists.unmodifiable( allocatedBytes );
+    }
+
+    /**
+     * Returns the CPU nanoseconds of each call, in order of registration.
+     *
+     * @return the unmodifiable CPU times
+     */
+    @NonNull
+    public LongList getCpuTimes() {
+        return LongLists.unmodifiable( cpuTimes );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void dump() {
+        super.dump();
+        allocatedBytes.clear();
+        cpuTimes.clear();
+    }
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
 
+import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -40,6 +41,32 @@ public class QuietBenchmark implements Benchmark {
      */
     private static final boolean SKIP_WARM_UP = false;
 
+    /**
+     * Default rule to stop the tests, none.
+     *
+     * <p>This value is used when a NoArgsConstructor is used
+     */
+    private static final Convergence CONVERGENCE = null;
+
+    /**
+     * Default warm-up phase, until the steady state of the functions.
+     *
+     * <p>This value is used when a NoArgsConstructor is used
+     */
+    private static final WarmUp WARM_UP = WarmUp.builder().build();
+
+    /**
+     * Default status about whether we should profile each call.
+     *
+     * <p>This value is used when a NoArgsConstructor is used
+     */
+    private static final boolean PROFILE = false;
+
+    /**
+     * Initial capacity of the results of a test that stops on convergence.
+     */
+    private static final int CONVERGENCE_CAPACITY = 1 << 10;
+
     /**
      * Times that the algorithms will be executed.
      *
@@ -58,18 +85,43 @@ public class QuietBenchmark implements Benchmark {
     @Builder.Default
     private final boolean skipWarmUp = SKIP_WARM_UP;
 
+    /**
+     * Warm-up phase of the functions, never longer than the {@link #executions}.
+     *
+     * @see #WARM_UP
+     */
+    @Builder.Default
+    private final WarmUp warmUp = WARM_UP;
+
+    /**
+     * Whether we should measure the bytes allocated and the CPU time of each
+     * call next to its time, the results are {@link ProfiledTimeResults} then.
+     *
+     * @see ThreadProfiler
+     */
+    @Builder.Default
+    private final boolean profile = PROFILE;
+
+    /**
+     * Rule to stop each test once its times converge, then the
+     * {@link #executions} are the maximum executions of a test.
+     *
+     * <p>When {@code null} each test runs exactly {@link #executions} times.
+     *
+     * @see #CONVERGENCE
+     */
+    @Builder.Default
+    private final Convergence convergence = CONVERGENCE;
+
     /**
      * {@inheritDoc}
      */
     @NonNull
     @Override
     public <I, O> TimeResults test(final @NonNull Function<I, O> function, final @NonNull Supplier<I> iSupplier) {
-        if ( skipWarmUp )
-        {
-            warmUp( function, iSupplier );
-        }
+        final int warmUpIterations = skipWarmUp ? 0 : warmUp( function, iSupplier );
 
-        return time( function, iSupplier );
+        return time( function, iSupplier, warmUpIterations );
     }
 
     /**
@@ -114,19 +166,17 @@ public class QuietBenchmark implements Benchmark {
     }
 
     /**
-     * Warms up the processor by executing the {@link Function} the desired
-     * {@link #executions} amount of times.
+     * Warms up the processor by executing the {@link Function} until it
+     * reaches its steady state, see {@link WarmUp}.
      *
      * @param <I>       input of the function
      * @param <O>       output of the function
      * @param function  to test and stress with the processor
      * @param iSupplier to retrieve the input of the function
+     * @return the amount of calls the warm-up took
      */
-    private <I, O> void warmUp(final @NonNull Function<I, O> function, final @NonNull Supplier<I> iSupplier) {
-        for ( int i = 0; i < executions; ++i )
-        {
-            function.apply( iSupplier.get() );
-        }
+    private <I, O> int warmUp(final @NonNull Function<I, O> function, final @NonNull Supplier<I> iSupplier) {
+        return warmUp.run( function, iSupplier, executions );
     }
 
     /**
@@ -135,25 +185,64 @@ public class QuietBenchmark implements Benchmark {
      * of times and calculates the execution time of that call, the resultant
      * time is stored in a {@link TimeResults} and returned.
      *
-     * @param <I>       input of the function
-     * @param <O>       output of the function
-     * @param function  to test and time
-     * @param iSupplier to retrieve the input of the function
+     * <p>Each time is tagged with the garbage collections and JIT compilations
+     * during its call, see {@link TaggedTimeResults}.
+     *
+     * <p>With a {@link #convergence} the test stops as soon as its times converge.
+     *
+     * <p>With {@link #profile} the allocated bytes and CPU time of each call
+     * are measured out of its time, see {@link ProfiledTimeResults}.
+     *
+     * @param <I>              input of the function
+     * @param <O>              output of the function
+     * @param function         to test and time
+     * @param iSupplier        to retrieve the input of the function
+     * @param warmUpIterations calls of the warm-up of the function
      * @return the resultant {@link TimeResults} of the test
      * @see #executions
      */
     @NonNull
-    private <I, O> TimeResults time(final @NonNull Function<I, O> function, final @NonNull Supplier<I> iSupplier) {
-        try ( final TimeResults results = new ArrayTimeResults( executions ) ) {
+    private <I, O> TimeResults time(final @NonNull Function<I, O> function, final @NonNull Supplier<I> iSupplier,
+                                    final int warmUpIterations) {
+        final int capacity = Objects.isNull( convergence ) ? executions : Math.min( executions, CONVERGENCE_CAPACITY );
+        final TimeResults times = new ArrayTimeResults( capacity );
+        final ThreadProfiler profiler = profile ? new ThreadProfiler() : null;
+
+        try ( final PauseMonitor monitor = new PauseMonitor();
+              final TaggedTimeResults results = Objects.isNull( profiler )
+                      ? new TaggedTimeResults( times, capacity ) : new ProfiledTimeResults( times, capacity ) ) {
+            final Convergence.Tracker tracker = Objects.isNull( convergence ) ? null : convergence.track();
+            results.setWarmUpIterations( warmUpIterations );
 
             for ( int i = 0; i < executions; ++i )
             {
                 final I input = iSupplier.get();
+                monitor.poll(); // the events of the supplier are not of the sample
+                if ( Objects.nonNull( profiler ) )
+                {
+                    profiler.begin();
+                }
                 final long start = System.nanoTime();
                 function.apply( input ); // ignore output
                 final long end = System.nanoTime();
-                results.register( Math.toIntExact( end - start ) );
+                final int time = Math.toIntExact( end - start );
+
+                if ( Objects.isNull( profiler ) )
+                {
+                    results.register( time, monitor.poll() );
+                } else
+                {
+                    profiler.end();
+                    ((ProfiledTimeResults) results).register( time, monitor.poll(),
+                            profiler.getAllocatedBytes(), profiler.getCpuNanos() );
+                }
+
+                if ( Objects.nonNull( tracker ) && tracker.add( time ) )
+                {
+                    break; // converged or out of budget
+                }
             }
+            results.setPauses( monitor.getPauses(), monitor.getPauseMillis() );
 
             return results;
         }
@@ -0,0 +1,355 @@
+package com.github.jiizuz.algorithmanalysis.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import lombok.Builder;
+import lombok.NonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Compares the times of two runs of the same function, a <i>baseline</i> and
+ * a <i>candidate</i>, and tells whether the candidate is significantly slower.
+ *
+ * <p>The ratio candidate / baseline of the median and the 99th percentile is
+ * estimated with a bootstrap: both runs are resampled {@link #resamples}
+ * times, and the ratios of the resamples between the tails of the
+ * {@link #confidence} are its confidence interval. A run regressed when the
+ * whole interval is over {@code 1 + threshold}, so a noisy run is not flagged
+ * for a slowdown its noise explains.
+ *
+ * <p>The runs are {@link TimeSummary}s, so a bootstrap costs the same for a
+ * thousand times or for billions of them.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @apiNote This class is immutable and Thread-Safe.
+ * @see com.github.jiizuz.algorithmanalysis.benchmark.TimeSummary
+ * @since 1.7
+ */
+@Builder
+public class RegressionDetector {
+
+    /**
+     * Default relative slowdown tolerated, 5%.
+     */
+    private static final double THRESHOLD = 0.05;
+
+    /**
+     * Default confidence of the intervals, 99%.
+     */
+    private static final double CONFIDENCE = 0.99;
+
+    /**
+     * Default amount of bootstrap resamples.
+     */
+    private static final int RESAMPLES = 2000;
+
+    /**
+     * Default seed of the resamples, so a comparison is reproducible.
+     */
+    private static final long SEED = 0x5DEECE66DL;
+
+    /**
+     * Relative slowdown tolerated before flagging a regression.
+     *
+     * @see #THRESHOLD
+     */
+    @Builder.Default
+    private final double threshold = THRESHOLD;
+
+    /**
+     * Confidence of the intervals, between 0 and 1.
+     *
+     * @see #CONFIDENCE
+     */
+    @Builder.Default
+    private final double confidence = CONFIDENCE;
+
+    /**
+     * Amount of bootstrap resamples of each comparison.
+     *
+     * @see #RESAMPLES
+     */
+    @Builder.Default
+    private final int resamples = RESAMPLES;
+
+    /**
+     * Seed of the resamples of each comparison.
+     *
+     * @see #SEED
+     */
+    @Builder.Default
+    private final long seed = SEED;
+
+    /**
+     * Creates a new {@link RegressionDetector}.
+     *
+     * @param threshold  relative slowdown tolerated before flagging a regression
+     * @param confidence of the intervals, between 0 and 1
+     * @param resamples  amount of bootstrap resamples of each comparison
+     * @param seed       of the resamples of each comparison
+     * @throws IllegalArgumentException if the threshold is negative, the confidence is not
+     *                                  between 0 and 1 or the resamples are negative or zero
+     */
+    public RegressionDetector(final double threshold, final double confidence, final int resamples, final long seed) {
+        checkArgument( threshold >= 0.0, "negative threshold", threshold );
+        checkArgument( confidence > 0.0 && confidence < 1.0, "confidence out of (0, 1)", confidence );
+        checkArgument( resamples > 0, "resamples <= 0", resamples );
+
+        this.threshold = threshold;
+        this.confidence = confidence;
+        this.resamples = resamples;
+        this.seed = seed;
+    }
+
+    /**
+     * Compares the median and the 99th percentile of the specified runs.
+     *
+     * @param baseline  times of the reference run
+     * @param candidate times of the run to check
+     * @return the comparison of the median and of the 99th percentile
+     * @throws NullPointerException     if either the baseline or candidate are {@code null}
+     * @throws IllegalArgumentException if either the baseline or candidate are empty
+     */
+    @NonNull
+    public List<Comparison> compare(final @NonNull TimeSummary baseline, final @NonNull TimeSummary candidate) {
+        return ImmutableList.of(
+                compare( baseline, candidate, "median", 0.5 ),
+                compare( baseline, candidate, "p99", 0.99 ) );
+    }
+
+    /**
+     * Compares the specified quantile of the specified runs.
+     *
+     * <p>Time complexity - O(r * b), where r is the amount of resamples
+     * and b the amount of buckets of a {@link TimeSummary}.
+     *
+     * @param baseline  times of the reference run
+     * @param candidate times of the run to check
+     * @param name      of the quantile, to describe the comparison
+     * @param quantile  between 0 and 1
+     * @return the comparison of the quantile
+     * @throws NullPointerException     if either the baseline, candidate or name are {@code null}
+     * @throws IllegalArgumentException if either the baseline or candidate are empty,
+     *                                  or the quantile is not between 0 and 1
+     */
+    @NonNull
+    public Comparison compare(final @NonNull TimeSummary baseline, final @NonNull TimeSummary candidate,
+                              final @NonNull String name, final double quantile) {
+        checkArgument( baseline.getCount() > 0L, "empty baseline" );
+        checkArgument( candidate.getCount() > 0L, "empty candidate" );
+        checkArgument( quantile >= 0.0 && quantile <= 1.0, "quantile out of [0, 1]", quantile );
+
+        final Random random = new Random( seed );
+        final long[] weights = new long[TimeSummary.getBucketCount()];
+
+        final double[] ratios = new double[resamples];
+        for ( int i = 0; i < resamples; ++i )
+        {
+            ratios[i] = ratio(
+                    baseline.resampleQuantile( quantile, random, weights ),
+                    candidate.resampleQuantile( quantile, random, weights ) );
+        }
+        Arrays.sort( ratios );
+
+        final double tail = (1.0 - confidence) / 2.0;
+        final double lower = ratios[(int) Math.floor( tail * (resamples - 1) )];
+        final double upper = ratios[(int) Math.ceil( (1.0 - tail) * (resamples - 1) )];
+
+        final Verdict verdict;
+        if ( lower > 1.0 + threshold )
+        {
+            verdict = Verdict.REGRESSION;
+        } else if ( upper < 1.0 / (1.0 + threshold) )
+        {
+            verdict = Verdict.IMPROVEMENT;
+        } else
+        {
+            verdict = Verdict.NO_CHANGE;
+        }
+
+        return new Comparison( name, baseline.getQuantile( quantile ), candidate.getQuantile( quantile ),
+                lower, upper, verdict );
+    }
+
+    /**
+     * Ratio candidate / baseline of two times, a time of zero counts as one nanosecond.
+     *
+     * @param baseline  time of the reference run
+     * @param candidate time of the run to check
+     * @return the ratio of the times
+     */
+    private static double ratio(final int baseline, final int candidate) {
+        return (double) Math.max( 1, candidate ) / Math.max( 1, baseline );
+    }
+
+    /**
+     * Outcome of a {@link Comparison}.
+     *
+     * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+     * @since 1.7
+     */
+    public enum Verdict {
+
+        /**
+         * The candidate is slower than the threshold, with the confidence.
+         */
+        REGRESSION,
+
+        /**
+         * The candidate is faster than the threshold, with the confidence.
+         */
+        IMPROVEMENT,
+
+        /**
+         * The difference is within the threshold or the noise of the runs.
+         */
+        NO_CHANGE
+    }
+
+    /**
+     * Comparison of a quantile of two runs.
+     *
+     * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+     * @apiNote This class is immutable and Thread-Safe.
+     * @since 1.7
+     */
+    public static final class Comparison {
+
+        /**
+         * Name of the compared quantile.
+         */
+        private final String name;
+
+        /**
+         * Quantile of the baseline, in nanoseconds.
+         */
+        private final int baseline;
+
+        /**
+         * Quantile of the candidate, in nanoseconds.
+         */
+        private final int candidate;
+
+        /**
+         * Lower bound of the confidence interval of the ratio.
+         */
+        private final double lowerRatio;
+
+        /**
+         * Upper bound of the confidence interval of the ratio.
+         */
+        private final double upperRatio;
+
+        /**
+         * Outcome of the comparison.
+         */
+        private final Verdict verdict;
+
+        /**
+         * Creates a new {@link Comparison}.
+         *
+         * @param name       of the compared quantile
+         * @param baseline   quantile of the baseline
+         * @param candidate  quantile of the candidate
+         * @param lowerRatio lower bound of the confidence interval of the ratio
+         * @param upperRatio upper bound of the confidence interval of the ratio
+         * @param verdict    outcome of the comparison
+         */
+        private Comparison(final String name, final int baseline, final int candidate,
+                           final double lowerRatio, final double upperRatio, final Verdict verdict) {
+            this.name = name;
+            this.baseline = baseline;
+            this.candidate = candidate;
+            this.lowerRatio = lowerRatio;
+            this.upperRatio = upperRatio;
+            this.verdict = verdict;
+        }
+
+        /**
+         * Name of the compared quantile.
+         *
+         * @return the name
+         */
+        @NonNull
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Quantile of the baseline, in nanoseconds.
+         *
+         * @return the baseline time
+         */
+        public int getBaseline() {
+            return baseline;
+        }
+
+        /**
+         * Quantile of the candidate, in nanoseconds.
+         *
+         * @return the candidate time
+         */
+        public int getCandidate() {
+            return candidate;
+        }
+
+        /**
+         * Ratio candidate / baseline of the quantile.
+         *
+         * @return the ratio of the quantile
+         */
+        public double getRatio() {
+            return ratio( baseline, candidate );
+        }
+
+        /**
+         * Lower bound of the confidence interval of the ratio.
+         *
+         * @return the lower ratio
+         */
+        public double getLowerRatio() {
+            return lowerRatio;
+        }
+
+        /**
+         * Upper bound of the confidence interval of the ratio.
+         *
+         * @return the upper ratio
+         */
+        public double getUpperRatio() {
+            return upperRatio;
+        }
+
+        /**
+         * Outcome of the comparison.
+         *
+         * @return the verdict
+         */
+        @NonNull
+        public Verdict getVerdict() {
+            return verdict;
+        }
+
+        /**
+         * Whether the candidate regressed.
+         *
+         * @return <tt>true</tt> if the verdict is a {@link Verdict#REGRESSION}
+         */
+        public boolean isRegression() {
+            return verdict == Verdict.REGRESSION;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return String.format( "%s: %,d ns -> %,d ns, x%.3f [%.3f, %.3f] %s",
+                    name, baseline, candidate, getRatio(), lowerRatio, upperRatio, verdict );
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.jiizuz.algorithmanalysis.benchmark;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Compares two {@link ResultsArchive}s, usually the runs of the same
+ * benchmarks before and after an upgrade of the JDK or of a dependency,
+ * with a {@link RegressionDetector}.
+ *
+ * <p>Each run of the candidate archive is compared with the run of the
+ * baseline archive of the same function and input size. The samples are
+ * streamed from the archives into {@link TimeSummary}s, so the runs may be
+ * of any size. The program exits with status 1 if any run regressed.
+ *
+ * <p>Usage: {@code RegressionMain <baseline> <candidate> [threshold]}
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @since 1.7
+ */
+@UtilityClass
+public class RegressionMain {
+
+    /**
+     * Runs the comparison of the archives.
+     *
+     * @param args passed in the command line
+     * @throws IOException if either archive can not be read
+     */
+    public void main( String[] args ) throws IOException {
+        if ( args.length < 2 )
+        {
+            System.err.println( "Usage: RegressionMain <baseline> <candidate> [threshold]" );
+            System.exit( 2 );
+        }
+
+        final RegressionDetector.RegressionDetectorBuilder builder = RegressionDetector.builder();
+        if ( args.length > 2 )
+        {
+            builder.threshold( Double.parseDouble( args[2] ) );
+        }
+        final RegressionDetector detector = builder.build();
+
+        final ResultsArchive.Reader baseline = ResultsArchive.reader( Paths.get( args[0] ) );
+        final ResultsArchive.Reader candidate = ResultsArchive.reader( Paths.get( args[1] ) );
+
+        boolean regressed = false;
+        for ( int run = 0; run < candidate.getRuns().size(); ++run )
+        {
+            final RunMetadata metadata = candidate.getRuns().get( run );
+            final int match = indexOf( baseline.getRuns(), metadata );
+            if ( match < 0 )
+            {
+                System.out.printf( "%s (n = %,d): no baseline%n", metadata.getFunctionName(), metadata.getInputSize() );
+                continue;
+            }
+
+            final List<RegressionDetector.Comparison> comparisons = detector.compare(
+                    summarize( baseline, match ), summarize( candidate, run ) );
+
+            System.out.printf( "%s (n = %,d):%n", metadata.getFunctionName(), metadata.getInputSize() );
+            for ( final RegressionDetector.Comparison comparison : comparisons )
+            {
+                System.out.printf( "  %s%n", comparison );
+                regressed |= comparison.isRegression();
+            }
+        }
+
+        if ( regressed )
+        {
+            System.exit( 1 );
+        }
+    }
+
+    /**
+     * Index of the run of the same function and input size of the specified run.
+     *
+     * @param runs to search in
+     * @param run  to search
+     * @return the index of the last matching run, or {@code -1} if none matches
+     */
+    private int indexOf(final @NonNull List<RunMetadata> runs, final @NonNull RunMetadata run) {
+        for ( int i = runs.size() - 1; i >= 0; --i )
+        {
+            final RunMetadata other = runs.get( i );
+            if ( other.getFunctionName().equals( run.getFunctionName() ) && other.getInputSize() == run.getInputSize() )
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Streams the samples of the specified run into a new {@link TimeSummary}.
+     *
+     * @param reader of the archive of the run
+     * @param run    index of the run
+     * @return the summary of the run
+     * @throws IOException if the archive can not be read
+     */
+    @NonNull
+    private TimeSummary summarize(final @NonNull ResultsArchive.Reader reader, final int run) throws IOException {
+        final TimeSummary summary = new TimeSummary();
+        reader.forEachSample( run, summary::record );
+        return summary;
+    }
+}
@@ -0,0 +1,509 @@
+package com.github.jiizuz.algorithmanalysis.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingInputStream;
+import it.unimi.dsi.fastutil.ints.IntList;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.function.LongToIntFunction;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * {@link UtilityClass} to store the {@link TimeResults} of several runs of a
+ * <tt>Benchmark</tt> in a compact binary file, and read them back later
+ * without running the benchmarks again.
+ *
+ * <p>The file is columnar: after the magic number and the version, each
+ * field of the {@link RunMetadata} of all the runs is stored together, then
+ * the amount of samples and of bytes of each run, then the samples of each
+ * run one after the other. So the metadata of every run is read without
+ * touching the samples, and the samples of a single run are streamed from
+ * its offset.
+ *
+ * <p>The numbers are variable-length (7 bits per byte), the timestamps are
+ * stored as the difference to the previous one and the samples as the
+ * zig-zag encoded difference to the previous sample, so consecutive samples
+ * of a similar time take one or two bytes instead of four.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @see com.github.jiizuz.algorithmanalysis.benchmark.RunMetadata
+ * @since 1.7
+ */
+@UtilityClass
+public class ResultsArchive {
+
+    /**
+     * Magic number at the start of the file, {@code "BNCH"}.
+     */
+    private final int MAGIC = 0x424E4348;
+
+    /**
+     * Version of the format of the file.
+     */
+    private final int VERSION = 1;
+
+    /**
+     * Size of the buffers of the streams.
+     */
+    private final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Writes the specified runs to the specified file, replacing it if it exists.
+     *
+     * <p>The samples are read twice, once to size each run and once to write it,
+     * so they are never buffered. The times of a {@link MappedTimeResults} are
+     * read one by one from its file, so they may be more than fit in a list.
+     *
+     * @param file    to write the runs on
+     * @param runs    metadata of each run
+     * @param results times of each run, at the same index of its metadata
+     * @throws NullPointerException     if either the file, runs or results are {@code null}
+     * @throws IllegalArgumentException if there are not as many runs as results
+     * @throws IOException              if the file can not be written
+     */
+    public void write(final @NonNull Path file, final @NonNull List<RunMetadata> runs,
+                      final @NonNull List<? extends TimeResults> results) throws IOException {
+        checkArgument( runs.size() == results.size(), "not as many runs as results", runs.size(), results.size() );
+
+        try ( final OutputStream out = new BufferedOutputStream( Files.newOutputStream( file ), BUFFER_SIZE ) )
+        {
+            writeInt( out, MAGIC );
+            out.write( VERSION );
+            writeVarLong( out, runs.size() );
+
+            // metadata columns
+            for ( final RunMetadata run : runs )
+            {
+                writeString( out, run.getFunctionName() );
+            }
+            for ( final RunMetadata run : runs )
+            {
+                writeVarLong( out, run.getInputSize() );
+            }
+            long previous = 0L;
+            for ( final RunMetadata run : runs )
+            {
+                writeVarLong( out, zigZag( run.getTimestamp() - previous ) );
+                previous = run.getTimestamp();
+            }
+            for ( final RunMetadata run : runs )
+            {
+                writeVarLong( out, run.getJvmFlags().size() );
+                for ( final String flag : run.getJvmFlags() )
+                {
+                    writeString( out, flag );
+                }
+            }
+
+            // size columns
+            for ( final TimeResults result : results )
+            {
+                writeVarLong( out, sampleCount( result ) );
+            }
+            for ( final TimeResults result : results )
+            {
+                writeVarLong( out, encodedBytes( result ) );
+            }
+
+            // sample blocks
+            for ( final TimeResults result : results )
+            {
+                final LongToIntFunction times = samples( result );
+
+                int last = 0;
+                for ( long i = 0L, n = sampleCount( result ); i < n; ++i )
+                {
+                    final int time = times.applyAsInt( i );
+                    writeVarLong( out, zigZag( (long) time - last ) );
+                    last = time;
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the metadata of the runs stored in the specified file.
+     *
+     * @param file written by {@link #write(Path, List, List)}
+     * @return the reader of the runs of the file
+     * @throws NullPointerException     if the file is {@code null}
+     * @throws IllegalArgumentException if the file was not written by this archive
+     * @throws IOException              if the file can not be read
+     */
+    @NonNull
+    public Reader reader(final @NonNull Path file) throws IOException {
+        try ( final CountingInputStream in = new CountingInputStream(
+                new BufferedInputStream( Files.newInputStream( file ), BUFFER_SIZE ) ) )
+        {
+            checkArgument( readInt( in ) == MAGIC, "not a results archive", file );
+            final int version = in.read();
+            checkArgument( version == VERSION, "unknown version of the archive", version );
+
+            final int size = Math.toIntExact( readVarLong( in ) );
+
+            final String[] functionNames = new String[size];
+            for ( int i = 0; i < size; ++i )
+            {
+                functionNames[i] = readString( in );
+            }
+            final long[] inputSizes = new long[size];
+            for ( int i = 0; i < size; ++i )
+            {
+                inputSizes[i] = readVarLong( in );
+            }
+            final long[] timestamps = new long[size];
+            long previous = 0L;
+            for ( int i = 0; i < size; ++i )
+            {
+                previous += unZigZag( readVarLong( in ) );
+                timestamps[i] = previous;
+            }
+            final ImmutableList.Builder<RunMetadata> runs = ImmutableList.builderWithExpectedSize( size );
+            for ( int i = 0; i < size; ++i )
+            {
+                final int flags = Math.toIntExact( readVarLong( in ) );
+                final ImmutableList.Builder<String> jvmFlags = ImmutableList.builderWithExpectedSize( flags );
+                for ( int j = 0; j < flags; ++j )
+                {
+                    jvmFlags.add( readString( in ) );
+                }
+                runs.add( new RunMetadata( functionNames[i], inputSizes[i], jvmFlags.build(), timestamps[i] ) );
+            }
+
+            final long[] samples = new long[size];
+            for ( int i = 0; i < size; ++i )
+            {
+                samples[i] = readVarLong( in );
+            }
+            final long[] offsets = new long[size];
+            long offset = 0L;
+            for ( int i = 0; i < size; ++i )
+            {
+                offsets[i] = offset;
+                offset += readVarLong( in );
+            }
+            for ( int i = 0; i < size; ++i )
+            {
+                offsets[i] += in.getCount(); // the blocks follow the header
+            }
+
+            return new Reader( file, runs.build(), samples, offsets );
+        }
+    }
+
+    /**
+     * Amount of samples of the specified results.
+     *
+     * @param results to count the samples of
+     * @return the amount of samples
+     */
+    private long sampleCount(final TimeResults results) {
+        return results instanceof MappedTimeResults
+                ? ((MappedTimeResults) results).getCount() : results.getTimes().size();
+    }
+
+    /**
+     * Access to the sample at each index of the specified results.
+     *
+     * @param results to read the samples of
+     * @return the function from the index of a sample to the sample
+     */
+    private LongToIntFunction samples(final TimeResults results) {
+        if ( results instanceof MappedTimeResults )
+        {
+            return ((MappedTimeResults) results)::getTime;
+        }
+
+        final IntList times = results.getTimes();
+        return index -> times.getInt( (int) index );
+    }
+
+    /**
+     * Amount of bytes of the samples of the specified results once encoded.
+     *
+     * @param results to encode
+     * @return the encoded bytes
+     */
+    private long encodedBytes(final TimeResults results) {
+        final LongToIntFunction times = samples( results );
+
+        long bytes = 0L;
+        int last = 0;
+        for ( long i = 0L, n = sampleCount( results ); i < n; ++i )
+        {
+            final int time = times.applyAsInt( i );
+            bytes += varLongBytes( zigZag( (long) time - last ) );
+            last = time;
+        }
+        return bytes;
+    }
+
+    // encoding util
+
+    /**
+     * Maps a signed value to an unsigned one, small magnitudes to small values.
+     *
+     * @param value to encode
+     * @return the zig-zag encoded value
+     */
+    private long zigZag(final long value) {
+        return value << 1 ^ value >> 63;
+    }
+
+    /**
+     * Reverts the {@link #zigZag(long)} of a value.
+     *
+     * @param value to decode
+     * @return the signed value
+     */
+    private long unZigZag(final long value) {
+        return value >>> 1 ^ -(value & 1L);
+    }
+
+    /**
+     * Amount of bytes of the specified value once encoded as a variable-length number.
+     *
+     * @param value to encode, as unsigned
+     * @return the encoded bytes
+     */
+    private int varLongBytes(final long value) {
+        return Math.max( 1, (Long.SIZE - Long.numberOfLeadingZeros( value ) + 6) / 7 );
+    }
+
+    /**
+     * Writes the specified value as a variable-length number, 7 bits per byte.
+     *
+     * @param out   to write on
+     * @param value to write, as unsigned
+     * @throws IOException if the stream can not be written
+     */
+    private void writeVarLong(final OutputStream out, long value) throws IOException {
+        while ( (value & ~0x7FL) != 0L )
+        {
+            out.write( (int) (value & 0x7FL) | 0x80 );
+            value >>>= 7;
+        }
+        out.write( (int) value );
+    }
+
+    /**
+     * Reads a variable-length number written by {@link #writeVarLong(OutputStream, long)}.
+     *
+     * @param in to read from
+     * @return the read value
+     * @throws IOException if the stream ends or the number is malformed
+     */
+    private long readVarLong(final InputStream in) throws IOException {
+        long value = 0L;
+        for ( int shift = 0; shift < Long.SIZE; shift += 7 )
+        {
+            final int read = in.read();
+            if ( read < 0 )
+            {
+                throw new EOFException( "truncated results archive" );
+            }
+
+            value |= (long) (read & 0x7F) << shift;
+            if ( (read & 0x80) == 0 )
+            {
+                return value;
+            }
+        }
+        throw new IOException( "malformed number in the results archive" );
+    }
+
+    /**
+     * Writes the specified value as four big-endian bytes.
+     *
+     * @param out   to write on
+     * @param value to write
+     * @throws IOException if the stream can not be written
+     */
+    private void writeInt(final OutputStream out, final int value) throws IOException {
+        out.write( value >>> 24 );
+        out.write( value >>> 16 );
+        out.write( value >>> 8 );
+        out.write( value );
+    }
+
+    /**
+     * Reads four big-endian bytes.
+     *
+     * @param in to read from
+     * @return the read value
+     * @throws IOException if the stream ends
+     */
+    private int readInt(final InputStream in) throws IOException {
+        int value = 0;
+        for ( int i = 0; i < 4; ++i )
+        {
+            final int read = in.read();
+            if ( read < 0 )
+            {
+                throw new EOFException( "truncated results archive" );
+            }
+            value = value << 8 | read;
+        }
+        return value;
+    }
+
+    /**
+     * Writes the specified string as its length and its UTF-8 bytes.
+     *
+     * @param out    to write on
+     * @param string to write
+     * @throws IOException if the stream can not be written
+     */
+    private void writeString(final OutputStream out, final String string) throws IOException {
+        final byte[] bytes = string.getBytes( StandardCharsets.UTF_8 );
+        writeVarLong( out, bytes.length );
+        out.write( bytes );
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(OutputStream, String)}.
+     *
+     * @param in to read from
+     * @return the read string
+     * @throws IOException if the stream ends
+     */
+    private String readString(final InputStream in) throws IOException {
+        final byte[] bytes = new byte[Math.toIntExact( readVarLong( in ) )];
+        ByteStreams.readFully( in, bytes );
+        return new String( bytes, StandardCharsets.UTF_8 );
+    }
+
+    /**
+     * Reads the runs of a file written by {@link #write(Path, List, List)}.
+     *
+     * <p>The metadata is read once, the samples are streamed from the file on demand.
+     *
+     * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+     * @since 1.7
+     */
+    public static final class Reader {
+
+        /**
+         * File of the runs.
+         */
+        private final Path file;
+
+        /**
+         * Metadata of each run.
+         */
+        private final ImmutableList<RunMetadata> runs;
+
+        /**
+         * Amount of samples of each run.
+         */
+        private final long[] samples;
+
+        /**
+         * Offset in the file of the samples of each run.
+         */
+        private final long[] offsets;
+
+        /**
+         * Creates a new {@link Reader}.
+         *
+         * @param file    of the runs
+         * @param runs    metadata of each run
+         * @param samples amount of samples of each run
+         * @param offsets in the file of the samples of each run
+         */
+        private Reader(final Path file, final ImmutableList<RunMetadata> runs,
+                       final long[] samples, final long[] offsets) {
+            this.file = file;
+            this.runs = runs;
+            this.samples = samples;
+            this.offsets = offsets;
+        }
+
+        /**
+         * Metadata of each run, in order of writing.
+         *
+         * @return the immutable list of runs
+         */
+        @NonNull
+        public List<RunMetadata> getRuns() {
+            return runs;
+        }
+
+        /**
+         * Amount of samples of the run at the specified index.
+         *
+         * @param run index of the run
+         * @return the amount of samples
+         * @throws IndexOutOfBoundsException if there is no run at the index
+         */
+        public long getSampleCount(final int run) {
+            checkElementIndex( run, runs.size() );
+            return samples[run];
+        }
+
+        /**
+         * Streams the samples of the run at the specified index to the specified action,
+         * in order of registration.
+         *
+         * @param run    index of the run
+         * @param action to perform with each sample
+         * @throws NullPointerException      if the action is {@code null}
+         * @throws IndexOutOfBoundsException if there is no run at the index
+         * @throws IOException               if the file can not be read
+         */
+        public void forEachSample(final int run, final @NonNull IntConsumer action) throws IOException {
+            checkElementIndex( run, runs.size() );
+
+            try ( final InputStream in = new BufferedInputStream( Files.newInputStream( file ), BUFFER_SIZE ) )
+            {
+                ByteStreams.skipFully( in, offsets[run] );
+
+                long last = 0L;
+                for ( long i = 0L; i < samples[run]; ++i )
+                {
+                    last += unZigZag( readVarLong( in ) );
+                    action.accept( (int) last );
+                }
+            }
+        }
+
+        /**
+         * Reads the samples of the run at the specified index into new {@link TimeResults}.
+         *
+         * <p>The samples are kept in memory, the runs with more samples than fit in
+         * a list are only read by {@link #forEachSample(int, IntConsumer)}.
+         *
+         * @param run index of the run
+         * @return the closed results with the samples of the run
+         * @throws IndexOutOfBoundsException if there is no run at the index
+         * @throws IllegalStateException     if the run has more than {@link Integer#MAX_VALUE} samples
+         * @throws IOException               if the file can not be read
+         */
+        @NonNull
+        public TimeResults readResults(final int run) throws IOException {
+            final long count = getSampleCount( run );
+            checkState( count <= Integer.MAX_VALUE, "too many samples for a list, stream them instead", count );
+
+            final TimeResults results = new ArrayTimeResults( Math.max( 1, (int) count ) );
+            forEachSample( run, results::register );
+            results.close();
+            return results;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import lombok.experimental.UtilityClass;
 
 import java.io.PrintStream;
 import java.util.IntSummaryStatistics;
+import java.util.LongSummaryStatistics;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -16,25 +17,36 @@ import java.util.concurrent.TimeUnit;
 @UtilityClass
 public class ResultsUtils {
 
+    /**
+     * Average wall time of a call, in nanoseconds, under which the CPU time
+     * is within the resolution of the counter and is not compared to it.
+     */
+    private static final long CPU_TIME_RESOLUTION = 1_000L;
+
     /**
      * Utility method to print in a fancy format the specified
      * {@link TimeResults} into the specified {@link PrintStream}.
      *
      * @param results to print in the stream
      * @param stream  to print on the results
+     * @throws NullPointerException if either the results or stream are {@code null}
      */
     public void printResults(final @NonNull TimeResults results, final @NonNull PrintStream stream) {
         final StringBuilder bob = new StringBuilder();
 
         appendResults(results, bob);
 
-        System.out.println(bob);
+        stream.println(bob);
     }
 
     /**
      * Utility method to append in a fancy format the specified
      * {@link TimeResults} into the specified {@link StringBuilder}.
      *
+     * <p>If the results are {@link TaggedTimeResults} the statistics of the
+     * times without tags are appended too, so a few samples inflated by a
+     * garbage collection or a JIT compilation can be told from the rest.
+     *
      * @param results to append in the builder
      * @param bob     to append over the results
      * @throws NullPointerException if either the results or bob are {@code null}
@@ -52,5 +64,87 @@ public class ResultsUtils {
                 Math.round(stats.getAverage()),
                 stats.getMin(),
                 stats.getMax()));
+
+        if (results instanceof TaggedTimeResults) {
+            appendFilteredResults((TaggedTimeResults) results, bob);
+        }
+        if (results instanceof ProfiledTimeResults) {
+            appendProfile((ProfiledTimeResults) results, stats.getSum(), bob);
+        }
+    }
+
+    /**
+     * Appends the allocated bytes and CPU time of the specified {@link ProfiledTimeResults}
+     * into the specified {@link StringBuilder}, next to the wall time of the calls.
+     *
+     * <p>The share of the wall time spent on CPU is capped at {@code 100%}, and
+     * omitted if the average call is shorter than {@link #CPU_TIME_RESOLUTION}.
+     *
+     * @param results  to append in the builder
+     * @param wallTime sum of the times of the calls, in nanoseconds
+     * @param bob      to append over the results
+     */
+    private void appendProfile(final @NonNull ProfiledTimeResults results, final long wallTime,
+                               final @NonNull StringBuilder bob) {
+        final LongSummaryStatistics bytes = results.getAllocatedBytes().longStream()
+                .filter(allocated -> allocated >= 0L)
+                .summaryStatistics();
+        final LongSummaryStatistics cpu = results.getCpuTimes().longStream()
+                .filter(time -> time >= 0L)
+                .summaryStatistics();
+
+        if (bytes.getCount() == 0 || cpu.getCount() == 0) {
+            return;
+        }
+
+        bob.append(String.format("Allocated: %,d bytes (%,d MB), average %,d bytes"
+                        + "\nmin: %,d bytes, max: %,d bytes"
+                        + "\nCPU time: %,d ns (%,d ms), average %,d ns",
+                bytes.getSum(),
+                bytes.getSum() >> 20,
+                Math.round(bytes.getAverage()),
+                bytes.getMin(),
+                bytes.getMax(),
+                cpu.getSum(),
+                TimeUnit.NANOSECONDS.toMillis(cpu.getSum()),
+                Math.round(cpu.getAverage())));
+
+        if (wallTime < CPU_TIME_RESOLUTION * cpu.getCount()) {
+            bob.append(String.format(", below the resolution of the counter%n"));
+        } else {
+            bob.append(String.format(", %.1f%% of the wall time%n", Math.min(100D, 100D * cpu.getSum() / wallTime)));
+        }
+    }
+
+    /**
+     * Appends the warm-up, tags and pauses of the specified {@link TaggedTimeResults} and the
+     * statistics of the times without tags into the specified {@link StringBuilder}.
+     *
+     * @param results to append in the builder
+     * @param bob     to append over the results
+     */
+    private void appendFilteredResults(final @NonNull TaggedTimeResults results, final @NonNull StringBuilder bob) {
+        final IntSummaryStatistics stats = results.getFilteredTimes().intStream().summaryStatistics();
+
+        bob.append(String.format("Warm-up: %,d iterations%n", results.getWarmUpIterations()));
+        bob.append(String.format("Tagged: %,d GC, %,d JIT%n",
+                results.getTaggedCount(SampleTag.GC),
+                results.getTaggedCount(SampleTag.JIT)));
+        bob.append(String.format("GC pauses: %,d (%,d ms)%n", results.getPauses(), results.getPauseMillis()));
+
+        if (stats.getCount() == 0) {
+            bob.append(String.format("Filtered: every time is tagged%n"));
+            return;
+        }
+
+        bob.append(String.format("Filtered: %,d times"
+                        + "\nTotal time: %,d ns (%,d ms), average %,d ns"
+                        + "\nmin: %,d ns, max: %,d ns%n",
+                stats.getCount(),
+                stats.getSum(),
+                TimeUnit.NANOSECONDS.toMillis(stats.getSum()),
+                Math.round(stats.getAverage()),
+                stats.getMin(),
+                stats.getMax()));
     }
 }
@@ -0,0 +1,132 @@
+package com.github.jiizuz.algorithmanalysis.benchmark;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Describes a single run of a <tt>Benchmark</tt>: what was measured, with
+ * which input and on which JVM, so the {@link TimeResults} of the run can be
+ * stored and compared later with the {@link ResultsArchive}.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @apiNote This class is immutable and Thread-Safe.
+ * @see com.github.jiizuz.algorithmanalysis.benchmark.ResultsArchive
+ * @since 1.7
+ */
+@EqualsAndHashCode
+public final class RunMetadata {
+
+    /**
+     * Name of the measured function.
+     */
+    private final String functionName;
+
+    /**
+     * Size of the input of the function.
+     */
+    private final long inputSize;
+
+    /**
+     * Arguments of the JVM that ran the benchmark.
+     */
+    private final ImmutableList<String> jvmFlags;
+
+    /**
+     * Milliseconds since the epoch when the run started.
+     */
+    private final long timestamp;
+
+    /**
+     * Creates a new {@link RunMetadata}.
+     *
+     * @param functionName name of the measured function
+     * @param inputSize    size of the input of the function
+     * @param jvmFlags     arguments of the JVM that ran the benchmark
+     * @param timestamp    milliseconds since the epoch when the run started
+     * @throws NullPointerException     if either the function name or JVM flags are {@code null}
+     * @throws IllegalArgumentException if either the input size or timestamp are negative
+     */
+    public RunMetadata(final @NonNull String functionName, final long inputSize,
+                       final @NonNull List<String> jvmFlags, final long timestamp) {
+        checkArgument( inputSize >= 0L, "negative input size", inputSize );
+        checkArgument( timestamp >= 0L, "negative timestamp", timestamp );
+
+        this.functionName = functionName;
+        this.inputSize = inputSize;
+        this.jvmFlags = ImmutableList.copyOf( jvmFlags );
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Creates a new {@link RunMetadata} of a run that starts now, on this JVM.
+     *
+     * @param functionName name of the measured function
+     * @param inputSize    size of the input of the function
+     * @return the new metadata
+     * @throws NullPointerException     if the function name is {@code null}
+     * @throws IllegalArgumentException if the input size is negative
+     */
+    @NonNull
+    public static RunMetadata of(final @NonNull String functionName, final long inputSize) {
+        return new RunMetadata( functionName, inputSize,
+                ManagementFactory.getRuntimeMXBean().getInputArguments(), System.currentTimeMillis() );
+    }
+
+    /**
+     * Name of the measured function.
+     *
+     * @return the function name
+     */
+    @NonNull
+    public String getFunctionName() {
+        return functionName;
+    }
+
+    /**
+     * Size of the input of the function.
+     *
+     * @return the input size
+     */
+    public long getInputSize() {
+        return inputSize;
+    }
+
+    /**
+     * Arguments of the JVM that ran the benchmark.
+     *
+     * @return the immutable list of JVM flags
+     */
+    @NonNull
+    public List<String> getJvmFlags() {
+        return jvmFlags;
+    }
+
+    /**
+     * Milliseconds since the epoch when the run started.
+     *
+     * @return the timestamp
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper( this )
+                .add( "functionName", functionName )
+                .add( "inputSize", inputSize )
+                .add( "jvmFlags", jvmFlags )
+                .add( "timestamp", timestamp )
+                .toString();
+    }
+}
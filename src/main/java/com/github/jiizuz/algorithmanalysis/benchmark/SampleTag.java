@@ -0,0 +1,40 @@
+package com.github.jiizuz.algorithmanalysis.benchmark;
+
+/**
+ * Event of the JVM that may have inflated a time registered in a
+ * {@link TaggedTimeResults}, detected by a {@link PauseMonitor}.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @since 1.7
+ */
+public enum SampleTag {
+
+    /**
+     * A garbage collection ran during the sample.
+     */
+    GC,
+
+    /**
+     * The JIT compiler was compiling during the sample.
+     */
+    JIT;
+
+    /**
+     * Bit of this tag in the tags of a sample.
+     *
+     * @return the mask of this tag
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Whether the specified tags of a sample contain this tag.
+     *
+     * @param tags of the sample
+     * @return <tt>true</tt> if this tag is in the tags
+     */
+    public boolean isIn(final int tags) {
+        return (tags & mask()) != 0;
+    }
+}
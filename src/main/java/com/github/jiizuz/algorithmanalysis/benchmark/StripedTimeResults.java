@@ -0,0 +1,228 @@
+package com.github.jiizuz.algorithmanalysis.benchmark;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntLists;
+import lombok.NonNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * {@link TimeResults} implementation that allows to register times from
+ * several threads at once, without any lock.
+ *
+ * <p>Each thread registers its times in its own <i>stripe</i>, a buffer that
+ * only that thread writes, so {@link #register(int)} is a {@link ThreadLocal}
+ * lookup and an array store. The stripes are merged lazily on
+ * {@link #getTimes()}, in the order the threads registered their first time;
+ * once closed, the merged times are kept.
+ *
+ * <p>A stripe publishes each time with an ordered write of its size, so the
+ * merge sees every time registered before it started, from every thread.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @implSpec this class is thread-safe
+ * @see com.github.jiizuz.algorithmanalysis.benchmark.TimeResults
+ * @since 1.7
+ */
+public class StripedTimeResults implements TimeResults {
+
+    /**
+     * Initial capacity of the stripe of each thread.
+     */
+    private final int stripeCapacity;
+
+    /**
+     * Every stripe created since the last dump.
+     */
+    private final Queue<Stripe> stripes = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Stripe of each thread, replaced on each dump.
+     */
+    private volatile ThreadLocal<Stripe> local = newLocal();
+
+    /**
+     * Current {@link AutoCloseable} status.
+     */
+    private volatile boolean closed = false;
+
+    /**
+     * Times merged after the results were closed, {@code null} if not merged yet.
+     */
+    private volatile IntList merged = null;
+
+    /**
+     * Creates a new {@link StripedTimeResults}.
+     *
+     * @param stripeCapacity initial capacity of the stripe of each thread
+     * @throws IllegalArgumentException if the capacity is negative or zero
+     */
+    public StripedTimeResults(final int stripeCapacity) {
+        checkArgument( stripeCapacity > 0, "stripe capacity <= 0", stripeCapacity );
+        this.stripeCapacity = stripeCapacity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IllegalStateException {
+        checkIsNotClosed();
+
+        closed = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void register(final int time) throws IllegalStateException {
+        checkArgument( time >= 0, "negative times are not allowed", time );
+        checkIsNotClosed();
+
+        local.get().add( time );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The times of each thread are in the order they were registered.
+     */
+    @NonNull
+    public IntList getTimes() {
+        if ( ! closed )
+        {
+            return merge();
+        }
+
+        IntList times = merged;
+        if ( Objects.isNull( times ) )
+        {
+            merged = times = merge();
+        }
+        return times;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The times being registered at the same time may be lost.
+     */
+    @Override
+    public void dump() {
+        local = newLocal();
+        stripes.clear();
+        merged = null;
+    }
+
+    /**
+     * Merges the times of every stripe.
+     *
+     * @return the unmodifiable merged times
+     */
+    @NonNull
+    private IntList merge() {
+        if ( stripes.isEmpty() )
+        {
+            return IntLists.emptyList();
+        }
+
+        final IntArrayList times = new IntArrayList();
+        for ( final Stripe stripe : stripes )
+        {
+            stripe.appendTo( times );
+        }
+        return IntLists.unmodifiable( times );
+    }
+
+    /**
+     * Creates the {@link ThreadLocal} that creates and publishes the stripe of each thread.
+     *
+     * @return the new thread local
+     */
+    @NonNull
+    private ThreadLocal<Stripe> newLocal() {
+        return ThreadLocal.withInitial( () -> {
+            final Stripe stripe = new Stripe( stripeCapacity );
+            stripes.add( stripe );
+            return stripe;
+        } );
+    }
+
+    /**
+     * Checks this {@link TimeResults} are not closed yet.
+     *
+     * @throws IllegalStateException if these results are already closed
+     */
+    private void checkIsNotClosed() throws IllegalStateException {
+        checkState( ! closed, "the results are already closed" );
+    }
+
+    /**
+     * Buffer of the times of a single thread.
+     *
+     * <p>Only the owner thread writes it, any thread may read it.
+     *
+     * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+     * @since 1.7
+     */
+    private static final class Stripe {
+
+        /**
+         * Amount of times published to the readers.
+         */
+        private final AtomicInteger size = new AtomicInteger();
+
+        /**
+         * Registered times, replaced by a bigger copy when full.
+         */
+        private volatile int[] times;
+
+        /**
+         * Creates a new empty {@link Stripe}.
+         *
+         * @param capacity initial capacity of the stripe
+         */
+        private Stripe(final int capacity) {
+            times = new int[capacity];
+        }
+
+        /**
+         * Adds the specified time, called only by the owner thread.
+         *
+         * @param time to add
+         */
+        private void add(final int time) {
+            final int index = size.get();
+
+            int[] array = times;
+            if ( index == array.length )
+            {
+                array = Arrays.copyOf( array, array.length << 1 );
+                times = array;
+            }
+            array[index] = time;
+
+            size.lazySet( index + 1 ); // publishes the time
+        }
+
+        /**
+         * Appends the published times to the specified list.
+         *
+         * @param list to append the times to
+         */
+        private void appendTo(final IntArrayList list) {
+            // the size first, any later array holds those times
+            final int published = size.get();
+            list.addElements( list.size(), times, 0, published );
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.github.jiizuz.algorithmanalysis.benchmark;
+
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import it.unimi.dsi.fastutil.bytes.ByteList;
+import it.unimi.dsi.fastutil.bytes.ByteLists;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntLists;
+import lombok.NonNull;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * {@link TimeResults} that tags each time with the {@link SampleTag}s of the
+ * events of the JVM during its sample, so the times inflated by a garbage
+ * collection or a JIT compilation can be told apart from the rest.
+ *
+ * <p>The times are registered in a delegate {@link TimeResults}, the tags in
+ * a byte per time. {@link #getTimes()} returns every time, and
+ * {@link #getFilteredTimes()} only the times without tags.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @implSpec this class is not thread-safe
+ * @see com.github.jiizuz.algorithmanalysis.benchmark.PauseMonitor
+ * @since 1.7
+ */
+public class TaggedTimeResults implements TimeResults {
+
+    /**
+     * Results to register the times in.
+     */
+    private final TimeResults delegate;
+
+    /**
+     * Tags of each registered time.
+     */
+    private final ByteList tags;
+
+    /**
+     * Calls of the warm-up that preceded the times.
+     */
+    private int warmUpIterations = 0;
+
+    /**
+     * Garbage collections notified while the times were taken.
+     */
+    private long pauses = 0L;
+
+    /**
+     * Milliseconds of the garbage collections notified while the times were taken.
+     */
+    private long pauseMillis = 0L;
+
+    /**
+     * Current {@link AutoCloseable} status.
+     */
+    private boolean closed = false;
+
+    /**
+     * Creates a new {@link TaggedTimeResults}.
+     *
+     * @param delegate results to register the times in, not closed and empty
+     * @throws NullPointerException     if the delegate is {@code null}
+     * @throws IllegalArgumentException if the delegate already has times
+     */
+    public TaggedTimeResults(final @NonNull TimeResults delegate) {
+        this( delegate, ByteArrayList.DEFAULT_INITIAL_CAPACITY );
+    }
+
+    /**
+     * Creates a new {@link TaggedTimeResults} with room for the specified amount of times.
+     *
+     * @param delegate results to register the times in, not closed and empty
+     * @param capacity expected amount of times
+     * @throws NullPointerException     if the delegate is {@code null}
+     * @throws IllegalArgumentException if the delegate already has times or the capacity is negative
+     */
+    public TaggedTimeResults(final @NonNull TimeResults delegate, final int capacity) {
+        checkArgument( delegate.getTimes().isEmpty(), "the delegate already has times" );
+        checkArgument( capacity >= 0, "negative capacity", capacity );
+        this.delegate = delegate;
+        this.tags = new ByteArrayList( capacity );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IllegalStateException {
+        checkIsNotClosed();
+
+        delegate.close();
+        closed = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The time is registered without tags.
+     */
+    @Override
+    public void register(final int time) throws IllegalStateException {
+        register( time, 0 );
+    }
+
+    /**
+     * Tracks the specified <tt>Time</tt> with the specified tags in the results.
+     *
+     * @param time to register in the results
+     * @param tags mask of the {@link SampleTag}s of the time
+     * @throws IllegalArgumentException if the time is negative
+     * @throws IllegalStateException    if these results are already closed
+     */
+    public void register(final int time, final int tags) throws IllegalStateException {
+        checkIsNotClosed();
+
+        delegate.register( time );
+        this.tags.add( (byte) tags );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public IntList getTimes() {
+        return delegate.getTimes();
+    }
+
+    /**
+     * Returns the mask of the {@link SampleTag}s of each time, in order of registration.
+     *
+     * @return the unmodifiable tags of the times
+     */
+    @NonNull
+    public ByteList getTags() {
+        return ByteLists.unmodifiable( tags );
+    }
+
+    /**
+     * Whether the time at the specified index has the specified tag.
+     *
+     * @param index of the time
+     * @param tag   to check
+     * @return <tt>true</tt> if the time has the tag
+     * @throws NullPointerException      if the tag is {@code null}
+     * @throws IndexOutOfBoundsException if there is no time at the index
+     */
+    public boolean hasTag(final int index, final @NonNull SampleTag tag) {
+        checkElementIndex( index, tags.size() );
+        return tag.isIn( tags.getByte( index ) );
+    }
+
+    /**
+     * Amount of times with the specified tag.
+     *
+     * <p>Time complexity - O(n)
+     *
+     * @param tag to count
+     * @return the amount of times with the tag
+     * @throws NullPointerException if the tag is {@code null}
+     */
+    public int getTaggedCount(final @NonNull SampleTag tag) {
+        int count = 0;
+        for ( int i = 0, n = tags.size(); i < n; ++i )
+        {
+            if ( tag.isIn( tags.getByte( i ) ) )
+            {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the times without any tag, in order of registration.
+     *
+     * <p>Time complexity - O(n)
+     *
+     * @return the unmodifiable times without tags
+     */
+    @NonNull
+    public IntList getFilteredTimes() {
+        final IntList times = delegate.getTimes();
+
+        final IntArrayList filtered = new IntArrayList( times.size() );
+        for ( int i = 0, n = times.size(); i < n; ++i )
+        {
+            if ( tags.getByte( i ) == 0 )
+            {
+                filtered.add( times.getInt( i ) );
+            }
+        }
+        return IntLists.unmodifiable( filtered );
+    }
+
+    /**
+     * Calls of the warm-up that preceded the times, {@code 0} if it was skipped.
+     *
+     * @return the amount of warm-up calls
+     */
+    public int getWarmUpIterations() {
+        return warmUpIterations;
+    }
+
+    /**
+     * Sets the calls of the warm-up that preceded the times.
+     *
+     * @param warmUpIterations amount of warm-up calls
+     */
+    void setWarmUpIterations(final int warmUpIterations) {
+        this.warmUpIterations = warmUpIterations;
+    }
+
+    /**
+     * Garbage collections notified while the times were taken, as counted by the
+     * {@link PauseMonitor}. The collections of the last times may be missing.
+     *
+     * @return the amount of pauses
+     */
+    public long getPauses() {
+        return pauses;
+    }
+
+    /**
+     * Milliseconds of the garbage collections notified while the times were taken.
+     *
+     * @return the total duration of the pauses
+     * @see #getPauses()
+     */
+    public long getPauseMillis() {
+        return pauseMillis;
+    }
+
+    /**
+     * Sets the garbage collections notified while the times were taken.
+     *
+     * @param pauses      amount of pauses
+     * @param pauseMillis milliseconds of the pauses
+     */
+    void setPauses(final long pauses, final long pauseMillis) {
+        this.pauses = pauses;
+        this.pauseMillis = pauseMillis;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void dump() {
+        delegate.dump();
+        tags.clear();
+    }
+
+    /**
+     * Checks this {@link TimeResults} are not closed yet.
+     *
+     * @throws IllegalStateException if these results are already closed
+     */
+    private void checkIsNotClosed() throws IllegalStateException {
+        checkState( ! closed, "the results are already closed" );
+    }
+}
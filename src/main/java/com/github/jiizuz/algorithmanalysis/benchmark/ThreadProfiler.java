@@ -0,0 +1,152 @@
+package com.github.jiizuz.algorithmanalysis.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Measures the bytes allocated and the CPU time of the current thread
+ * between {@link #begin()} and {@link #end()}, to profile each call of a
+ * <tt>Benchmark</tt> next to its wall time.
+ *
+ * <p>The counters are read from the {@link com.sun.management.ThreadMXBean}
+ * of the JVM. Reading them allocates and consumes CPU too, so the cost of an
+ * empty measurement, with the two {@link System#nanoTime()} of the wall time
+ * a benchmark takes inside it, is measured when the profiler is created and
+ * subtracted from every measurement. The CPU time of calls shorter than a
+ * microsecond is within the noise of the counter.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @implSpec this class is not thread-safe, it measures the thread that created it
+ * @see com.github.jiizuz.algorithmanalysis.benchmark.ProfiledTimeResults
+ * @since 1.7
+ */
+public class ThreadProfiler {
+
+    /**
+     * Empty measurements to calibrate the cost of a measurement, the median is kept.
+     */
+    private static final int CALIBRATIONS = 64;
+
+    /**
+     * Bean of the threads of the JVM.
+     */
+    private final com.sun.management.ThreadMXBean bean;
+
+    /**
+     * Identifier of the measured thread.
+     */
+    private final long threadId = Thread.currentThread().getId();
+
+    /**
+     * Bytes allocated by an empty measurement.
+     */
+    private long bytesOverhead = 0L;
+
+    /**
+     * CPU nanoseconds of an empty measurement.
+     */
+    private long cpuOverhead = 0L;
+
+    /**
+     * Allocated bytes of the thread at the last begin.
+     */
+    private long startBytes;
+
+    /**
+     * CPU time of the thread at the last begin.
+     */
+    private long startCpu;
+
+    /**
+     * Bytes allocated in the last measurement.
+     */
+    private long allocatedBytes;
+
+    /**
+     * CPU nanoseconds of the last measurement.
+     */
+    private long cpuNanos;
+
+    /**
+     * Creates a new {@link ThreadProfiler} of the current thread.
+     *
+     * @throws IllegalStateException if the JVM does not measure either the
+     *                               allocations or the CPU time of the threads
+     * @see #isSupported()
+     */
+    public ThreadProfiler() {
+        checkState( isSupported(), "the JVM does not measure the allocations and CPU time of the threads" );
+        bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        final long[] bytes = new long[CALIBRATIONS];
+        final long[] cpu = new long[CALIBRATIONS];
+        for ( int i = 0; i < CALIBRATIONS; ++i )
+        {
+            begin();
+            System.nanoTime(); // the start and end of the wall time of a sample
+            System.nanoTime();
+            end();
+            bytes[i] = allocatedBytes;
+            cpu[i] = cpuNanos;
+        }
+        Arrays.sort( bytes );
+        Arrays.sort( cpu );
+        bytesOverhead = bytes[CALIBRATIONS >>> 1];
+        cpuOverhead = cpu[CALIBRATIONS >>> 1];
+    }
+
+    /**
+     * Whether the JVM measures the allocations and CPU time of the threads.
+     *
+     * @return <tt>true</tt> if a profiler may be created
+     */
+    public static boolean isSupported() {
+        if ( ! (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean) )
+        {
+            return false;
+        }
+
+        final com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()
+                && bean.isCurrentThreadCpuTimeSupported() && bean.isThreadCpuTimeEnabled();
+    }
+
+    /**
+     * Begins a measurement.
+     */
+    public void begin() {
+        startBytes = bean.getThreadAllocatedBytes( threadId );
+        startCpu = bean.getCurrentThreadCpuTime();
+    }
+
+    /**
+     * Ends the measurement started by the last {@link #begin()}.
+     */
+    public void end() {
+        final long cpu = bean.getCurrentThreadCpuTime();
+        final long bytes = bean.getThreadAllocatedBytes( threadId );
+
+        cpuNanos = Math.max( 0L, cpu - startCpu - cpuOverhead );
+        allocatedBytes = Math.max( 0L, bytes - startBytes - bytesOverhead );
+    }
+
+    /**
+     * Bytes allocated by the thread in the last measurement.
+     *
+     * @return the allocated bytes
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * CPU nanoseconds of the thread in the last measurement.
+     *
+     * @return the CPU time
+     */
+    public long getCpuNanos() {
+        return cpuNanos;
+    }
+}
@@ -0,0 +1,369 @@
+package com.github.jiizuz.algorithmanalysis.benchmark;
+
+import com.google.common.base.MoreObjects;
+import it.unimi.dsi.fastutil.ints.IntList;
+import lombok.NonNull;
+
+import java.util.Random;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Mergeable summary of the times of a <tt>Benchmark</tt> in a fixed amount of
+ * memory, regardless of the amount of times recorded.
+ *
+ * <p>The times are counted in a log-linear histogram: each power of two is
+ * split in {@code 2^SUB_BUCKET_BITS} buckets of the same width, so a time is
+ * kept with a relative error below {@code 1 / 2^SUB_BUCKET_BITS} (0.8%). The
+ * whole range of an {@code int} takes a few thousand buckets, and two
+ * summaries are merged by adding their buckets.
+ *
+ * <p>The times are recorded one by one, so billions of them may be streamed
+ * from a {@link MappedTimeResults} or a {@link ResultsArchive} without
+ * loading them in an {@link IntList}.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @implSpec this class is not thread-safe
+ * @see com.github.jiizuz.algorithmanalysis.benchmark.RegressionDetector
+ * @since 1.7
+ */
+public class TimeSummary {
+
+    /**
+     * Bits of the buckets of each power of two.
+     */
+    private static final int SUB_BUCKET_BITS = 7;
+
+    /**
+     * Amount of buckets of each power of two.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Amount of buckets to cover every non-negative {@code int}.
+     */
+    private static final int BUCKETS = (Integer.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    /**
+     * Under this mean a resampled count is drawn from a Poisson distribution,
+     * over it from its normal approximation.
+     */
+    private static final long POISSON_LIMIT = 32L;
+
+    /**
+     * Amount of times in each bucket.
+     */
+    private final long[] counts = new long[BUCKETS];
+
+    /**
+     * Amount of times recorded.
+     */
+    private long count = 0L;
+
+    /**
+     * Minimum time recorded.
+     */
+    private int min = Integer.MAX_VALUE;
+
+    /**
+     * Maximum time recorded.
+     */
+    private int max = 0;
+
+    /**
+     * Sum of the times recorded.
+     */
+    private long sum = 0L;
+
+    /**
+     * Creates a new {@link TimeSummary} of the times of the specified {@link TimeResults}.
+     *
+     * @param results to summarize
+     * @return the new summary
+     * @throws NullPointerException if the results are {@code null}
+     */
+    @NonNull
+    public static TimeSummary of(final @NonNull TimeResults results) {
+        final TimeSummary summary = new TimeSummary();
+        summary.recordAll( results );
+        return summary;
+    }
+
+    /**
+     * Records the specified time.
+     *
+     * @param time to record, in nanoseconds
+     * @throws IllegalArgumentException if the time is negative
+     */
+    public void record(final int time) {
+        checkArgument( time >= 0, "negative times are not allowed", time );
+
+        ++counts[bucketOf( time )];
+        ++count;
+        sum += time;
+        min = Math.min( min, time );
+        max = Math.max( max, time );
+    }
+
+    /**
+     * Records every time of the specified {@link TimeResults}.
+     *
+     * <p>The times of a {@link MappedTimeResults} are read one by one from its
+     * file, so they may be more than fit in a list.
+     *
+     * @param results to record the times of
+     * @throws NullPointerException if the results are {@code null}
+     */
+    public void recordAll(final @NonNull TimeResults results) {
+        if ( results instanceof MappedTimeResults )
+        {
+            final MappedTimeResults mapped = (MappedTimeResults) results;
+            for ( long i = 0L, n = mapped.getCount(); i < n; ++i )
+            {
+                record( mapped.getTime( i ) );
+            }
+            return;
+        }
+
+        final IntList times = results.getTimes();
+        for ( int i = 0, n = times.size(); i < n; ++i )
+        {
+            record( times.getInt( i ) );
+        }
+    }
+
+    /**
+     * Adds the times of the specified summary to this one.
+     *
+     * @param other summary to merge into this one
+     * @throws NullPointerException if the other summary is {@code null}
+     */
+    public void merge(final @NonNull TimeSummary other) {
+        for ( int i = 0; i < BUCKETS; ++i )
+        {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        min = Math.min( min, other.min );
+        max = Math.max( max, other.max );
+    }
+
+    /**
+     * Amount of times recorded.
+     *
+     * @return the count of times
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Minimum time recorded.
+     *
+     * @return the minimum time
+     * @throws IllegalStateException if no time was recorded
+     */
+    public int getMin() {
+        checkIsNotEmpty();
+        return min;
+    }
+
+    /**
+     * Maximum time recorded.
+     *
+     * @return the maximum time
+     * @throws IllegalStateException if no time was recorded
+     */
+    public int getMax() {
+        checkIsNotEmpty();
+        return max;
+    }
+
+    /**
+     * Exact average of the times recorded.
+     *
+     * @return the average time
+     * @throws IllegalStateException if no time was recorded
+     */
+    public double getAverage() {
+        checkIsNotEmpty();
+        return (double) sum / count;
+    }
+
+    /**
+     * Time at the specified quantile, within the precision of the buckets.
+     *
+     * <p>Time complexity - O(b), where b is the amount of buckets.
+     *
+     * @param quantile between 0 and 1, {@code 0.5} for the median
+     * @return the time at the quantile
+     * @throws IllegalArgumentException if the quantile is not between 0 and 1
+     * @throws IllegalStateException    if no time was recorded
+     */
+    public int getQuantile(final double quantile) {
+        checkArgument( quantile >= 0.0 && quantile <= 1.0, "quantile out of [0, 1]", quantile );
+        checkIsNotEmpty();
+
+        return quantileOf( counts, count, quantile );
+    }
+
+    /**
+     * Time at the specified quantile of a bootstrap resample of the recorded times.
+     *
+     * <p>Each bucket is resampled with a Poisson weight of its count, as a
+     * resample with replacement of every time would do, but without visiting
+     * the times.
+     *
+     * <p>Time complexity - O(b), where b is the amount of buckets.
+     *
+     * @param quantile between 0 and 1
+     * @param random   to draw the weights with
+     * @param weights  scratch array of {@link #getBucketCount()} elements
+     * @return the time at the quantile of the resample
+     */
+    int resampleQuantile(final double quantile, final Random random, final long[] weights) {
+        long total = 0L;
+        for ( int i = 0; i < BUCKETS; ++i )
+        {
+            final long weight = counts[i] == 0L ? 0L : poisson( counts[i], random );
+            weights[i] = weight;
+            total += weight;
+        }
+
+        return total == 0L ? getQuantile( quantile ) : quantileOf( weights, total, quantile );
+    }
+
+    /**
+     * Amount of buckets of every summary.
+     *
+     * @return the amount of buckets
+     */
+    static int getBucketCount() {
+        return BUCKETS;
+    }
+
+    /**
+     * Time at the specified quantile of the specified bucket counts.
+     *
+     * @param weights  of each bucket
+     * @param total    sum of the weights
+     * @param quantile between 0 and 1
+     * @return the time at the quantile
+     */
+    private int quantileOf(final long[] weights, final long total, final double quantile) {
+        final long rank = Math.max( 1L, (long) Math.ceil( quantile * total ) );
+
+        long seen = 0L;
+        for ( int i = 0; i < BUCKETS; ++i )
+        {
+            seen += weights[i];
+            if ( seen >= rank )
+            {
+                // middle of the bucket, never out of the recorded times
+                final long middle = ((long) lowerBoundOf( i ) + upperBoundOf( i )) >>> 1;
+                return (int) Math.max( min, Math.min( max, middle ) );
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Draws a count of a Poisson distribution with the specified mean.
+     *
+     * @param mean   of the distribution
+     * @param random to draw with
+     * @return the drawn count
+     */
+    private static long poisson(final long mean, final Random random) {
+        if ( mean >= POISSON_LIMIT )
+        {
+            return Math.max( 0L, Math.round( mean + Math.sqrt( mean ) * random.nextGaussian() ) );
+        }
+
+        // Knuth, multiplies uniforms until under e^-mean
+        final double limit = Math.exp( -mean );
+        long drawn = 0L;
+        for ( double product = random.nextDouble(); product > limit; product *= random.nextDouble() )
+        {
+            ++drawn;
+        }
+        return drawn;
+    }
+
+    /**
+     * Index of the bucket of the specified time.
+     *
+     * @param time non-negative
+     * @return the index of the bucket
+     */
+    private static int bucketOf(final int time) {
+        if ( time < SUB_BUCKETS )
+        {
+            return time;
+        }
+
+        final int shift = Integer.SIZE - 1 - Integer.numberOfLeadingZeros( time ) - SUB_BUCKET_BITS;
+        // mantissa in [SUB_BUCKETS, 2 * SUB_BUCKETS)
+        return (shift + 1 << SUB_BUCKET_BITS) + (time >>> shift) - SUB_BUCKETS;
+    }
+
+    /**
+     * Lowest time of the specified bucket.
+     *
+     * @param bucket index of the bucket
+     * @return the lowest time of the bucket
+     */
+    private static int lowerBoundOf(final int bucket) {
+        final int group = bucket >>> SUB_BUCKET_BITS;
+        if ( group == 0 )
+        {
+            return bucket;
+        }
+        return ((bucket & SUB_BUCKETS - 1) + SUB_BUCKETS) << group - 1;
+    }
+
+    /**
+     * Highest time of the specified bucket.
+     *
+     * @param bucket index of the bucket
+     * @return the highest time of the bucket
+     */
+    private static int upperBoundOf(final int bucket) {
+        final int group = bucket >>> SUB_BUCKET_BITS;
+        if ( group == 0 )
+        {
+            return bucket;
+        }
+        return (int) ((((long) (bucket & SUB_BUCKETS - 1) + SUB_BUCKETS + 1) << group - 1) - 1L);
+    }
+
+    /**
+     * Checks at least a time was recorded.
+     *
+     * @throws IllegalStateException if no time was recorded
+     */
+    private void checkIsNotEmpty() throws IllegalStateException {
+        checkState( count > 0L, "no time was recorded" );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        if ( count == 0L )
+        {
+            return MoreObjects.toStringHelper( this ).add( "count", 0L ).toString();
+        }
+
+        return MoreObjects.toStringHelper( this )
+                .add( "count", count )
+                .add( "min", min )
+                .add( "median", getQuantile( 0.5 ) )
+                .add( "p99", getQuantile( 0.99 ) )
+                .add( "max", max )
+                .toString();
+    }
+}
@@ -0,0 +1,205 @@
+package com.github.jiizuz.algorithmanalysis.benchmark;
+
+import com.google.common.base.MoreObjects;
+import lombok.Builder;
+import lombok.NonNull;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Warm-up phase of a <tt>Benchmark</tt> that stops once the function
+ * reached its steady state, instead of after a fixed amount of executions.
+ *
+ * <p>The warm-up times the function in windows of {@link #windowSize}
+ * calls. A window is <i>stable</i> when its median is within
+ * {@link #tolerance} of the median of the previous window and the JIT
+ * compiler did not compile during it. The warm-up stops after
+ * {@link #stableWindows} stable windows in a row, once at least
+ * {@link #minIterations} calls were made so the hottest methods had the
+ * chance to be compiled by the last tier, or when its budget is spent.
+ *
+ * @author <a href="mailto:masterchack92@hotmail.com">Jiizuz</a>
+ * @apiNote This class is immutable and Thread-Safe.
+ * @see com.github.jiizuz.algorithmanalysis.benchmark.QuietBenchmark
+ * @since 1.7
+ */
+@Builder
+public class WarmUp {
+
+    /**
+     * Default calls of each window.
+     */
+    private static final int WINDOW_SIZE = 100;
+
+    /**
+     * Default relative change of the median between stable windows, 5%.
+     */
+    private static final double TOLERANCE = 0.05;
+
+    /**
+     * Default stable windows in a row to reach the steady state.
+     */
+    private static final int STABLE_WINDOWS = 5;
+
+    /**
+     * Default minimum calls, around the invocations to compile a method with C2.
+     */
+    private static final int MIN_ITERATIONS = 5_000;
+
+    /**
+     * Default budget of the warm-up, 5 seconds.
+     */
+    private static final long MAX_NANOS = 5_000_000_000L;
+
+    /**
+     * Calls of each window.
+     *
+     * @see #WINDOW_SIZE
+     */
+    @Builder.Default
+    private final int windowSize = WINDOW_SIZE;
+
+    /**
+     * Relative change of the median between stable windows.
+     *
+     * @see #TOLERANCE
+     */
+    @Builder.Default
+    private final double tolerance = TOLERANCE;
+
+    /**
+     * Stable windows in a row to reach the steady state.
+     *
+     * @see #STABLE_WINDOWS
+     */
+    @Builder.Default
+    private final int stableWindows = STABLE_WINDOWS;
+
+    /**
+     * Minimum calls of the warm-up.
+     *
+     * @see #MIN_ITERATIONS
+     */
+    @Builder.Default
+    private final int minIterations = MIN_ITERATIONS;
+
+    /**
+     * Nanoseconds after which the warm-up stops, steady or not.
+     *
+     * @see #MAX_NANOS
+     */
+    @Builder.Default
+    private final long maxNanos = MAX_NANOS;
+
+    /**
+     * Creates a new {@link WarmUp}.
+     *
+     * @param windowSize    calls of each window
+     * @param tolerance     relative change of the median between stable windows
+     * @param stableWindows stable windows in a row to reach the steady state
+     * @param minIterations minimum calls of the warm-up
+     * @param maxNanos      nanoseconds after which the warm-up stops
+     * @throws IllegalArgumentException if the window size or stable windows are negative or zero,
+     *                                  or the tolerance, minimum calls or budget are negative
+     */
+    public WarmUp(final int windowSize, final double tolerance, final int stableWindows,
+                  final int minIterations, final long maxNanos) {
+        checkArgument( windowSize > 0, "window size <= 0", windowSize );
+        checkArgument( tolerance >= 0.0, "negative tolerance", tolerance );
+        checkArgument( stableWindows > 0, "stable windows <= 0", stableWindows );
+        checkArgument( minIterations >= 0, "negative min iterations", minIterations );
+        checkArgument( maxNanos >= 0L, "negative budget", maxNanos );
+
+        this.windowSize = windowSize;
+        this.tolerance = tolerance;
+        this.stableWindows = stableWindows;
+        this.minIterations = minIterations;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Warms up the specified {@link Function} until it reaches its steady state.
+     *
+     * @param <I>           input of the function
+     * @param <O>           output of the function
+     * @param function      to warm up
+     * @param iSupplier     to retrieve the input of the function
+     * @param maxIterations maximum calls of the warm-up
+     * @return the amount of calls the warm-up took
+     * @throws NullPointerException if either the function or supplier are {@code null}
+     */
+    public <I, O> int run(final @NonNull Function<I, O> function, final @NonNull Supplier<I> iSupplier,
+                          final int maxIterations) {
+        final long deadline = System.nanoTime() + Math.min( maxNanos, Long.MAX_VALUE >> 1 );
+
+        final long[] window = new long[windowSize];
+        long previousMedian = -1L;
+        int stable = 0;
+
+        int iterations = 0;
+        try ( final PauseMonitor monitor = new PauseMonitor() )
+        {
+            while ( iterations < maxIterations && System.nanoTime() - deadline < 0L )
+            {
+                final int calls = Math.min( windowSize, maxIterations - iterations );
+                for ( int i = 0; i < calls; ++i )
+                {
+                    final I input = iSupplier.get();
+                    final long start = System.nanoTime();
+                    function.apply( input ); // ignore output
+                    window[i] = System.nanoTime() - start;
+                }
+                iterations += calls;
+
+                final boolean compiled = SampleTag.JIT.isIn( monitor.poll() );
+                final long median = median( window, calls );
+
+                if ( ! compiled && previousMedian >= 0L
+                        && Math.abs( median - previousMedian ) <= tolerance * previousMedian )
+                {
+                    ++stable;
+                } else
+                {
+                    stable = 0;
+                }
+                previousMedian = median;
+
+                if ( stable >= stableWindows && iterations >= minIterations )
+                {
+                    break; // steady state
+                }
+            }
+        }
+        return iterations;
+    }
+
+    /**
+     * Median of the first times of the specified window.
+     *
+     * @param window of times, sorted in place
+     * @param size   amount of times of the window
+     * @return the median time
+     */
+    private static long median(final long[] window, final int size) {
+        Arrays.sort( window, 0, size );
+        return window[(size - 1) >>> 1];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper( this )
+                .add( "windowSize", windowSize )
+                .add( "tolerance", tolerance )
+                .add( "stableWindows", stableWindows )
+                .add( "minIterations", minIterations )
+                .add( "maxNanos", maxNanos )
+                .toString();
+    }
+}